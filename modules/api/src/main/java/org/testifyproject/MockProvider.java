@@ -60,6 +60,15 @@ public interface MockProvider {
      */
     void verifyAllInteraction(Object... collaborators);
 
+    /**
+     * Reset the given fake collaborators by discarding their stubbing and recorded
+     * interactions. This is useful for reusing fake instances between test runs.
+     *
+     * @param collaborators an array of fake collaborators that will be reset
+     */
+    default void resetFake(Object... collaborators) {
+    }
+
     /**
      * Determine if the given instance is a mock instance.
      *
@@ -36,4 +36,13 @@ public interface ResourceProvider {
      */
     void stop(TestContext testContext);
 
+    /**
+     * Release the resources shared by the test runs of the given test class. This method is
+     * called once after all the tests in the test class have been run.
+     *
+     * @param testDescriptor the test descriptor
+     */
+    default void release(TestDescriptor testDescriptor) {
+    }
+
 }
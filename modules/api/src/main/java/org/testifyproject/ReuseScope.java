@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject;
+
+/**
+ * An enumeration of the scopes in which an expensive test artifact (i.e. an application
+ * server or a virtual resource) can be reused by the tests that declare it.
+ *
+ * @author saden
+ */
+public enum ReuseScope {
+
+    /**
+     * The artifact is not reused. It is started before and stopped after each test run.
+     */
+    NONE,
+    /**
+     * The artifact is started once and reused by all the test runs of a test class. It is
+     * stopped after all the tests in the test class have been run.
+     */
+    CLASS,
+    /**
+     * The artifact is started once and reused by all the test runs in the JVM that declare an
+     * identical configuration. It is stopped when the JVM shuts down.
+     */
+    JVM
+
+}
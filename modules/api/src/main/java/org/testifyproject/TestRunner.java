@@ -35,4 +35,13 @@ public interface TestRunner {
      * @param testContext the test context
      */
     void stop(TestContext testContext);
+
+    /**
+     * Release artifacts shared by the test runs of the given test class. This method is called
+     * once after all the tests in the test class have been run.
+     *
+     * @param testDescriptor the test descriptor
+     */
+    default void release(TestDescriptor testDescriptor) {
+    }
 }
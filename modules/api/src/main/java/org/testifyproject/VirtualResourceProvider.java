@@ -93,6 +93,23 @@ public interface VirtualResourceProvider<T> {
             throws Exception {
     }
 
+    /**
+     * Reset the state of a reused virtual resource before it is used by a subsequent test run
+     * (i.e. truncate tables or delete topics). Note that the data files of the virtual resource
+     * are reloaded after the virtual resource is reset and that by default this method does
+     * not have to be implemented.
+     *
+     * @param testContext the test context
+     * @param virtualResource test class virtual resource annotation
+     * @param instance the virtual resource instance
+     * @throws java.lang.Exception an exception thrown while resetting
+     */
+    default void reset(TestContext testContext,
+            VirtualResource virtualResource,
+            VirtualResourceInstance instance)
+            throws Exception {
+    }
+
     /**
      * Stop the virtual resource.
      *
@@ -24,6 +24,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import org.testifyproject.ClientProvider;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServerProvider;
 
 /**
@@ -190,4 +191,20 @@ public @interface Application {
      */
     String stop() default "";
 
+    /**
+     * <p>
+     * Specifies the scope in which the started application server and client are reused. By
+     * default a new server and client are created before and destroyed after each test run.
+     * </p>
+     * <p>
+     * When the application is reused the server and client instances are only started once
+     * for the given scope while collaborators, the system under test and verification are
+     * still reified and performed for each test run. Note that reused fake collaborators are
+     * reset between test runs.
+     * </p>
+     *
+     * @return the application reuse scope
+     */
+    ReuseScope reuse() default ReuseScope.NONE;
+
 }
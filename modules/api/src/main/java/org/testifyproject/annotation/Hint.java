@@ -23,6 +23,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import org.testifyproject.ClientProvider;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServiceProvider;
 
 /**
@@ -52,4 +53,22 @@ public @interface Hint {
      * @return the client provider implementation class
      */
     Class<? extends ClientProvider> clientProvider() default ClientProvider.class;
+
+    /**
+     * <p>
+     * Specifies the scope in which the service (i.e. the Spring application context, Guice
+     * injector or HK2 service locator) created by an integration test is reused. By default a
+     * new service is created before and destroyed after each test run.
+     * </p>
+     * <p>
+     * When the service is reused it is only created once for tests that declare identical
+     * modules, scans, hints, resources and fake or virtual collaborator fields. The fake and
+     * virtual collaborators the service was created with are reset and injected into the
+     * fields of subsequent test runs while the system under test and verification are still
+     * reified and performed for each test run.
+     * </p>
+     *
+     * @return the service reuse scope
+     */
+    ReuseScope reuse() default ReuseScope.NONE;
 }
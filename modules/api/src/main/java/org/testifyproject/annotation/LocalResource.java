@@ -152,4 +152,20 @@ public @interface LocalResource {
      */
     Class clientContract() default void.class;
 
+    /**
+     * <p>
+     * The names of the test resources that must be started before this local resource is
+     * started (i.e. a schema migration local resource that depends on a database virtual
+     * resource). Resources are started concurrently unless they depend on each other and are
+     * stopped in reverse dependency order.
+     * </p>
+     * <p>
+     * Note that a resource is referred to by its {@link #name() name} or, if a name is not
+     * specified, by its local resource provider class simple name.
+     * </p>
+     *
+     * @return an array of resource names
+     */
+    String[] dependsOn() default {};
+
 }
@@ -123,4 +123,20 @@ public @interface RemoteResource {
      */
     Class resourceContract() default void.class;
 
+    /**
+     * <p>
+     * The names of the test resources that must be started before this remote resource is
+     * started (i.e. a remote service client resource that depends on a local resource which
+     * provisions the credentials it connects with). Resources are started concurrently unless
+     * they depend on each other and are stopped in reverse dependency order.
+     * </p>
+     * <p>
+     * Note that a resource is referred to by its {@link #name() name} or, if a name is not
+     * specified, by its remote resource provider class simple name.
+     * </p>
+     *
+     * @return an array of resource names
+     */
+    String[] dependsOn() default {};
+
 }
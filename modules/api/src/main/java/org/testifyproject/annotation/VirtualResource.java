@@ -26,6 +26,7 @@ import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
 import org.testifyproject.DataProvider;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.VirtualResourceProvider;
 
 /**
@@ -232,4 +233,37 @@ public @interface VirtualResource {
      */
     Class<? extends VirtualResourceProvider> provider() default VirtualResourceProvider.class;
 
+    /**
+     * <p>
+     * Specifies the scope in which the started virtual resource is reused. By default a new
+     * virtual resource is started before and stopped after each test run.
+     * </p>
+     * <p>
+     * When the virtual resource is reused it is only started once for the given scope and
+     * shared by all the test runs that declare an identical virtual resource. Instead of being
+     * restarted the virtual resource is reset and its {@link #dataFiles() data files} are
+     * reloaded before each subsequent test run. Note that tests that rely on the virtual
+     * resource being pristine should not reuse it.
+     * </p>
+     *
+     * @return the virtual resource reuse scope
+     */
+    ReuseScope reuse() default ReuseScope.NONE;
+
+    /**
+     * <p>
+     * The names of the test resources that must be started before this virtual resource is
+     * started (i.e. an application container virtual resource that depends on a message
+     * broker virtual resource). Resources are started concurrently unless they depend on each
+     * other and are stopped in reverse dependency order.
+     * </p>
+     * <p>
+     * Note that a resource is referred to by its {@link #name() name} or, if a name is not
+     * specified, by its {@link #value() image name}.
+     * </p>
+     *
+     * @return an array of resource names
+     */
+    String[] dependsOn() default {};
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.extension.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that can be placed on a {@link org.testifyproject.extension.PreVerifier} or
+ * {@link org.testifyproject.extension.Verifier} implementation to indicate that its result only
+ * depends on the test and system under test descriptors (i.e. it does not inspect the test
+ * instance or any other per test method state). The result of such verifiers is computed once
+ * per test class and replayed for subsequent test methods.
+ *
+ * @author saden
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Memoizable {
+
+}
@@ -110,9 +110,8 @@ public interface AnnotationTrait<T extends AnnotatedElement> {
             Collection<Class<? extends Annotation>>... metaAnnotationTypes) {
         T annotatedElement = getAnnotatedElement();
 
-        //XXX: dont execute on this stream in parallel
-        Annotation[] annotations = Stream.of(metaAnnotationTypes).parallel()
-                .flatMap(Collection::parallelStream)
+        Annotation[] annotations = Stream.of(metaAnnotationTypes)
+                .flatMap(Collection::stream)
                 .distinct()
                 .map(annotationType -> {
                     Annotation declaredAnnotation = annotatedElement.getDeclaredAnnotation(
@@ -145,7 +144,6 @@ public interface AnnotationTrait<T extends AnnotatedElement> {
         T type = getAnnotatedElement();
 
         return Stream.of(annotationTypes)
-                .parallel()
                 .distinct()
                 .anyMatch(p -> type.getDeclaredAnnotation(p) != null);
     }
@@ -64,7 +64,9 @@ public interface PropertiesWriter extends PropertiesTrait {
     default <T> PropertiesWriter addProperty(String key, T value) {
         Map<String, T> properties = getProperties();
 
-        properties.computeIfAbsent(key, p -> value);
+        if (value != null) {
+            properties.putIfAbsent(key, value);
+        }
 
         return this;
     }
@@ -102,7 +104,10 @@ public interface PropertiesWriter extends PropertiesTrait {
         Map<String, Map<K, V>> properties = getProperties();
 
         Map<K, V> result = properties.computeIfAbsent(key, p -> new ConcurrentHashMap<>());
-        result.computeIfAbsent(entryKey, k -> entryValue);
+
+        if (entryValue != null) {
+            result.putIfAbsent(entryKey, entryValue);
+        }
 
         return this;
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.SutDescriptor;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.asm.ClassReader;
+import org.testifyproject.benchmarks.fixture.GreeterTest;
+import org.testifyproject.benchmarks.fixture.SpringGreeterIT;
+import org.testifyproject.core.analyzer.DefaultSutDescriptor;
+import org.testifyproject.core.analyzer.DefaultTestDescriptor;
+import org.testifyproject.core.analyzer.DescriptorCache;
+import org.testifyproject.core.analyzer.SutClassAnalyzer;
+import org.testifyproject.core.analyzer.TestClassAnalyzer;
+
+/**
+ * A benchmark of the analysis of test classes and system under test fields performed the
+ * first time a test class is run. Descriptors are memoized per class by
+ * {@link org.testifyproject.core.util.AnalyzerUtil} so the analyzers are driven directly to
+ * measure the analysis itself rather than a map lookup. The {@code analyze} benchmarks go
+ * through {@link DescriptorCache} (i.e. replay a cached analysis when one is available) while
+ * the {@code read} benchmarks always parse the class bytecode.
+ *
+ * @author saden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyzerBenchmark {
+
+    Field sutField;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        sutField = GreeterTest.class.getDeclaredField("sut");
+    }
+
+    @Benchmark
+    public TestDescriptor analyzeUnitTestClass() throws IOException {
+        return analyzeTestClass(GreeterTest.class);
+    }
+
+    @Benchmark
+    public TestDescriptor analyzeIntegrationTestClass() throws IOException {
+        return analyzeTestClass(SpringGreeterIT.class);
+    }
+
+    @Benchmark
+    public SutDescriptor analyzeSutField() throws IOException {
+        SutDescriptor sutDescriptor = DefaultSutDescriptor.of(sutField);
+        SutClassAnalyzer analyzer = new SutClassAnalyzer(sutField, sutDescriptor);
+
+        DescriptorCache.INSTANCE.analyze(sutField.getDeclaringClass(), sutField.getType(),
+                analyzer);
+
+        return sutDescriptor;
+    }
+
+    @Benchmark
+    public TestDescriptor readUnitTestClass() throws IOException {
+        return readTestClass(GreeterTest.class);
+    }
+
+    @Benchmark
+    public TestDescriptor readIntegrationTestClass() throws IOException {
+        return readTestClass(SpringGreeterIT.class);
+    }
+
+    TestDescriptor analyzeTestClass(Class<?> testClass) throws IOException {
+        TestDescriptor testDescriptor = DefaultTestDescriptor.of(testClass);
+        TestClassAnalyzer analyzer = new TestClassAnalyzer(testClass, testDescriptor);
+
+        DescriptorCache.INSTANCE.analyze(testClass, testClass, analyzer);
+
+        return testDescriptor;
+    }
+
+    TestDescriptor readTestClass(Class<?> testClass) throws IOException {
+        TestDescriptor testDescriptor = DefaultTestDescriptor.of(testClass);
+        TestClassAnalyzer analyzer = new TestClassAnalyzer(testClass, testDescriptor);
+
+        new ClassReader(testClass.getName()).accept(analyzer, ClassReader.SKIP_DEBUG);
+
+        return testDescriptor;
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.core.util.ExpressionUtil;
+
+/**
+ * A benchmark of the evaluation of the templates and expressions found in resource and
+ * configuration annotations.
+ *
+ * @author saden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    Map<String, Object> context;
+
+    @Setup
+    public void setup() {
+        context = new HashMap<>();
+        context.put("host", "localhost");
+        context.put("port", 8080);
+    }
+
+    @Benchmark
+    public String evaluateLiteralTemplate() {
+        return ExpressionUtil.INSTANCE.evaluateTemplate("http://localhost:8080/api", context);
+    }
+
+    @Benchmark
+    public String evaluateTemplate() {
+        return ExpressionUtil.INSTANCE.evaluateTemplate("http://${host}:${port}/api", context);
+    }
+
+    @Benchmark
+    public Integer evaluateExpression() {
+        return ExpressionUtil.INSTANCE.evaluateExpression("port + 1", context);
+    }
+
+}
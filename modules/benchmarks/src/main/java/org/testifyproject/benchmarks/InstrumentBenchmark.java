@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.benchmarks.fixture.Hello;
+import org.testifyproject.core.util.InstrumentUtil;
+
+/**
+ * A benchmark of the creation of the delegating proxies used to wrap virtual collaborators and
+ * proxy instances.
+ *
+ * @author saden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentBenchmark {
+
+    ClassLoader classLoader;
+    Supplier<Hello> delegateSupplier;
+
+    @Setup
+    public void setup() {
+        Hello delegate = new Hello();
+
+        classLoader = Hello.class.getClassLoader();
+        delegateSupplier = () -> delegate;
+    }
+
+    @Benchmark
+    public Hello createProxy() {
+        return InstrumentUtil.INSTANCE.createProxy(Hello.class, classLoader, delegateSupplier);
+    }
+
+    @Benchmark
+    public String createProxyAndInvoke() {
+        return InstrumentUtil.INSTANCE.createProxy(Hello.class, classLoader, delegateSupplier)
+                .phrase();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.TestContext;
+import org.testifyproject.benchmarks.fixture.GuiceGreeterIT;
+import org.testifyproject.benchmarks.fixture.HK2GreeterIT;
+import org.testifyproject.benchmarks.fixture.SpringGreeterIT;
+import org.testifyproject.core.TestContextHolder;
+import org.testifyproject.core.util.ExceptionUtil;
+import org.testifyproject.extension.annotation.IntegrationCategory;
+import org.testifyproject.level.integration.IntegrationTestRunner;
+
+/**
+ * A benchmark of a complete integration test run lifecycle, including the creation and
+ * destruction of the Spring application context, Guice injector or HK2 service locator. Note
+ * that the benchmark JVM must be started with the Testify instrumentation agent.
+ *
+ * @author saden
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntegrationTestRunnerBenchmark {
+
+    @Param({"spring", "guice", "hk2"})
+    public String container;
+
+    Class<?> testClass;
+
+    @Setup
+    public void setup() {
+        switch (container) {
+            case "spring":
+                testClass = SpringGreeterIT.class;
+                break;
+            case "guice":
+                testClass = GuiceGreeterIT.class;
+                break;
+            case "hk2":
+                testClass = HK2GreeterIT.class;
+                break;
+            default:
+                throw ExceptionUtil.INSTANCE.propagate("Container '{}' is not supported",
+                        container);
+        }
+    }
+
+    @Benchmark
+    public TestContext startStop() {
+        IntegrationTestRunner testRunner = new IntegrationTestRunner();
+        TestContext testContext = TestContextFactory.INSTANCE
+                .create(testClass, IntegrationCategory.class, testRunner);
+
+        TestContextHolder.INSTANCE.set(testContext);
+
+        try {
+            testRunner.start(testContext);
+            testRunner.stop(testContext);
+        } finally {
+            TestContextHolder.INSTANCE.remove();
+        }
+
+        return testContext;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.ResourceController;
+import org.testifyproject.TestConfigurer;
+import org.testifyproject.core.DefaultTestConfigurer;
+import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.extension.PreVerifier;
+import org.testifyproject.extension.Verifier;
+import org.testifyproject.extension.annotation.UnitCategory;
+
+/**
+ * A benchmark of the SPI lookups performed by the test runners during each test run.
+ *
+ * @author saden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceLocatorBenchmark {
+
+    @Benchmark
+    public List<PreVerifier> findAll() {
+        return ServiceLocatorUtil.INSTANCE.findAll(PreVerifier.class);
+    }
+
+    @Benchmark
+    public List<Verifier> findAllWithFilter() {
+        return ServiceLocatorUtil.INSTANCE.findAllWithFilter(Verifier.class, UnitCategory.class);
+    }
+
+    @Benchmark
+    public ResourceController getOne() {
+        return ServiceLocatorUtil.INSTANCE.getOne(ResourceController.class);
+    }
+
+    @Benchmark
+    public TestConfigurer getOneOrDefault() {
+        return ServiceLocatorUtil.INSTANCE
+                .getOneOrDefault(TestConfigurer.class, DefaultTestConfigurer.class);
+    }
+
+    @Benchmark
+    public List<PreVerifier> findAllAfterInvalidate() {
+        //measures service discovery when implementations are not yet indexed
+        ServiceLocatorUtil.INSTANCE.invalidate();
+
+        return ServiceLocatorUtil.INSTANCE.findAll(PreVerifier.class);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+import org.testifyproject.MethodDescriptor;
+import org.testifyproject.MockProvider;
+import org.testifyproject.TestConfigurer;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.benchmarks.fixture.GreeterTest;
+import org.testifyproject.core.DefaultTestConfigurer;
+import org.testifyproject.core.DefaultTestContextBuilder;
+import org.testifyproject.core.analyzer.DefaultMethodDescriptor;
+import org.testifyproject.core.util.AnalyzerUtil;
+import org.testifyproject.core.util.SettingUtil;
+import org.testifyproject.extension.annotation.UnitCategory;
+import org.testifyproject.level.unit.UnitTestRunner;
+import org.testifyproject.mock.MockitoMockProvider;
+
+/**
+ * A benchmark of the creation of the test context of a test run.
+ *
+ * @author saden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestContextBenchmark {
+
+    Object testInstance;
+    TestDescriptor testDescriptor;
+    MethodDescriptor methodDescriptor;
+    TestConfigurer testConfigurer;
+    MockProvider mockProvider;
+    Map<String, Object> settings;
+
+    @Setup
+    public void setup() {
+        Class<GreeterTest> testClass = GreeterTest.class;
+
+        testInstance = new GreeterTest();
+        testDescriptor = AnalyzerUtil.INSTANCE.analyzeTestClass(testClass);
+        methodDescriptor = DefaultMethodDescriptor.of(
+                TestContextFactory.INSTANCE.getTestMethod(testClass));
+        testConfigurer = new DefaultTestConfigurer();
+        mockProvider = new MockitoMockProvider();
+        settings = SettingUtil.INSTANCE.getSettings();
+    }
+
+    @Benchmark
+    public TestContext build() {
+        return DefaultTestContextBuilder.builder()
+                .testInstance(testInstance)
+                .testDescriptor(testDescriptor)
+                .testCategory(UnitCategory.class)
+                .testMethodDescriptor(methodDescriptor)
+                .testConfigurer(testConfigurer)
+                .mockProvider(mockProvider)
+                .properties(settings)
+                .build();
+    }
+
+    @Benchmark
+    public TestContext create() {
+        return TestContextFactory.INSTANCE
+                .create(GreeterTest.class, UnitCategory.class, new UnitTestRunner());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.testifyproject.MethodDescriptor;
+import org.testifyproject.MockProvider;
+import org.testifyproject.SutDescriptor;
+import org.testifyproject.TestConfigurer;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.TestRunner;
+import org.testifyproject.core.DefaultTestConfigurer;
+import org.testifyproject.core.DefaultTestContextBuilder;
+import org.testifyproject.core.TestContextProperties;
+import org.testifyproject.core.analyzer.DefaultMethodDescriptor;
+import org.testifyproject.core.util.AnalyzerUtil;
+import org.testifyproject.core.util.ExceptionUtil;
+import org.testifyproject.core.util.ReflectionUtil;
+import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.core.util.SettingUtil;
+import org.testifyproject.mock.MockitoMockProvider;
+
+/**
+ * A factory that creates test contexts for the benchmark fixture test classes the same way
+ * the JUnit test runners create them before each test run.
+ *
+ * @author saden
+ */
+public class TestContextFactory {
+
+    /**
+     * The name of the test method of all benchmark fixture test classes.
+     */
+    public static final String TEST_METHOD = "verifyInjection";
+
+    public static final TestContextFactory INSTANCE = new TestContextFactory();
+
+    /**
+     * Create a test context for a test run of the given test class.
+     *
+     * @param testClass the test class
+     * @param testCategory the test category annotation type
+     * @param testRunner the test runner
+     * @return a new test context
+     */
+    public TestContext create(Class<?> testClass,
+            Class<? extends Annotation> testCategory,
+            TestRunner testRunner) {
+        Object testInstance = ReflectionUtil.INSTANCE.newInstance(testClass);
+        TestDescriptor testDescriptor = AnalyzerUtil.INSTANCE.analyzeTestClass(testClass);
+        MethodDescriptor methodDescriptor = DefaultMethodDescriptor.of(getTestMethod(testClass));
+
+        TestConfigurer testConfigurer = ServiceLocatorUtil.INSTANCE
+                .getOneOrDefault(TestConfigurer.class, DefaultTestConfigurer.class);
+        MockProvider mockProvider = ServiceLocatorUtil.INSTANCE
+                .getOneOrDefault(MockProvider.class, MockitoMockProvider.class);
+
+        TestContext testContext = DefaultTestContextBuilder.builder()
+                .testInstance(testInstance)
+                .testDescriptor(testDescriptor)
+                .testCategory(testCategory)
+                .testMethodDescriptor(methodDescriptor)
+                .testRunner(testRunner)
+                .testConfigurer(testConfigurer)
+                .mockProvider(mockProvider)
+                .properties(SettingUtil.INSTANCE.getSettings())
+                .build();
+
+        Optional<Field> sutField = testDescriptor.getSutField();
+
+        if (sutField.isPresent()) {
+            SutDescriptor sutDescriptor =
+                    AnalyzerUtil.INSTANCE.analyzeSutField(sutField.get());
+            testContext.addProperty(TestContextProperties.SUT_DESCRIPTOR, sutDescriptor);
+        }
+
+        return testContext;
+    }
+
+    /**
+     * Get the test method of the given benchmark fixture test class.
+     *
+     * @param testClass the test class
+     * @return the test method
+     */
+    public Method getTestMethod(Class<?> testClass) {
+        try {
+            return testClass.getDeclaredMethod(TEST_METHOD);
+        } catch (NoSuchMethodException e) {
+            throw ExceptionUtil.INSTANCE.propagate("Test class '{}' does not declare '{}' method",
+                    e, testClass.getName(), TEST_METHOD);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testifyproject.TestContext;
+import org.testifyproject.benchmarks.fixture.GreeterTest;
+import org.testifyproject.core.TestContextHolder;
+import org.testifyproject.extension.annotation.UnitCategory;
+import org.testifyproject.level.unit.UnitTestRunner;
+
+/**
+ * A benchmark of a complete unit test run lifecycle, from the creation of the test context to
+ * the stopping of the test runner.
+ *
+ * @author saden
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitTestRunnerBenchmark {
+
+    @Benchmark
+    public TestContext startStop() {
+        UnitTestRunner testRunner = new UnitTestRunner();
+        TestContext testContext = TestContextFactory.INSTANCE
+                .create(GreeterTest.class, UnitCategory.class, testRunner);
+
+        TestContextHolder.INSTANCE.set(testContext);
+
+        try {
+            testRunner.start(testContext);
+            testRunner.stop(testContext);
+        } finally {
+            TestContextHolder.INSTANCE.remove();
+        }
+
+        return testContext;
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks.fixture;
+
+import javax.inject.Singleton;
+
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+
+/**
+ * HK2 greeter binder.
+ *
+ * @author saden
+ */
+public class GreeterBinder extends AbstractBinder {
+
+    @Override
+    protected void configure() {
+        bindAsContract(Hello.class)
+                .to(Greeting.class)
+                .in(Singleton.class);
+
+        bindAsContract(Greeter.class)
+                .in(Singleton.class);
+    }
+
+}
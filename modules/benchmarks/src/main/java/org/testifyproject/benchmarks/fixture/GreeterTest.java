@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.benchmarks.fixture;
+
+import org.testifyproject.annotation.Fake;
+import org.testifyproject.annotation.Sut;
+
+/**
+ * A unit test class analyzed and run by the benchmarks.
+ *
+ * @author saden
+ */
+public class GreeterTest {
+
+    @Sut
+    Greeter sut;
+
+    @Fake
+    Greeting greeting;
+
+    public void verifyInjection() {
+        sut.greet();
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.client;
+
+import org.testifyproject.TestContext;
+
+/**
+ * A {@link WebTargetClientProvider} that always uses in-memory mode. Use this class as the
+ * {@link org.testifyproject.annotation.Application#clientProvider()} of a system test to have
+ * the client invoke the Jersey application handler of the server under test directly instead of
+ * going through the network.
+ *
+ * @author saden
+ */
+public class InMemoryWebTargetClientProvider extends WebTargetClientProvider {
+
+    @Override
+    protected boolean isInMemory(TestContext testContext) {
+        return true;
+    }
+
+}
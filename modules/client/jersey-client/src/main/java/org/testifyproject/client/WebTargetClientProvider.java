@@ -15,12 +15,17 @@
  */
 package org.testifyproject.client;
 
+import static org.testifyproject.core.TestContextProperties.CLIENT_CONNECTOR;
+
 import java.net.URI;
+import java.util.Optional;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.WebTarget;
 
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
 import org.testifyproject.ClientInstance;
 import org.testifyproject.ClientProvider;
 import org.testifyproject.Instance;
@@ -32,16 +37,39 @@ import org.testifyproject.core.ClientInstanceBuilder;
 /**
  * A Jersey Client implementation of the ClientProvider SPI contract that provides a usable
  * {@link WebTarget} instance.
+ * <p>
+ * By default the client communicates with the server under test over HTTP. If in-memory mode
+ * is enabled, either by using {@link InMemoryWebTargetClientProvider} as the
+ * {@link Application#clientProvider()} or by setting the {@value #IN_MEMORY_SETTING} setting to
+ * {@code true} in {@code .testify.yml}, and the server under test published a connector provider
+ * under the {@link org.testifyproject.core.TestContextProperties#CLIENT_CONNECTOR} test context
+ * property, requests are handed directly to the server's application handler without any
+ * network I/O.
+ * </p>
  *
  * @author saden
  */
 @Discoverable
 public class WebTargetClientProvider implements ClientProvider<ClientBuilder, WebTarget, Client> {
 
+    /**
+     * The setting that enables in-memory mode for all the Jersey clients.
+     */
+    public static final String IN_MEMORY_SETTING = "jerseyInMemory";
+
     @Override
     public ClientBuilder configure(TestContext testContext, Application application,
             URI baseURI) {
         ClientBuilder builder = ClientBuilder.newBuilder();
+
+        if (isInMemory(testContext)) {
+            Optional<ConnectorProvider> foundConnector =
+                    testContext.findProperty(CLIENT_CONNECTOR);
+
+            foundConnector.map(new ClientConfig()::connectorProvider)
+                    .ifPresent(builder::withConfig);
+        }
+
         builder.register(new ErrorClientResponseFilter());
 
         return builder;
@@ -79,4 +107,17 @@ public class WebTargetClientProvider implements ClientProvider<ClientBuilder, We
         return Client.class;
     }
 
+    /**
+     * Determine whether in-memory mode is enabled for the given test context.
+     *
+     * @param testContext the test context
+     * @return true if in-memory mode is enabled, false otherwise
+     */
+    protected boolean isInMemory(TestContext testContext) {
+        return testContext.findProperty(IN_MEMORY_SETTING)
+                .map(String::valueOf)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
 }
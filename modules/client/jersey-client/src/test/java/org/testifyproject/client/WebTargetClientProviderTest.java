@@ -20,6 +20,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.testifyproject.client.WebTargetClientProvider.IN_MEMORY_SETTING;
+import static org.testifyproject.core.TestContextProperties.CLIENT_CONNECTOR;
 
 import java.net.URI;
 import java.util.Optional;
@@ -28,6 +30,8 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.WebTarget;
 
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Answers;
@@ -63,6 +67,51 @@ public class WebTargetClientProviderTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    public void givenInMemorySettingConfigureShouldUseConnectorProvider() {
+        ConnectorProvider connectorProvider = mock(ConnectorProvider.class);
+
+        given(testContext.<Object>findProperty(IN_MEMORY_SETTING)).willReturn(Optional.of(true));
+        given(testContext.<Object>findProperty(CLIENT_CONNECTOR))
+                .willReturn(Optional.of(connectorProvider));
+
+        ClientBuilder result = sut.configure(testContext, application, baseURI);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getConfiguration()).isInstanceOf(ClientConfig.class);
+        assertThat(((ClientConfig) result.getConfiguration()).getConnectorProvider())
+                .isSameAs(connectorProvider);
+    }
+
+    @Test
+    public void givenNoInMemorySettingConfigureShouldNotUseConnectorProvider() {
+        ConnectorProvider connectorProvider = mock(ConnectorProvider.class);
+
+        given(testContext.<Object>findProperty(CLIENT_CONNECTOR))
+                .willReturn(Optional.of(connectorProvider));
+
+        ClientBuilder result = sut.configure(testContext, application, baseURI);
+
+        assertThat(result).isNotNull();
+        assertThat(((ClientConfig) result.getConfiguration()).getConnectorProvider())
+                .isNotSameAs(connectorProvider);
+    }
+
+    @Test
+    public void givenInMemoryClientProviderConfigureShouldUseConnectorProvider() {
+        ConnectorProvider connectorProvider = mock(ConnectorProvider.class);
+        sut = new InMemoryWebTargetClientProvider();
+
+        given(testContext.<Object>findProperty(CLIENT_CONNECTOR))
+                .willReturn(Optional.of(connectorProvider));
+
+        ClientBuilder result = sut.configure(testContext, application, baseURI);
+
+        assertThat(result).isNotNull();
+        assertThat(((ClientConfig) result.getConfiguration()).getConnectorProvider())
+                .isSameAs(connectorProvider);
+    }
+
     @Test(expected = NullPointerException.class)
     public void givenNullConfigurationCreateShouldThrowException() {
         sut.create(testContext, application, baseURI, null);
@@ -49,15 +49,23 @@ public class DefaultLocalResourceProvider implements ResourceProvider {
 
     private ReflectionUtil reflectionUtil;
     private FileSystemUtil fileSystemUtil;
+    private ResourceScheduler resourceScheduler;
 
     public DefaultLocalResourceProvider() {
-        this(ReflectionUtil.INSTANCE, FileSystemUtil.INSTANCE);
+        this(ReflectionUtil.INSTANCE, FileSystemUtil.INSTANCE, ResourceScheduler.INSTANCE);
     }
 
     DefaultLocalResourceProvider(ReflectionUtil reflectionUtil,
             FileSystemUtil fileSystemUtil) {
+        this(reflectionUtil, fileSystemUtil, ResourceScheduler.INSTANCE);
+    }
+
+    DefaultLocalResourceProvider(ReflectionUtil reflectionUtil,
+            FileSystemUtil fileSystemUtil,
+            ResourceScheduler resourceScheduler) {
         this.reflectionUtil = reflectionUtil;
         this.fileSystemUtil = fileSystemUtil;
+        this.resourceScheduler = resourceScheduler;
     }
 
     @Override
@@ -70,85 +78,124 @@ public class DefaultLocalResourceProvider implements ResourceProvider {
         //get local resource annotations from the test class and for each
         //local resource create a new instance, configure and start a
         //resource instance and addConfigHandler it to the service instance.
-        localResources.parallelStream().forEach(localResource -> {
-            Class<? extends LocalResourceProvider> value = localResource.value();
-
-            LocalResourceProvider localResourceProvider = reflectionUtil
-                    .newInstance(value);
-            String configKey = localResource.configKey();
-            PropertiesReader configReader = testContext.getPropertiesReader(configKey);
-            Object configuration = localResourceProvider.configure(testContext,
-                    localResource,
-                    configReader);
-            configuration = testConfigurer.configure(testContext, configuration);
-
-            try {
-                //start the resource
-                LocalResourceInstance<Object, Object> localResourceInstance =
-                        localResourceProvider.start(testContext, localResource,
-                                configuration);
-
-                //determine if there are data files and load the data into te resource
-                String[] dataFilePatterns = localResource.dataFiles();
-
-                if (dataFilePatterns.length != 0) {
-                    //load the data using the resource provider load method
-                    Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
-                            dataFilePatterns);
-                    localResourceProvider
-                            .load(testContext, localResource, localResourceInstance,
-                                    dataFiles);
-
-                    //if there is data provider defined then create an instance of
-                    //it and load data using the data provider as well
-                    Class<? extends DataProvider> dataProviderType = localResource
-                            .dataProvider();
-
-                    if (!DataProvider.class.equals(dataProviderType)) {
-                        DataProvider dataProvider = reflectionUtil.newInstance(
-                                dataProviderType);
-                        dataProvider.load(testContext, dataFiles, localResourceInstance);
-                    }
-                }
-
-                //add resource properties to the test context with its fqn as its key
-                testContext.addProperty(localResourceInstance.getFqn(),
-                        localResourceInstance
-                                .getProperties());
-
-                //track the resource so it can be stopped later
-                ResourceInfo resourceInstance = DefaultLocalResourceInfo.of(
-                        localResource,
-                        localResourceProvider,
-                        localResourceInstance);
-
-                testContext.addCollectionElement(
-                        TestContextProperties.LOCAL_RESOURCE_INSTANCES,
-                        resourceInstance);
-            } catch (Exception e) {
-                throw ExceptionUtil.INSTANCE.propagate(
-                        "Could not start '{}' local resource", e,
-                        value);
-            }
-        });
+        resourceScheduler.scheduleStart(testContext, schedule ->
+                localResources.forEach(localResource -> schedule.add(
+                        getName(localResource),
+                        localResource.dependsOn(),
+                        () -> startResource(testContext, testConfigurer, localResource))));
     }
 
     @Override
     public void stop(TestContext testContext) {
         Collection<LocalResourceInfo> resourceInstances = testContext.getLocalResources();
 
-        resourceInstances.forEach(resourceInstance -> {
-            try {
-                LocalResourceProvider provider = resourceInstance.getProvider();
-                LocalResource localResource = resourceInstance.getAnnotation();
-                LocalResourceInstance instance = resourceInstance.getValue();
+        resourceScheduler.scheduleStop(testContext, schedule ->
+                resourceInstances.forEach(resourceInstance -> schedule.add(
+                        getName(resourceInstance.getAnnotation()),
+                        resourceInstance.getAnnotation().dependsOn(),
+                        () -> stopResource(testContext, resourceInstance))));
+    }
+
+    /**
+     * Get the name used to refer to the given local resource.
+     *
+     * @param localResource the local resource annotation
+     * @return the local resource name
+     */
+    String getName(LocalResource localResource) {
+        String name = localResource.name();
 
-                provider.stop(testContext, localResource, instance);
-            } catch (Exception e) {
-                LoggingUtil.INSTANCE.error("Could not stop '{}' local resource",
-                        resourceInstance.getAnnotation().value(), e);
+        return name.isEmpty() ? localResource.value().getSimpleName() : name;
+    }
+
+    /**
+     * Configure and start a new instance of the given local resource and load its data.
+     *
+     * @param testContext the test context
+     * @param testConfigurer the test configurer
+     * @param localResource the local resource annotation
+     */
+    void startResource(TestContext testContext,
+            TestConfigurer testConfigurer,
+            LocalResource localResource) {
+        Class<? extends LocalResourceProvider> value = localResource.value();
+
+        LocalResourceProvider localResourceProvider = reflectionUtil
+                .newInstance(value);
+        String configKey = localResource.configKey();
+        PropertiesReader configReader = testContext.getPropertiesReader(configKey);
+        Object configuration = localResourceProvider.configure(testContext,
+                localResource,
+                configReader);
+        configuration = testConfigurer.configure(testContext, configuration);
+
+        try {
+            //start the resource
+            LocalResourceInstance<Object, Object> localResourceInstance =
+                    localResourceProvider.start(testContext, localResource,
+                            configuration);
+
+            //determine if there are data files and load the data into te resource
+            String[] dataFilePatterns = localResource.dataFiles();
+
+            if (dataFilePatterns.length != 0) {
+                //load the data using the resource provider load method
+                Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
+                        dataFilePatterns);
+                localResourceProvider
+                        .load(testContext, localResource, localResourceInstance,
+                                dataFiles);
+
+                //if there is data provider defined then create an instance of
+                //it and load data using the data provider as well
+                Class<? extends DataProvider> dataProviderType = localResource
+                        .dataProvider();
+
+                if (!DataProvider.class.equals(dataProviderType)) {
+                    DataProvider dataProvider = reflectionUtil.newInstance(
+                            dataProviderType);
+                    dataProvider.load(testContext, dataFiles, localResourceInstance);
+                }
             }
-        });
+
+            //add resource properties to the test context with its fqn as its key
+            testContext.addProperty(localResourceInstance.getFqn(),
+                    localResourceInstance
+                            .getProperties());
+
+            //track the resource so it can be stopped later
+            ResourceInfo resourceInstance = DefaultLocalResourceInfo.of(
+                    localResource,
+                    localResourceProvider,
+                    localResourceInstance);
+
+            testContext.addCollectionElement(
+                    TestContextProperties.LOCAL_RESOURCE_INSTANCES,
+                    resourceInstance);
+        } catch (Exception e) {
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "Could not start '{}' local resource", e,
+                    value);
+        }
+    }
+
+    /**
+     * Stop the given local resource.
+     *
+     * @param testContext the test context
+     * @param resourceInstance the local resource info
+     */
+    void stopResource(TestContext testContext, LocalResourceInfo resourceInstance) {
+        try {
+            LocalResourceProvider provider = resourceInstance.getProvider();
+            LocalResource localResource = resourceInstance.getAnnotation();
+            LocalResourceInstance instance = resourceInstance.getValue();
+
+            provider.stop(testContext, localResource, instance);
+        } catch (Exception e) {
+            LoggingUtil.INSTANCE.error("Could not stop '{}' local resource",
+                    resourceInstance.getAnnotation().value(), e);
+        }
     }
 
 }
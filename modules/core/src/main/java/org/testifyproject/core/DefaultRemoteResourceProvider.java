@@ -49,15 +49,23 @@ public class DefaultRemoteResourceProvider implements ResourceProvider {
 
     private ReflectionUtil reflectionUtil;
     private FileSystemUtil fileSystemUtil;
+    private ResourceScheduler resourceScheduler;
 
     public DefaultRemoteResourceProvider() {
-        this(ReflectionUtil.INSTANCE, FileSystemUtil.INSTANCE);
+        this(ReflectionUtil.INSTANCE, FileSystemUtil.INSTANCE, ResourceScheduler.INSTANCE);
     }
 
     DefaultRemoteResourceProvider(ReflectionUtil reflectionUtil,
             FileSystemUtil fileSystemUtil) {
+        this(reflectionUtil, fileSystemUtil, ResourceScheduler.INSTANCE);
+    }
+
+    DefaultRemoteResourceProvider(ReflectionUtil reflectionUtil,
+            FileSystemUtil fileSystemUtil,
+            ResourceScheduler resourceScheduler) {
         this.reflectionUtil = reflectionUtil;
         this.fileSystemUtil = fileSystemUtil;
+        this.resourceScheduler = resourceScheduler;
     }
 
     @Override
@@ -70,68 +78,11 @@ public class DefaultRemoteResourceProvider implements ResourceProvider {
         //get remote resource annotations from the test class and for each
         //remote resource create a new instance, configure and start a
         //resource instance and addConfigHandler it to the service instance.
-        remoteResources.parallelStream().forEach(remoteResource -> {
-            Class<? extends RemoteResourceProvider> value = remoteResource.value();
-
-            RemoteResourceProvider remoteResourceProvider = reflectionUtil.newInstance(
-                    value);
-            String configKey = remoteResource.configKey();
-            PropertiesReader configReader = testContext.getPropertiesReader(configKey);
-            Object configuration = remoteResourceProvider.configure(testContext,
-                    remoteResource,
-                    configReader);
-            configuration = testConfigurer.configure(testContext, configuration);
-
-            try {
-                //start the resource
-                RemoteResourceInstance<Object> remoteResourceInstance =
-                        remoteResourceProvider.start(testContext, remoteResource,
-                                configuration);
-
-                //determine if there are data files and load the data into te resource
-                String[] dataFilePatterns = remoteResource.dataFiles();
-
-                if (dataFilePatterns.length != 0) {
-                    //load the data using the resource provider load method
-                    Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
-                            dataFilePatterns);
-                    remoteResourceProvider.load(testContext, remoteResource,
-                            remoteResourceInstance,
-                            dataFiles);
-
-                    //if there is data provider defined then create an instance of
-                    //it and load data using the data provider as well
-                    Class<? extends DataProvider> dataProviderType = remoteResource
-                            .dataProvider();
-
-                    if (!DataProvider.class.equals(dataProviderType)) {
-                        DataProvider dataProvider = reflectionUtil.newInstance(
-                                dataProviderType);
-                        dataProvider.load(testContext, dataFiles, remoteResourceInstance);
-                    }
-                }
-
-                //add resource properties to the test context with its fqn as its key
-                testContext.addProperty(remoteResourceInstance.getFqn(),
-                        remoteResourceInstance
-                                .getProperties());
-
-                //track the resource so it can be stopped later
-                ResourceInfo resourceInstance = DefaultRemoteResourceInfo.of(
-                        remoteResource,
-                        remoteResourceProvider,
-                        remoteResourceInstance);
-
-                testContext
-                        .addCollectionElement(
-                                TestContextProperties.REMOTE_RESOURCE_INSTANCES,
-                                resourceInstance);
-            } catch (Exception e) {
-                throw ExceptionUtil.INSTANCE
-                        .propagate("Could not start '{}' remote resource", e,
-                                value);
-            }
-        });
+        resourceScheduler.scheduleStart(testContext, schedule ->
+                remoteResources.forEach(remoteResource -> schedule.add(
+                        getName(remoteResource),
+                        remoteResource.dependsOn(),
+                        () -> startResource(testContext, testConfigurer, remoteResource))));
     }
 
     @Override
@@ -139,18 +90,114 @@ public class DefaultRemoteResourceProvider implements ResourceProvider {
         Collection<RemoteResourceInfo> resourceInstances =
                 testContext.getRemoteResources();
 
-        resourceInstances.forEach(resourceInstance -> {
-            try {
-                RemoteResourceProvider provider = resourceInstance.getProvider();
-                RemoteResource remoteResource = resourceInstance.getAnnotation();
-                RemoteResourceInstance instance = resourceInstance.getValue();
+        resourceScheduler.scheduleStop(testContext, schedule ->
+                resourceInstances.forEach(resourceInstance -> schedule.add(
+                        getName(resourceInstance.getAnnotation()),
+                        resourceInstance.getAnnotation().dependsOn(),
+                        () -> stopResource(testContext, resourceInstance))));
+    }
+
+    /**
+     * Get the name used to refer to the given remote resource.
+     *
+     * @param remoteResource the remote resource annotation
+     * @return the remote resource name
+     */
+    String getName(RemoteResource remoteResource) {
+        String name = remoteResource.name();
 
-                provider.stop(testContext, remoteResource, instance);
-            } catch (Exception e) {
-                LoggingUtil.INSTANCE.error("Could not stop '{}' remote resource",
-                        resourceInstance.getAnnotation().value(), e);
+        return name.isEmpty() ? remoteResource.value().getSimpleName() : name;
+    }
+
+    /**
+     * Configure and start a new instance of the given remote resource and load its data.
+     *
+     * @param testContext the test context
+     * @param testConfigurer the test configurer
+     * @param remoteResource the remote resource annotation
+     */
+    void startResource(TestContext testContext,
+            TestConfigurer testConfigurer,
+            RemoteResource remoteResource) {
+        Class<? extends RemoteResourceProvider> value = remoteResource.value();
+
+        RemoteResourceProvider remoteResourceProvider = reflectionUtil.newInstance(
+                value);
+        String configKey = remoteResource.configKey();
+        PropertiesReader configReader = testContext.getPropertiesReader(configKey);
+        Object configuration = remoteResourceProvider.configure(testContext,
+                remoteResource,
+                configReader);
+        configuration = testConfigurer.configure(testContext, configuration);
+
+        try {
+            //start the resource
+            RemoteResourceInstance<Object> remoteResourceInstance =
+                    remoteResourceProvider.start(testContext, remoteResource,
+                            configuration);
+
+            //determine if there are data files and load the data into te resource
+            String[] dataFilePatterns = remoteResource.dataFiles();
+
+            if (dataFilePatterns.length != 0) {
+                //load the data using the resource provider load method
+                Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
+                        dataFilePatterns);
+                remoteResourceProvider.load(testContext, remoteResource,
+                        remoteResourceInstance,
+                        dataFiles);
+
+                //if there is data provider defined then create an instance of
+                //it and load data using the data provider as well
+                Class<? extends DataProvider> dataProviderType = remoteResource
+                        .dataProvider();
+
+                if (!DataProvider.class.equals(dataProviderType)) {
+                    DataProvider dataProvider = reflectionUtil.newInstance(
+                            dataProviderType);
+                    dataProvider.load(testContext, dataFiles, remoteResourceInstance);
+                }
             }
-        });
+
+            //add resource properties to the test context with its fqn as its key
+            testContext.addProperty(remoteResourceInstance.getFqn(),
+                    remoteResourceInstance
+                            .getProperties());
+
+            //track the resource so it can be stopped later
+            ResourceInfo resourceInstance = DefaultRemoteResourceInfo.of(
+                    remoteResource,
+                    remoteResourceProvider,
+                    remoteResourceInstance);
+
+            testContext
+                    .addCollectionElement(
+                            TestContextProperties.REMOTE_RESOURCE_INSTANCES,
+                            resourceInstance);
+        } catch (Exception e) {
+            throw ExceptionUtil.INSTANCE
+                    .propagate("Could not start '{}' remote resource", e,
+                            value);
+        }
+    }
+
+    /**
+     * Stop the given remote resource.
+     *
+     * @param testContext the test context
+     * @param resourceInstance the remote resource info
+     */
+    void stopResource(TestContext testContext, RemoteResourceInfo resourceInstance) {
+        try {
+            RemoteResourceProvider provider = resourceInstance.getProvider();
+            RemoteResource remoteResource = resourceInstance.getAnnotation();
+            RemoteResourceInstance instance = resourceInstance.getValue();
+
+            provider.stop(testContext, remoteResource, instance);
+        } catch (Exception e) {
+            LoggingUtil.INSTANCE.error("Could not stop '{}' remote resource",
+                    resourceInstance.getAnnotation().value(), e);
+        }
     }
 
 }
@@ -15,11 +15,13 @@
  */
 package org.testifyproject.core;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.testifyproject.ResourceController;
 import org.testifyproject.ResourceProvider;
 import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.core.util.ServiceLocatorUtil;
 
@@ -32,13 +34,20 @@ import org.testifyproject.core.util.ServiceLocatorUtil;
 public class DefaultResourceController implements ResourceController {
 
     private ServiceLocatorUtil serviceLocatorUtil;
+    private ResourceScheduler resourceScheduler;
 
     public DefaultResourceController() {
-        this(ServiceLocatorUtil.INSTANCE);
+        this(ServiceLocatorUtil.INSTANCE, ResourceScheduler.INSTANCE);
     }
 
     DefaultResourceController(ServiceLocatorUtil serviceLocatorUtil) {
+        this(serviceLocatorUtil, ResourceScheduler.INSTANCE);
+    }
+
+    DefaultResourceController(ServiceLocatorUtil serviceLocatorUtil,
+            ResourceScheduler resourceScheduler) {
         this.serviceLocatorUtil = serviceLocatorUtil;
+        this.resourceScheduler = resourceScheduler;
     }
 
     @Override
@@ -46,17 +55,46 @@ public class DefaultResourceController implements ResourceController {
         List<ResourceProvider> foundResourceProviders =
                 serviceLocatorUtil.findAll(ResourceProvider.class);
 
-        foundResourceProviders.parallelStream().forEach(resourceProvider -> {
+        if (foundResourceProviders.isEmpty()) {
+            return;
+        }
+
+        //resource providers add the resources they start to the schedule which
+        //starts them concurrently in dependency order once all providers have
+        //been called
+        ResourceSchedule schedule = resourceScheduler.createStartSchedule();
+        testContext.addProperty(TestContextProperties.RESOURCE_START_SCHEDULE, schedule);
+
+        foundResourceProviders.forEach(resourceProvider -> {
             resourceProvider.start(testContext);
             testContext.addCollectionElement(TestContextProperties.RESOURCE_PROVIDERS,
                     resourceProvider);
         });
+
+        schedule.run();
     }
 
     @Override
     public void stop(TestContext testContext) {
-        testContext.<ResourceProvider>findCollection(TestContextProperties.RESOURCE_PROVIDERS)
-                .forEach(resourceProvider -> resourceProvider.stop(testContext));
+        Collection<ResourceProvider> resourceProviders = testContext
+                .findCollection(TestContextProperties.RESOURCE_PROVIDERS);
+
+        if (resourceProviders.isEmpty()) {
+            return;
+        }
+
+        ResourceSchedule schedule = resourceScheduler.createStopSchedule();
+        testContext.addProperty(TestContextProperties.RESOURCE_STOP_SCHEDULE, schedule);
+
+        resourceProviders.forEach(resourceProvider -> resourceProvider.stop(testContext));
+
+        schedule.run();
+    }
+
+    @Override
+    public void release(TestDescriptor testDescriptor) {
+        serviceLocatorUtil.findAll(ResourceProvider.class)
+                .forEach(resourceProvider -> resourceProvider.release(testDescriptor));
     }
 
 }
@@ -53,18 +53,22 @@ public class DefaultServerProvider implements ServerProvider<String[], Object> {
             appType = application.value();
             String startMethodName = application.start();
 
-            if (startMethodName.equals("main")) {
-                //if we are dealing with a static main method then invoke
-                Object[] startArgs = new Object[]{args};
-                Method method = appType.getMethod(startMethodName, String[].class);
+            //the application is started with the test context attached so that interceptors
+            //of static factories that have no object to carry the test run id can find it
+            try (TestContextHolder.Scope scope = TestContextHolder.INSTANCE.attach(testContext)) {
+                if (startMethodName.equals("main")) {
+                    //if we are dealing with a static main method then invoke
+                    Object[] startArgs = new Object[]{args};
+                    Method method = appType.getMethod(startMethodName, String[].class);
 
-                ReflectionUtil.INSTANCE.invoke(method, null, startArgs);
-            } else {
-                //otherwise we are dealing with non static method therefore create an instance
-                //of the application and invoke the start method
-                appInstance = appType.newInstance();
-                Method method = appType.getMethod(startMethodName);
-                ReflectionUtil.INSTANCE.invoke(method, appInstance);
+                    ReflectionUtil.INSTANCE.invoke(method, null, startArgs);
+                } else {
+                    //otherwise we are dealing with non static method therefore create an instance
+                    //of the application and invoke the start method
+                    appInstance = appType.newInstance();
+                    Method method = appType.getMethod(startMethodName);
+                    ReflectionUtil.INSTANCE.invoke(method, appInstance);
+                }
             }
 
             //if a server property is defined then use it, otherwise use the application
@@ -17,6 +17,7 @@ package org.testifyproject.core;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -48,6 +49,20 @@ import lombok.ToString;
 public class DefaultTestContext implements TestContext {
 
     private static final LoggingUtil LOGGING_UTIL = LoggingUtil.INSTANCE;
+    private static final PropertySchema SCHEMA = TestContextProperties.SCHEMA;
+    private static final PropertyKey<ServiceInstance> SERVICE_INSTANCE =
+            SCHEMA.key(TestContextProperties.SERVICE_INSTANCE);
+    private static final PropertyKey<SutDescriptor> SUT_DESCRIPTOR =
+            SCHEMA.key(TestContextProperties.SUT_DESCRIPTOR);
+    private static final PropertyKey<Object> SUT_INSTANCE =
+            SCHEMA.key(TestContextProperties.SUT_INSTANCE);
+    private static final PropertyKey<Collection<LocalResourceInfo>> LOCAL_RESOURCE_INSTANCES =
+            SCHEMA.key(TestContextProperties.LOCAL_RESOURCE_INSTANCES);
+    private static final PropertyKey<Collection<RemoteResourceInfo>> REMOTE_RESOURCE_INSTANCES =
+            SCHEMA.key(TestContextProperties.REMOTE_RESOURCE_INSTANCES);
+    private static final PropertyKey<Collection<VirtualResourceInfo>>
+            VIRTUAL_RESOURCE_INSTANCES =
+                    SCHEMA.key(TestContextProperties.VIRTUAL_RESOURCE_INSTANCES);
 
     private Object testInstance;
     private TestDescriptor testDescriptor;
@@ -125,32 +140,32 @@ public class DefaultTestContext implements TestContext {
 
     @Override
     public Optional<ServiceInstance> getServiceInstance() {
-        return findProperty(TestContextProperties.SERVICE_INSTANCE);
+        return SERVICE_INSTANCE.find(properties);
     }
 
     @Override
     public Optional<SutDescriptor> getSutDescriptor() {
-        return findProperty(TestContextProperties.SUT_DESCRIPTOR);
+        return SUT_DESCRIPTOR.find(properties);
     }
 
     @Override
     public <T> Optional<T> getSutInstance() {
-        return findProperty(TestContextProperties.SUT_INSTANCE);
+        return (Optional<T>) SUT_INSTANCE.find(properties);
     }
 
     @Override
     public Collection<LocalResourceInfo> getLocalResources() {
-        return findCollection(TestContextProperties.LOCAL_RESOURCE_INSTANCES);
+        return LOCAL_RESOURCE_INSTANCES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<RemoteResourceInfo> getRemoteResources() {
-        return findCollection(TestContextProperties.REMOTE_RESOURCE_INSTANCES);
+        return REMOTE_RESOURCE_INSTANCES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<VirtualResourceInfo> getVirtualResources() {
-        return findCollection(TestContextProperties.VIRTUAL_RESOURCE_INSTANCES);
+        return VIRTUAL_RESOURCE_INSTANCES.getOrDefault(properties, Collections.emptyList());
     }
 
     void setTestCategory(Class<? extends Annotation> testCategory) {
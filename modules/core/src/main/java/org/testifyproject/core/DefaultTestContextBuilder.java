@@ -16,7 +16,6 @@
 package org.testifyproject.core;
 
 import java.lang.annotation.Annotation;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.testifyproject.MethodDescriptor;
@@ -36,7 +35,7 @@ public class DefaultTestContextBuilder {
     private TestRunner testRunner;
     private MockProvider mockProvider;
 
-    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private final PropertyStore properties = PropertyStore.of(TestContextProperties.SCHEMA);
 
     /**
      * Create a new instance of DefaultTestContextBuilder.
@@ -17,11 +17,13 @@ package org.testifyproject.core;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.testifyproject.DataProvider;
-import org.testifyproject.ResourceInfo;
 import org.testifyproject.ResourceProvider;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
@@ -48,24 +50,43 @@ import org.testifyproject.trait.PropertiesReader;
 @Discoverable
 public class DefaultVirtualResourceProvider implements ResourceProvider {
 
+    static final SharedArtifactCache<VirtualResourceKey> RESOURCE_CACHE =
+            SharedArtifactCache.of();
+    static final String RESOURCE_INFO = "virtualResourceInfo";
+
     private ReflectionUtil reflectionUtil;
     private FileSystemUtil fileSystemUtil;
     private ServiceLocatorUtil serviceLocatorUtil;
+    private SharedArtifactCache<VirtualResourceKey> resourceCache;
+    private ResourceScheduler resourceScheduler;
 
     public DefaultVirtualResourceProvider() {
         this(
                 ReflectionUtil.INSTANCE,
                 FileSystemUtil.INSTANCE,
-                ServiceLocatorUtil.INSTANCE
+                ServiceLocatorUtil.INSTANCE,
+                RESOURCE_CACHE,
+                ResourceScheduler.INSTANCE
         );
     }
 
     DefaultVirtualResourceProvider(ReflectionUtil reflectionUtil,
             FileSystemUtil fileSystemUtil,
             ServiceLocatorUtil serviceLocatorUtil) {
+        this(reflectionUtil, fileSystemUtil, serviceLocatorUtil, RESOURCE_CACHE,
+                ResourceScheduler.INSTANCE);
+    }
+
+    DefaultVirtualResourceProvider(ReflectionUtil reflectionUtil,
+            FileSystemUtil fileSystemUtil,
+            ServiceLocatorUtil serviceLocatorUtil,
+            SharedArtifactCache<VirtualResourceKey> resourceCache,
+            ResourceScheduler resourceScheduler) {
         this.reflectionUtil = reflectionUtil;
         this.fileSystemUtil = fileSystemUtil;
         this.serviceLocatorUtil = serviceLocatorUtil;
+        this.resourceCache = resourceCache;
+        this.resourceScheduler = resourceScheduler;
     }
 
     @Override
@@ -78,92 +99,291 @@ public class DefaultVirtualResourceProvider implements ResourceProvider {
 
         //get container resource annotations from the test class and for each
         //container resource create a new instance, configure and start a
-        //container instance and addConfigHandler it to the service instance.
-        virtualResources.parallelStream().forEach(virtualResource -> {
-            Class<? extends VirtualResourceProvider> provider = virtualResource.provider();
+        //container instance (or acquire a shared one) and addConfigHandler it
+        //to the service instance.
+        resourceScheduler.scheduleStart(testContext, schedule ->
+                virtualResources.forEach(virtualResource -> schedule.add(
+                        getName(virtualResource),
+                        virtualResource.dependsOn(),
+                        () -> startResource(testContext, testDescriptor, testConfigurer,
+                                virtualResource))));
+    }
 
-            VirtualResourceProvider virtualResourceProvider;
+    @Override
+    public void stop(TestContext testContext) {
+        Collection<VirtualResourceInfo> resourceInstances = testContext
+                .getVirtualResources();
 
-            if (VirtualResourceProvider.class.equals(provider)) {
-                virtualResourceProvider = serviceLocatorUtil.getOne(
-                        VirtualResourceProvider.class);
-            } else {
-                virtualResourceProvider = reflectionUtil.newInstance(provider);
-            }
+        resourceScheduler.scheduleStop(testContext, schedule ->
+                resourceInstances.forEach(resourceInstance -> schedule.add(
+                        getName(resourceInstance.getAnnotation()),
+                        resourceInstance.getAnnotation().dependsOn(),
+                        () -> stopResource(testContext, resourceInstance))));
+    }
 
-            String configKey = virtualResource.configKey();
-            PropertiesReader configReader = testContext.getPropertiesReader(configKey);
-            Object configuration = virtualResourceProvider.configure(testContext,
-                    virtualResource,
-                    configReader);
-            configuration = testConfigurer.configure(testContext, configuration);
+    @Override
+    public void release(TestDescriptor testDescriptor) {
+        resourceCache.remove(testDescriptor.getTestClass())
+                .forEach(SharedArtifact::destroy);
+    }
+
+    /**
+     * Get the name used to refer to the given virtual resource.
+     *
+     * @param virtualResource the virtual resource annotation
+     * @return the virtual resource name
+     */
+    String getName(VirtualResource virtualResource) {
+        String name = virtualResource.name();
+
+        return name.isEmpty() ? virtualResource.value() : name;
+    }
+
+    /**
+     * Start or acquire a shared instance of the given virtual resource and add it to the test
+     * context.
+     *
+     * @param testContext the test context
+     * @param testDescriptor the test descriptor
+     * @param testConfigurer the test configurer
+     * @param virtualResource the virtual resource annotation
+     */
+    void startResource(TestContext testContext,
+            TestDescriptor testDescriptor,
+            TestConfigurer testConfigurer,
+            VirtualResource virtualResource) {
+        VirtualResourceInfo resourceInstance;
+
+        if (isShared(virtualResource)) {
+            resourceInstance = acquireResource(testContext, testDescriptor,
+                    testConfigurer, virtualResource);
+        } else {
+            resourceInstance = createResource(testContext, testConfigurer,
+                    virtualResource);
+        }
+
+        VirtualResourceInstance<Object> virtualResourceInstance =
+                resourceInstance.getValue();
+
+        //add resource properties to the test context with its fqn as its key
+        testContext.addProperty(virtualResourceInstance.getFqn(),
+                virtualResourceInstance
+                        .getProperties());
+
+        //track the resource so it can be stopped later
+        testContext.addCollectionElement(
+                TestContextProperties.VIRTUAL_RESOURCE_INSTANCES,
+                resourceInstance);
+    }
+
+    /**
+     * Stop the given virtual resource or release it if it is shared.
+     *
+     * @param testContext the test context
+     * @param resourceInstance the virtual resource info
+     */
+    void stopResource(TestContext testContext, VirtualResourceInfo resourceInstance) {
+        VirtualResource virtualResource = resourceInstance.getAnnotation();
+
+        //shared resources are only stopped when they are removed from the cache
+        if (isShared(virtualResource)) {
+            resourceCache.find(VirtualResourceKey.of(testContext.getTestDescriptor(),
+                    virtualResource))
+                    .ifPresent(SharedArtifact::release);
+
+            return;
+        }
+
+        destroyResource(testContext, resourceInstance);
+    }
+
+    /**
+     * Stop the given virtual resource.
+     *
+     * @param testContext the test context of the test run that started the virtual resource
+     * @param resourceInstance the virtual resource info
+     */
+    void destroyResource(TestContext testContext, VirtualResourceInfo resourceInstance) {
+        VirtualResource virtualResource = resourceInstance.getAnnotation();
+
+        try {
+            VirtualResourceProvider provider = resourceInstance.getProvider();
+            VirtualResourceInstance instance = resourceInstance.getValue();
+
+            provider.stop(testContext, virtualResource, instance);
+        } catch (Exception e) {
+            LoggingUtil.INSTANCE.error("Could not stop '{}' virtual resource",
+                    virtualResource.value(), e);
+        }
+    }
+
+    /**
+     * Determine whether the given virtual resource is reused by test runs.
+     *
+     * @param virtualResource the virtual resource annotation
+     * @return true if the virtual resource is reused, false otherwise
+     */
+    boolean isShared(VirtualResource virtualResource) {
+        ReuseScope reuse = virtualResource.reuse();
 
+        return reuse == ReuseScope.CLASS || reuse == ReuseScope.JVM;
+    }
+
+    /**
+     * Acquire exclusive use of the given shared virtual resource. If the shared virtual
+     * resource was not started by this call then it is reset and its data is reloaded. Since
+     * resetting a virtual resource discards the data of the test run using it, test runs that
+     * share a virtual resource are run one at a time and the virtual resource is released
+     * when the test run is stopped.
+     *
+     * @param testContext the test context
+     * @param testDescriptor the test descriptor
+     * @param testConfigurer the test configurer
+     * @param virtualResource the virtual resource annotation
+     * @return the virtual resource info
+     */
+    VirtualResourceInfo acquireResource(TestContext testContext,
+            TestDescriptor testDescriptor,
+            TestConfigurer testConfigurer,
+            VirtualResource virtualResource) {
+        VirtualResourceKey key = VirtualResourceKey.of(testDescriptor, virtualResource);
+        AtomicBoolean started = new AtomicBoolean();
+
+        SharedArtifact<VirtualResourceKey> sharedResource = resourceCache.computeIfAbsent(key,
+                p -> {
+                    started.set(true);
+
+                    return shareResource(p, testContext, testConfigurer, virtualResource);
+                });
+
+        sharedResource.acquire();
+
+        VirtualResourceInfo resourceInstance =
+                (VirtualResourceInfo) sharedResource.getProperties().get(RESOURCE_INFO);
+
+        if (!started.get()) {
             try {
-                VirtualResourceInstance<Object> virtualResourceInstance =
-                        virtualResourceProvider.start(testContext, virtualResource,
-                                configuration);
-
-                //determine if there are data files and load the data into te resource
-                String[] dataFilePatterns = virtualResource.dataFiles();
-
-                if (dataFilePatterns.length != 0) {
-                    //load the data using the resource provider load method
-                    Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
-                            dataFilePatterns);
-                    virtualResourceProvider.load(testContext, virtualResource,
-                            virtualResourceInstance, dataFiles);
-
-                    //if there is data provider defined then create an instance of
-                    //it and load data using the data provider as well
-                    Class<? extends DataProvider> dataProviderType = virtualResource
-                            .dataProvider();
-
-                    if (!DataProvider.class.equals(dataProviderType)) {
-                        DataProvider dataProvider = reflectionUtil.newInstance(
-                                dataProviderType);
-                        dataProvider.load(testContext, dataFiles, virtualResourceInstance);
-                    }
-                }
-
-                //add resource properties to the test context with its fqn as its key
-                testContext.addProperty(virtualResourceInstance.getFqn(),
-                        virtualResourceInstance
-                                .getProperties());
-
-                //track the resource so it can be stopped later
-                ResourceInfo resourceInstance = DefaultVirtualResourceInfo.of(
-                        virtualResource,
-                        virtualResourceProvider,
-                        virtualResourceInstance);
-
-                testContext.addCollectionElement(
-                        TestContextProperties.VIRTUAL_RESOURCE_INSTANCES,
-                        resourceInstance);
+                VirtualResourceProvider provider = resourceInstance.getProvider();
+                VirtualResourceInstance instance = resourceInstance.getValue();
+
+                provider.reset(testContext, virtualResource, instance);
+                loadData(testContext, provider, virtualResource, instance);
             } catch (Exception e) {
+                sharedResource.release();
+
                 throw ExceptionUtil.INSTANCE.propagate(
-                        "Could not start '{}' virtual resource",
+                        "Could not reset '{}' virtual resource",
                         e, virtualResource.value());
             }
-        });
+        }
+
+        return resourceInstance;
     }
 
-    @Override
-    public void stop(TestContext testContext) {
-        Collection<VirtualResourceInfo> resourceInstances = testContext
-                .getVirtualResources();
+    /**
+     * Start a new instance of the given virtual resource that is shared by test runs. Note
+     * that shared virtual resources are not started by a resource controller.
+     *
+     * @param key the virtual resource key
+     * @param testContext the test context
+     * @param testConfigurer the test configurer
+     * @param virtualResource the virtual resource annotation
+     * @return the shared virtual resource
+     */
+    SharedArtifact<VirtualResourceKey> shareResource(VirtualResourceKey key,
+            TestContext testContext,
+            TestConfigurer testConfigurer,
+            VirtualResource virtualResource) {
+        VirtualResourceInfo resourceInstance =
+                createResource(testContext, testConfigurer, virtualResource);
 
-        resourceInstances.forEach(resourceInstance -> {
-            try {
-                VirtualResourceProvider provider = resourceInstance.getProvider();
-                VirtualResource virtualResource = resourceInstance.getAnnotation();
-                VirtualResourceInstance instance = resourceInstance.getValue();
+        return SharedArtifact.of(key, testContext, null,
+                Collections.singletonMap(RESOURCE_INFO, resourceInstance),
+                (p, q) -> destroyResource(p, resourceInstance));
+    }
 
-                provider.stop(testContext, virtualResource, instance);
-            } catch (Exception e) {
-                LoggingUtil.INSTANCE.error("Could not stop '{}' virtual resource",
-                        resourceInstance.getAnnotation().value(), e);
+    /**
+     * Configure and start a new instance of the given virtual resource and load its data.
+     *
+     * @param testContext the test context
+     * @param testConfigurer the test configurer
+     * @param virtualResource the virtual resource annotation
+     * @return the virtual resource info
+     */
+    VirtualResourceInfo createResource(TestContext testContext,
+            TestConfigurer testConfigurer,
+            VirtualResource virtualResource) {
+        Class<? extends VirtualResourceProvider> provider = virtualResource.provider();
+
+        VirtualResourceProvider virtualResourceProvider;
+
+        if (VirtualResourceProvider.class.equals(provider)) {
+            virtualResourceProvider = serviceLocatorUtil.getOne(
+                    VirtualResourceProvider.class);
+        } else {
+            virtualResourceProvider = reflectionUtil.newInstance(provider);
+        }
+
+        String configKey = virtualResource.configKey();
+        PropertiesReader configReader = testContext.getPropertiesReader(configKey);
+        Object configuration = virtualResourceProvider.configure(testContext,
+                virtualResource,
+                configReader);
+        configuration = testConfigurer.configure(testContext, configuration);
+
+        try {
+            VirtualResourceInstance<Object> virtualResourceInstance =
+                    virtualResourceProvider.start(testContext, virtualResource,
+                            configuration);
+
+            loadData(testContext, virtualResourceProvider, virtualResource,
+                    virtualResourceInstance);
+
+            return DefaultVirtualResourceInfo.of(
+                    virtualResource,
+                    virtualResourceProvider,
+                    virtualResourceInstance);
+        } catch (Exception e) {
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "Could not start '{}' virtual resource",
+                    e, virtualResource.value());
+        }
+    }
+
+    /**
+     * Load the data files and data provider data of the given virtual resource.
+     *
+     * @param testContext the test context
+     * @param virtualResourceProvider the virtual resource provider
+     * @param virtualResource the virtual resource annotation
+     * @param virtualResourceInstance the virtual resource instance
+     * @throws Exception an exception thrown while loading data
+     */
+    void loadData(TestContext testContext,
+            VirtualResourceProvider virtualResourceProvider,
+            VirtualResource virtualResource,
+            VirtualResourceInstance virtualResourceInstance) throws Exception {
+        //determine if there are data files and load the data into te resource
+        String[] dataFilePatterns = virtualResource.dataFiles();
+
+        if (dataFilePatterns.length != 0) {
+            //load the data using the resource provider load method
+            Set<Path> dataFiles = fileSystemUtil.findClasspathFiles(
+                    dataFilePatterns);
+            virtualResourceProvider.load(testContext, virtualResource,
+                    virtualResourceInstance, dataFiles);
+
+            //if there is data provider defined then create an instance of
+            //it and load data using the data provider as well
+            Class<? extends DataProvider> dataProviderType = virtualResource
+                    .dataProvider();
+
+            if (!DataProvider.class.equals(dataProviderType)) {
+                DataProvider dataProvider = reflectionUtil.newInstance(
+                        dataProviderType);
+                dataProvider.load(testContext, dataFiles, virtualResourceInstance);
             }
-        });
+        }
     }
 
 }
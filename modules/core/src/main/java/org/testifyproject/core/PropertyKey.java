@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static java.util.Optional.ofNullable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A typed property key declared in a {@link PropertySchema}. Each key is assigned a slot index
+ * local to its schema. A {@link PropertyStore} created from the same schema uses the slot
+ * index of a key to locate its value in an array instead of hashing the property name on every
+ * lookup.
+ * </p>
+ *
+ * @author saden
+ * @param <T> the property value type
+ */
+public final class PropertyKey<T> {
+
+    private final PropertySchema schema;
+    private final String name;
+    private final int slot;
+
+    PropertyKey(PropertySchema schema, String name, int slot) {
+        this.schema = schema;
+        this.name = name;
+        this.slot = slot;
+    }
+
+    /**
+     * Get the schema that declares the property.
+     *
+     * @return the property schema
+     */
+    public PropertySchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the name of the property.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the slot index assigned to the property in its schema.
+     *
+     * @return the slot index
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Get the value of this property in the given properties. Properties backed by a
+     * {@link PropertyStore} of the schema of this key are read by slot index, other maps are
+     * read by property name.
+     *
+     * @param properties the properties
+     * @return the property value, null otherwise
+     */
+    public T get(Map<String, ?> properties) {
+        if (properties instanceof PropertyStore) {
+            return ((PropertyStore) properties).get(this);
+        }
+
+        return (T) properties.get(name);
+    }
+
+    /**
+     * Get the value of this property in the given properties or the given default value if
+     * the property is not present.
+     *
+     * @param properties the properties
+     * @param defaultValue the default value
+     * @return the property value, default value otherwise
+     */
+    public T getOrDefault(Map<String, ?> properties, T defaultValue) {
+        T value = get(properties);
+
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Find the value of this property in the given properties.
+     *
+     * @param properties the properties
+     * @return an optional with the property value, empty optional otherwise
+     */
+    public Optional<T> find(Map<String, ?> properties) {
+        return ofNullable(get(properties));
+    }
+
+    /**
+     * If this property is not present in the given properties compute its value using the
+     * given mapping function and add it to the properties.
+     *
+     * @param properties the properties
+     * @param mappingFunction the function to compute the value
+     * @return the current (existing or computed) property value
+     */
+    public T computeIfAbsent(Map<String, Object> properties,
+            Function<String, ? extends T> mappingFunction) {
+        if (properties instanceof PropertyStore) {
+            return ((PropertyStore) properties).computeIfAbsent(this, mappingFunction);
+        }
+
+        return (T) properties.computeIfAbsent(name, mappingFunction);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testifyproject.core.util.ExceptionUtil;
+
+/**
+ * <p>
+ * A fixed set of property keys declared up front by a descriptor. Each key declared in a schema
+ * is assigned a slot index local to the schema so that a {@link PropertyStore} created from the
+ * schema can locate the value of a declared property in an array sized to the schema.
+ * </p>
+ * <p>
+ * Note that a schema can not be extended once it has been created. Properties that are not
+ * declared in the schema can still be added to a store but they are kept by name.
+ * </p>
+ *
+ * @author saden
+ */
+public final class PropertySchema {
+
+    private final Map<String, PropertyKey<?>> keys;
+
+    PropertySchema(String... names) {
+        Map<String, PropertyKey<?>> declared = new LinkedHashMap<>();
+
+        for (String name : names) {
+            declared.computeIfAbsent(name, p -> new PropertyKey<>(this, p, declared.size()));
+        }
+
+        this.keys = Collections.unmodifiableMap(declared);
+    }
+
+    /**
+     * Create a new schema that declares the given property names.
+     *
+     * @param names the names of the declared properties
+     * @return a new property schema instance
+     */
+    public static PropertySchema of(String... names) {
+        return new PropertySchema(names);
+    }
+
+    /**
+     * Get the key of the given declared property.
+     *
+     * @param <T> the property value type
+     * @param name the property name
+     * @return the property key
+     * @throws org.testifyproject.TestifyException if the property is not declared
+     */
+    public <T> PropertyKey<T> key(String name) {
+        PropertyKey<?> key = keys.get(name);
+
+        if (key == null) {
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "Property '{}' is not declared in the property schema", name);
+        }
+
+        return (PropertyKey<T>) key;
+    }
+
+    /**
+     * Find the key of the given property.
+     *
+     * @param name the property name
+     * @return the property key if the property is declared, null otherwise
+     */
+    PropertyKey<?> find(Object name) {
+        return keys.get(name);
+    }
+
+    /**
+     * Get the number of declared properties.
+     *
+     * @return the number of slots in the schema
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public String toString() {
+        return keys.keySet().toString();
+    }
+
+}
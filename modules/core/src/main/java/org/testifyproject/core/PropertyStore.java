@@ -0,0 +1,329 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A properties map created from a {@link PropertySchema}. The value of a property declared in
+ * the schema is also stored in the array element at the slot index of its key so that reads
+ * through a typed key never hash the property name. Reads through a typed key are lock-free
+ * while writes are serialized since properties are written far less often than they are read.
+ * </p>
+ * <p>
+ * The store otherwise behaves like a {@link LinkedHashMap}. Properties that are not declared
+ * in the schema are kept by name, iteration follows insertion order and null values are
+ * stored like any other value.
+ * </p>
+ * <p>
+ * A store can be frozen once it has been populated (i.e. after a class has been analyzed).
+ * Freezing a store replaces collection and map values with compact unmodifiable copies and
+ * any further modification of the store results in an
+ * {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @author saden
+ */
+public class PropertyStore extends AbstractMap<String, Object> {
+
+    private final PropertySchema schema;
+    private final AtomicReferenceArray<Object> slots;
+    private final Map<String, Object> entries;
+    private volatile boolean frozen;
+
+    PropertyStore(PropertySchema schema, AtomicReferenceArray<Object> slots,
+            Map<String, Object> entries) {
+        this.schema = schema;
+        this.slots = slots;
+        this.entries = entries;
+    }
+
+    /**
+     * Create a new empty property store for the given schema.
+     *
+     * @param schema the schema that declares the properties of the store
+     * @return a new property store instance
+     */
+    public static PropertyStore of(PropertySchema schema) {
+        return new PropertyStore(schema,
+                new AtomicReferenceArray<>(schema.size()),
+                new LinkedHashMap<>());
+    }
+
+    /**
+     * Get the schema the store was created from.
+     *
+     * @return the property schema
+     */
+    public PropertySchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the value of the given property.
+     *
+     * @param <T> the property value type
+     * @param key the property key
+     * @return the property value, null otherwise
+     */
+    public <T> T get(PropertyKey<T> key) {
+        if (key.getSchema() == schema) {
+            return (T) slots.get(key.getSlot());
+        }
+
+        return (T) get((Object) key.getName());
+    }
+
+    /**
+     * If the given property is not present compute its value using the given mapping
+     * function and add it to the store unless the computed value is null.
+     *
+     * @param <T> the property value type
+     * @param key the property key
+     * @param mappingFunction the function to compute the value
+     * @return the current (existing or computed) property value
+     */
+    public <T> T computeIfAbsent(PropertyKey<T> key,
+            Function<String, ? extends T> mappingFunction) {
+        T value = get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        synchronized (this) {
+            value = get(key);
+
+            if (value == null) {
+                value = mappingFunction.apply(key.getName());
+
+                if (value != null) {
+                    write(key.getName(), value);
+                }
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Freeze the store. Collection and map values are replaced with unmodifiable copies and
+     * the store rejects any further modification.
+     */
+    public synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+
+        entries.replaceAll((name, value) -> {
+            Object copy = value;
+
+            if (value instanceof Collection) {
+                copy = Collections.unmodifiableList(new ArrayList<>((Collection) value));
+            } else if (value instanceof Map) {
+                copy = Collections.unmodifiableMap(new LinkedHashMap<>((Map) value));
+            }
+
+            PropertyKey<?> key = schema.find(name);
+
+            if (key != null) {
+                slots.set(key.getSlot(), copy);
+            }
+
+            return copy;
+        });
+
+        frozen = true;
+    }
+
+    /**
+     * Determine if the store has been frozen.
+     *
+     * @return true if the store is frozen, false otherwise
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public Object get(Object key) {
+        PropertyKey<?> propertyKey = schema.find(key);
+
+        if (propertyKey != null) {
+            return slots.get(propertyKey.getSlot());
+        }
+
+        synchronized (this) {
+            return entries.get(key);
+        }
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        PropertyKey<?> propertyKey = schema.find(key);
+
+        if (propertyKey != null) {
+            Object value = slots.get(propertyKey.getSlot());
+
+            if (value != null) {
+                return value;
+            }
+        }
+
+        synchronized (this) {
+            return entries.getOrDefault(key, defaultValue);
+        }
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key,
+            Function<? super String, ? extends Object> mappingFunction) {
+        PropertyKey<?> propertyKey = schema.find(key);
+
+        if (propertyKey != null) {
+            Object value = slots.get(propertyKey.getSlot());
+
+            if (value != null) {
+                return value;
+            }
+        }
+
+        synchronized (this) {
+            Object value = entries.get(key);
+
+            if (value == null) {
+                value = mappingFunction.apply(key);
+
+                if (value != null) {
+                    write(key, value);
+                }
+            }
+
+            return value;
+        }
+    }
+
+    @Override
+    public synchronized Object putIfAbsent(String key, Object value) {
+        Object existing = entries.get(key);
+
+        if (existing == null) {
+            write(key, value);
+        }
+
+        return existing;
+    }
+
+    @Override
+    public synchronized Object put(String key, Object value) {
+        return write(key, value);
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+
+        checkFrozen();
+
+        PropertyKey<?> propertyKey = schema.find(key);
+
+        if (propertyKey != null) {
+            slots.set(propertyKey.getSlot(), null);
+        }
+
+        return entries.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        checkFrozen();
+
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+
+        entries.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note that the returned set is an unmodifiable snapshot of the properties in insertion
+     * order.
+     * </p>
+     */
+    @Override
+    public synchronized Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> snapshot = new LinkedHashSet<>();
+
+        entries.forEach((name, value) -> snapshot.add(new SimpleImmutableEntry<>(name, value)));
+
+        return Collections.unmodifiableSet(snapshot);
+    }
+
+    /**
+     * Write the value of the given property. Callers must hold the lock of the store.
+     *
+     * @param name the property name
+     * @param value the property value
+     * @return the previous property value, null otherwise
+     */
+    Object write(String name, Object value) {
+        checkFrozen();
+
+        PropertyKey<?> propertyKey = schema.find(name);
+
+        if (propertyKey != null) {
+            slots.set(propertyKey.getSlot(), value);
+        }
+
+        return entries.put(name, value);
+    }
+
+    void checkFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen properties can not be modified.");
+        }
+    }
+
+}
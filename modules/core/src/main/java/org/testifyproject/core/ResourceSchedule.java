@@ -0,0 +1,341 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testifyproject.core.util.ExceptionUtil;
+import org.testifyproject.core.util.LoggingUtil;
+
+/**
+ * <p>
+ * A schedule of test resource start or stop tasks. Tasks are added to the schedule by resource
+ * providers and executed concurrently on a dedicated bounded executor once the schedule is
+ * run. A task is only executed once all the tasks of the resources it depends on have
+ * completed while stop tasks are executed in reverse dependency order.
+ * </p>
+ * <p>
+ * Each task is given a fixed amount of time to complete and the duration of each task is
+ * recorded so that a timing report can be produced once the schedule has been run.
+ * </p>
+ *
+ * @author saden
+ */
+public class ResourceSchedule {
+
+    private final String phase;
+    private final boolean reverse;
+    private final long timeout;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+    private final List<Task> tasks;
+    private final Map<String, Long> timings;
+
+    ResourceSchedule(String phase,
+            boolean reverse,
+            long timeout,
+            ExecutorService executor,
+            ScheduledExecutorService timer) {
+        this.phase = phase;
+        this.reverse = reverse;
+        this.timeout = timeout;
+        this.executor = executor;
+        this.timer = timer;
+        this.tasks = Collections.synchronizedList(new ArrayList<>());
+        this.timings = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    /**
+     * Add a task to the schedule. Resources are referred to by name by the resources that
+     * depend on them and in the timing report so the name of each scheduled resource must be
+     * unique.
+     *
+     * @param name the name of the resource the task starts or stops
+     * @param dependencies the names of the resources the resource depends on
+     * @param task the task
+     * @return this schedule
+     * @throws org.testifyproject.TestifyException if a resource with the same name has already
+     * been added to the schedule
+     */
+    public ResourceSchedule add(String name, String[] dependencies, Runnable task) {
+        synchronized (tasks) {
+            ExceptionUtil.INSTANCE.raise(tasks.stream().anyMatch(p -> p.name.equals(name)),
+                    "Resource '{}' is already scheduled to {}, test resources that share a "
+                    + "test class must have distinct names", name, phase);
+
+            tasks.add(new Task(name, dependencies, task));
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the phase of the schedule (i.e. start or stop).
+     *
+     * @return the schedule phase
+     */
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * Get the time in milliseconds it took to execute the tasks of the schedule keyed by
+     * resource name.
+     *
+     * @return a map of task durations, empty map otherwise
+     */
+    public Map<String, Long> getTimings() {
+        synchronized (timings) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(timings));
+        }
+    }
+
+    /**
+     * Execute all the tasks in the schedule and wait for them to complete. Note that a failure
+     * to start a resource is propagated after all the tasks have completed while a failure to
+     * stop a resource is logged.
+     */
+    public void run() {
+        List<Task> scheduled;
+
+        synchronized (tasks) {
+            scheduled = new ArrayList<>(tasks);
+            tasks.clear();
+        }
+
+        if (scheduled.isEmpty()) {
+            return;
+        }
+
+        Map<Task, Set<Task>> prerequisites = getPrerequisites(scheduled);
+        Set<Task> visited = new HashSet<>();
+        scheduled.forEach(task -> verify(task, prerequisites, new HashSet<>(), visited));
+
+        Map<Task, CompletableFuture<Void>> futures = new HashMap<>();
+        long started = System.nanoTime();
+
+        scheduled.forEach(task -> submit(task, prerequisites, futures));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .join();
+        } catch (CompletionException e) {
+            if (!reverse) {
+                throw ExceptionUtil.INSTANCE.propagate("Could not {} test resources",
+                        e.getCause(), phase);
+            }
+
+            LoggingUtil.INSTANCE.error("Could not {} test resources", phase, e.getCause());
+        } finally {
+            LoggingUtil.INSTANCE.debug("Took {} ms to {} {} test resources {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                    phase,
+                    scheduled.size(),
+                    getTimings());
+        }
+    }
+
+    /**
+     * Determine the tasks that must complete before each of the given tasks is executed.
+     *
+     * @param scheduled the scheduled tasks
+     * @return a map of tasks and their prerequisite tasks
+     */
+    Map<Task, Set<Task>> getPrerequisites(List<Task> scheduled) {
+        Map<String, Task> named = new HashMap<>();
+        Map<Task, Set<Task>> prerequisites = new HashMap<>();
+
+        scheduled.forEach(task -> {
+            named.put(task.name, task);
+            prerequisites.put(task, new HashSet<>());
+        });
+
+        scheduled.forEach(task -> {
+            for (String dependency : task.dependencies) {
+                Task dependencyTask = named.get(dependency);
+
+                if (dependencyTask == null) {
+                    //resources that were not started (i.e. reused) are not stopped
+                    ExceptionUtil.INSTANCE.raise(!reverse,
+                            "Resource '{}' depends on unknown resource '{}'",
+                            task.name, dependency);
+
+                    continue;
+                }
+
+                if (reverse) {
+                    prerequisites.get(dependencyTask).add(task);
+                } else {
+                    prerequisites.get(task).add(dependencyTask);
+                }
+            }
+        });
+
+        return prerequisites;
+    }
+
+    /**
+     * Verify that the resources of the given tasks do not have circular dependencies.
+     *
+     * @param task the task being visited
+     * @param prerequisites a map of tasks and their prerequisite tasks
+     * @param visiting the tasks currently being visited
+     * @param visited the tasks that have already been verified
+     */
+    void verify(Task task,
+            Map<Task, Set<Task>> prerequisites,
+            Set<Task> visiting,
+            Set<Task> visited) {
+        if (visited.contains(task)) {
+            return;
+        }
+
+        ExceptionUtil.INSTANCE.raise(!visiting.add(task),
+                "Resource '{}' has a circular dependency", task.name);
+
+        prerequisites.get(task).forEach(p -> verify(p, prerequisites, visiting, visited));
+
+        visiting.remove(task);
+        visited.add(task);
+    }
+
+    /**
+     * Submit the given task for execution once its prerequisite tasks have completed.
+     *
+     * @param task the task
+     * @param prerequisites a map of tasks and their prerequisite tasks
+     * @param futures a map of submitted tasks and their futures
+     * @return the future of the task
+     */
+    CompletableFuture<Void> submit(Task task,
+            Map<Task, Set<Task>> prerequisites,
+            Map<Task, CompletableFuture<Void>> futures) {
+        CompletableFuture<Void> future = futures.get(task);
+
+        if (future != null) {
+            return future;
+        }
+
+        List<CompletableFuture<Void>> prerequisiteFutures = prerequisites.get(task).stream()
+                .map(p -> submit(p, prerequisites, futures))
+                .collect(toList());
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        futures.put(task, result);
+
+        CompletableFuture.allOf(prerequisiteFutures.toArray(new CompletableFuture[0]))
+                .whenComplete((value, error) -> {
+                    //resources whose dependencies failed to start are not started
+                    //while resources are always stopped
+                    if (error != null && !reverse) {
+                        result.completeExceptionally(error);
+                    } else {
+                        execute(task, result);
+                    }
+                });
+
+        return result;
+    }
+
+    /**
+     * Execute the given task on the executor and complete the given future once it is done
+     * or it has timed out.
+     *
+     * @param task the task
+     * @param result the future of the task
+     */
+    void execute(Task task, CompletableFuture<Void> result) {
+        try {
+            //resource threads are pooled so the test context is carried into each task
+            executor.execute(TestContextHolder.INSTANCE.wrap(() -> {
+                Thread thread = Thread.currentThread();
+                ScheduledFuture<?> timeoutFuture = timer.schedule(() -> {
+                    TimeoutException exception = new TimeoutException(
+                            LoggingUtil.INSTANCE.formatMessage(
+                                    "Resource '{}' did not {} within {} ms",
+                                    task.name, phase, timeout));
+
+                    synchronized (task) {
+                        if (result.completeExceptionally(exception)) {
+                            thread.interrupt();
+                        }
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+
+                long started = System.nanoTime();
+                Throwable error = null;
+
+                try {
+                    task.runnable.run();
+                } catch (Throwable e) {
+                    error = e;
+                }
+
+                timeoutFuture.cancel(false);
+                timings.put(task.name,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+                synchronized (task) {
+                    if (error == null) {
+                        result.complete(null);
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+
+                    //clear the interrupt status of a task that timed out so that it does
+                    //not leak into the next task executed by the thread
+                    Thread.interrupted();
+                }
+            }));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A task that starts or stops a single resource.
+     */
+    static class Task {
+
+        final String name;
+        final String[] dependencies;
+        final Runnable runnable;
+
+        Task(String name, String[] dependencies, Runnable runnable) {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.runnable = runnable;
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.testifyproject.TestContext;
+import org.testifyproject.core.util.SettingUtil;
+
+/**
+ * A scheduler that starts and stops test resources on a dedicated bounded executor so that
+ * slow resources do not block unrelated work executed on the common fork join pool (i.e.
+ * parallel test execution). The size of the executor and the amount of time each resource is
+ * given to start or stop can be configured through the {@code testify.resource.threads} and
+ * {@code testify.resource.timeout} system properties.
+ *
+ * @author saden
+ */
+public class ResourceScheduler {
+
+    public static final ResourceScheduler INSTANCE = new ResourceScheduler(SettingUtil.INSTANCE);
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+    private final long timeout;
+
+    ResourceScheduler(SettingUtil settingUtil) {
+        this(
+                Executors.newFixedThreadPool(settingUtil.getResourceThreads(),
+                        createThreadFactory("testify-resource-")),
+                Executors.newSingleThreadScheduledExecutor(
+                        createThreadFactory("testify-resource-timer-")),
+                settingUtil.getResourceTimeout()
+        );
+    }
+
+    ResourceScheduler(ExecutorService executor, ScheduledExecutorService timer, long timeout) {
+        this.executor = executor;
+        this.timer = timer;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create a new schedule for starting test resources.
+     *
+     * @return a new resource schedule
+     */
+    public ResourceSchedule createStartSchedule() {
+        return new ResourceSchedule("start", false, timeout, executor, timer);
+    }
+
+    /**
+     * Create a new schedule for stopping test resources. Note that resources are stopped in
+     * reverse dependency order.
+     *
+     * @return a new resource schedule
+     */
+    public ResourceSchedule createStopSchedule() {
+        return new ResourceSchedule("stop", true, timeout, executor, timer);
+    }
+
+    /**
+     * Add resource start tasks to the start schedule of the given test context. If the test
+     * context does not have a start schedule (i.e. the resource provider is not used by a
+     * resource controller) then the tasks are run immediately.
+     *
+     * @param testContext the test context
+     * @param consumer the consumer that adds tasks to the schedule
+     */
+    public void scheduleStart(TestContext testContext, Consumer<ResourceSchedule> consumer) {
+        Optional<ResourceSchedule> foundSchedule =
+                testContext.findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
+
+        schedule(foundSchedule, this::createStartSchedule, consumer);
+    }
+
+    /**
+     * Add resource stop tasks to the stop schedule of the given test context. If the test
+     * context does not have a stop schedule (i.e. the resource provider is not used by a
+     * resource controller) then the tasks are run immediately.
+     *
+     * @param testContext the test context
+     * @param consumer the consumer that adds tasks to the schedule
+     */
+    public void scheduleStop(TestContext testContext, Consumer<ResourceSchedule> consumer) {
+        Optional<ResourceSchedule> foundSchedule =
+                testContext.findProperty(TestContextProperties.RESOURCE_STOP_SCHEDULE);
+
+        schedule(foundSchedule, this::createStopSchedule, consumer);
+    }
+
+    void schedule(Optional<ResourceSchedule> foundSchedule,
+            Supplier<ResourceSchedule> supplier,
+            Consumer<ResourceSchedule> consumer) {
+        if (foundSchedule.isPresent()) {
+            consumer.accept(foundSchedule.get());
+        } else {
+            ResourceSchedule schedule = supplier.get();
+            consumer.accept(schedule);
+            schedule.run();
+        }
+    }
+
+    static ThreadFactory createThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+
+import org.testifyproject.MockProvider;
+import org.testifyproject.ResourceController;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.core.util.ExceptionUtil;
+
+/**
+ * An artifact (i.e. a service, an application or a virtual resource) created by a test run
+ * that is reused by subsequent test runs. It holds on to the test context of the test run
+ * that created the artifact as well as the properties (server, client, service and resource
+ * instances) that were added to the test context while creating the artifact.
+ *
+ * @author saden
+ * @param <K> the artifact key type
+ */
+public class SharedArtifact<K extends SharedArtifactKey> {
+
+    private final K key;
+    private final TestContext testContext;
+    private final ResourceController resourceController;
+    private final Map<String, Object> properties;
+    private final BiConsumer<TestContext, ResourceController> destroyer;
+    private final Semaphore permit;
+
+    SharedArtifact(K key,
+            TestContext testContext,
+            ResourceController resourceController,
+            Map<String, Object> properties,
+            BiConsumer<TestContext, ResourceController> destroyer) {
+        this.key = key;
+        this.testContext = testContext;
+        this.resourceController = resourceController;
+        this.properties = properties;
+        this.destroyer = destroyer;
+        this.permit = new Semaphore(1);
+    }
+
+    /**
+     * Create a new shared artifact instance.
+     *
+     * @param <K> the artifact key type
+     * @param key the artifact key
+     * @param testContext the test context of the test run that created the artifact
+     * @param resourceController the resource controller that started test resources
+     * @param properties the properties added to the test context when the artifact was created
+     * @param destroyer the function used to destroy the artifact and stop its test resources
+     * @return a new shared artifact instance
+     */
+    public static <K extends SharedArtifactKey> SharedArtifact<K> of(K key,
+            TestContext testContext,
+            ResourceController resourceController,
+            Map<String, Object> properties,
+            BiConsumer<TestContext, ResourceController> destroyer) {
+        return new SharedArtifact<>(key, testContext, resourceController, properties,
+                destroyer);
+    }
+
+    /**
+     * The key of the shared artifact.
+     *
+     * @return the artifact key
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * The test context of the test run that created the artifact.
+     *
+     * @return the test context
+     */
+    public TestContext getTestContext() {
+        return testContext;
+    }
+
+    /**
+     * The resource controller that started the test resources used by the artifact.
+     *
+     * @return the resource controller
+     */
+    public ResourceController getResourceController() {
+        return resourceController;
+    }
+
+    /**
+     * The properties added to the test context while creating the artifact.
+     *
+     * @return a map of properties
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Acquire exclusive use of the shared artifact. Test runs that share the artifact are run
+     * one at a time because the state of the artifact (i.e. the fake collaborators it is wired
+     * with or the data it holds) is reset and reused by each test run.
+     */
+    public void acquire() {
+        permit.acquireUninterruptibly();
+    }
+
+    /**
+     * Release exclusive use of the shared artifact acquired by {@link #acquire()}.
+     */
+    public void release() {
+        permit.release();
+    }
+
+    /**
+     * Replace the collaborators of the given test context with the collaborators of the test
+     * run that created the artifact. The artifact is wired with the collaborators of the test
+     * run that created it so every collaborator field covered by the artifact key is reused
+     * and fake and virtual collaborators are reset. Since the artifact is keyed on these
+     * fields an exception is thrown if a collaborator of the test run that created the
+     * artifact can not be found.
+     *
+     * @param reusingTestContext the test context of the test run reusing the artifact
+     */
+    public void reuseCollaborators(TestContext reusingTestContext) {
+        Object testInstance = reusingTestContext.getTestInstance();
+        Object sharedTestInstance = testContext.getTestInstance();
+        TestDescriptor sharedTestDescriptor = testContext.getTestDescriptor();
+        MockProvider mockProvider = reusingTestContext.getMockProvider();
+
+        reusingTestContext.getTestDescriptor().getFieldDescriptors().stream()
+                .filter(key::isCollaborator)
+                .forEach(fieldDescriptor -> {
+                    Type fieldType = fieldDescriptor.getGenericType();
+                    String fieldName = fieldDescriptor.getName();
+
+                    Object value = sharedTestDescriptor.findFieldDescriptor(fieldType, fieldName)
+                            .flatMap(p -> p.<Object>getValue(sharedTestInstance))
+                            .orElseThrow(() -> ExceptionUtil.INSTANCE.propagate(
+                                    "Could not find collaborator '{}' in '{}' which created "
+                                    + "the shared artifact", fieldName,
+                                    sharedTestDescriptor.getTestClassName()));
+
+                    if (fieldDescriptor.isMock()) {
+                        mockProvider.resetFake(value);
+                    }
+
+                    fieldDescriptor.setValue(testInstance, value);
+                });
+    }
+
+    /**
+     * Destroy the artifact and stop the test resources it uses.
+     */
+    public void destroy() {
+        destroyer.accept(testContext, resourceController);
+    }
+
+}
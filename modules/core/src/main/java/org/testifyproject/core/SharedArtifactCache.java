@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.testifyproject.ReuseScope;
+import org.testifyproject.core.util.LoggingUtil;
+
+/**
+ * A cache of artifacts (i.e. services, applications or virtual resources) shared by test
+ * runs. Artifacts reused in {@link ReuseScope#CLASS} scope are removed from the cache once all
+ * the tests of a test class have been run while artifacts reused in {@link ReuseScope#JVM}
+ * scope are destroyed when the JVM shuts down.
+ *
+ * @author saden
+ * @param <K> the artifact key type
+ */
+public class SharedArtifactCache<K extends SharedArtifactKey> {
+
+    private final Map<K, SharedArtifact<K>> artifacts;
+    private final Map<K, Object> locks;
+    private final AtomicBoolean shutdownHook;
+
+    SharedArtifactCache() {
+        this.artifacts = new ConcurrentHashMap<>();
+        this.locks = new ConcurrentHashMap<>();
+        this.shutdownHook = new AtomicBoolean();
+    }
+
+    /**
+     * Create a new shared artifact cache instance.
+     *
+     * @param <K> the artifact key type
+     * @return a new shared artifact cache instance
+     */
+    public static <K extends SharedArtifactKey> SharedArtifactCache<K> of() {
+        return new SharedArtifactCache<>();
+    }
+
+    /**
+     * Find the shared artifact associated with the given key.
+     *
+     * @param key the artifact key
+     * @return an optional containing the shared artifact, empty optional otherwise
+     */
+    public Optional<SharedArtifact<K>> find(K key) {
+        return Optional.ofNullable(artifacts.get(key));
+    }
+
+    /**
+     * Get the shared artifact associated with the given key. If the artifact is not cached the
+     * given function is called to create it. Note that artifacts are created while holding a
+     * per key lock so that an artifact is never created twice while distinct artifacts can
+     * still be created concurrently.
+     *
+     * @param key the artifact key
+     * @param function the function used to create the artifact
+     * @return the shared artifact
+     */
+    public SharedArtifact<K> computeIfAbsent(K key, Function<K, SharedArtifact<K>> function) {
+        synchronized (getLock(key)) {
+            SharedArtifact<K> artifact = artifacts.get(key);
+
+            if (artifact == null) {
+                artifact = function.apply(key);
+                artifacts.put(key, artifact);
+
+                if (shutdownHook.compareAndSet(false, true)) {
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::destroyAll));
+                }
+            }
+
+            return artifact;
+        }
+    }
+
+    /**
+     * Remove the artifacts shared by the tests of the given test class in
+     * {@link ReuseScope#CLASS} scope.
+     *
+     * @param testClass the test class
+     * @return a collection of removed artifacts
+     */
+    public Collection<SharedArtifact<K>> remove(Class<?> testClass) {
+        return remove(p -> p.getScope() == ReuseScope.CLASS
+                && testClass.equals(p.getTestClass()));
+    }
+
+    /**
+     * Remove all the shared artifacts.
+     *
+     * @return a collection of removed artifacts
+     */
+    public Collection<SharedArtifact<K>> removeAll() {
+        return remove(p -> true);
+    }
+
+    Collection<SharedArtifact<K>> remove(Predicate<K> predicate) {
+        Collection<SharedArtifact<K>> result = new ArrayList<>();
+
+        artifacts.keySet().stream()
+                .filter(predicate)
+                .forEach(key -> {
+                    synchronized (getLock(key)) {
+                        SharedArtifact<K> artifact = artifacts.remove(key);
+
+                        if (artifact != null) {
+                            result.add(artifact);
+                        }
+                    }
+                });
+
+        return result;
+    }
+
+    void destroyAll() {
+        removeAll().forEach(artifact -> {
+            try {
+                artifact.destroy();
+            } catch (Exception e) {
+                LoggingUtil.INSTANCE.error("Could not destroy shared artifact '{}'",
+                        artifact.getKey(), e);
+            }
+        });
+    }
+
+    Object getLock(K key) {
+        return locks.computeIfAbsent(key, p -> new Object());
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.ReuseScope;
+
+/**
+ * A key used to identify an artifact (i.e. a service, an application or a virtual resource)
+ * shared by test runs.
+ *
+ * @author saden
+ */
+public interface SharedArtifactKey {
+
+    /**
+     * The scope in which the artifact is reused.
+     *
+     * @return the artifact reuse scope
+     */
+    ReuseScope getScope();
+
+    /**
+     * The test class the artifact is restricted to.
+     *
+     * @return the test class, null if the artifact is not restricted to a test class
+     */
+    Class<?> getTestClass();
+
+    /**
+     * Determine if the given field is a collaborator covered by the key. The artifact is wired
+     * with the collaborators of the test run that created it so test runs only share the
+     * artifact if they declare the same collaborator fields.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return true if the field is a collaborator covered by the key, false otherwise
+     */
+    boolean isCollaborator(FieldDescriptor fieldDescriptor);
+
+}
@@ -15,29 +15,85 @@
  */
 package org.testifyproject.core;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.testifyproject.TestContext;
 
 /**
- * A utility class for holding inheritable thread local instances of a {@link TestContext}.
+ * <p>
+ * A utility class for holding thread local instances of a {@link TestContext} and a registry
+ * of the test contexts of running tests.
+ * </p>
+ * <p>
+ * By default threads inherit the test context of the thread that created them so that
+ * threads started while a test runs (i.e. embedded server startup threads) see its test
+ * context. Test contexts of tests that are run concurrently are registered as not
+ * inheritable since pooled threads (i.e. server worker and resource threads) would otherwise
+ * retain the test context of the test run that happened to create them. In that case the
+ * test context is explicitly
+ * {@link #attach(TestContext) attached} to a thread or carried into tasks submitted to other
+ * threads through the {@code wrap} methods.
+ * </p>
+ * <p>
+ * Each registered test context is assigned an id that is unique to the test run. Components
+ * that know the id of the test run they were created for (i.e. a service locator named after
+ * the test run) can resolve its test context from the registry through {@link #find(String)}
+ * regardless of the thread they run on.
+ * </p>
  *
  * @author saden
  */
 public class TestContextHolder {
 
     private final InheritableThreadLocal<TestContext> threadLocal;
+    private final Map<String, TestContext> registry;
+    private final Map<TestContext, String> ids;
+    private final Set<TestContext> isolated;
+    private final AtomicLong sequence;
+
+    /**
+     * The name of the configuration property (i.e. a Spring environment or Jersey resource
+     * configuration property) that carries the id of the test run an application is started
+     * for.
+     */
+    public static final String TEST_CONTEXT_ID = "testify.testContextId";
 
     /**
      * An instance of the TestContextHolder.
      */
-    public static final TestContextHolder INSTANCE =
-            new TestContextHolder(new InheritableThreadLocal<>());
+    public static final TestContextHolder INSTANCE = new TestContextHolder();
+
+    TestContextHolder() {
+        this.threadLocal = new InheritableThreadLocal<TestContext>() {
+            @Override
+            protected TestContext childValue(TestContext parentValue) {
+                return isInheritable(parentValue) ? parentValue : null;
+            }
+        };
+        this.registry = new ConcurrentHashMap<>();
+        this.ids = Collections.synchronizedMap(new IdentityHashMap<>());
+        this.isolated = Collections.synchronizedSet(
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        this.sequence = new AtomicLong();
+    }
 
     TestContextHolder(InheritableThreadLocal<TestContext> threadLocal) {
         this.threadLocal = threadLocal;
+        this.registry = new ConcurrentHashMap<>();
+        this.ids = Collections.synchronizedMap(new IdentityHashMap<>());
+        this.isolated = Collections.synchronizedSet(
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        this.sequence = new AtomicLong();
     }
 
     /**
@@ -50,6 +106,19 @@ public class TestContextHolder {
         return new TestContextHolder(threadLocal);
     }
 
+    /**
+     * Determine if threads inherit the given test context from the thread that created them.
+     * Test contexts are inheritable unless they were registered as not inheritable through
+     * {@link #register(TestContext, boolean)}. Note that this only affects holders created
+     * without an explicit thread local instance.
+     *
+     * @param testContext the test context
+     * @return true if the test context is inherited, false otherwise
+     */
+    public boolean isInheritable(TestContext testContext) {
+        return testContext != null && !isolated.contains(testContext);
+    }
+
     /**
      * Set the test context in current thread.
      *
@@ -115,4 +184,174 @@ public class TestContextHolder {
         return result;
     }
 
+    /**
+     * Register the given test context so that it can be found by its id from any thread. The
+     * id is unique to the test run so that concurrent runs of the same test method (i.e.
+     * repeated or parameterized tests) do not replace each other.
+     *
+     * @param testContext the test context
+     * @return the id of the test context
+     */
+    public String register(TestContext testContext) {
+        return register(testContext, true);
+    }
+
+    /**
+     * Register the given test context so that it can be found by its id from any thread. A
+     * test context that is not inheritable is not inherited by threads created while it is
+     * held by a thread and should be used for tests that are run concurrently. The setting
+     * only applies to the given test context and is cleared when it is unregistered.
+     *
+     * @param testContext the test context
+     * @param inheritable true if the test context should be inherited, false otherwise
+     * @return the id of the test context
+     */
+    public String register(TestContext testContext, boolean inheritable) {
+        if (!inheritable) {
+            isolated.add(testContext);
+        }
+
+        String id = testContext.getName() + "#" + sequence.incrementAndGet();
+        ids.put(testContext, id);
+        registry.put(id, testContext);
+
+        return id;
+    }
+
+    /**
+     * Remove the given test context from the registry.
+     *
+     * @param testContext the test context
+     */
+    public void unregister(TestContext testContext) {
+        String id = ids.remove(testContext);
+        isolated.remove(testContext);
+
+        if (id != null) {
+            registry.remove(id, testContext);
+        }
+    }
+
+    /**
+     * Get the id of the given test context. The id of a test context that is not registered is
+     * its name.
+     *
+     * @param testContext the test context
+     * @return the test context id
+     */
+    public String getId(TestContext testContext) {
+        String id = ids.get(testContext);
+
+        return id == null ? testContext.getName() : id;
+    }
+
+    /**
+     * Find the test context with the given id. The registry is searched first and if the test
+     * context is not registered the test context of the current thread is returned if it has
+     * the given id.
+     *
+     * @param id the test context id
+     * @return an optional containing the test context, empty optional otherwise
+     */
+    public Optional<TestContext> find(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        TestContext testContext = registry.get(id);
+
+        if (testContext == null) {
+            testContext = threadLocal.get();
+
+            if (testContext != null && !id.equals(getId(testContext))) {
+                testContext = null;
+            }
+        }
+
+        return Optional.ofNullable(testContext);
+    }
+
+    /**
+     * Attach the given test context to the current thread. The test context previously held
+     * by the current thread is restored when the returned scope is closed.
+     *
+     * @param testContext the test context, null to detach the current test context
+     * @return the attachment scope
+     */
+    public Scope attach(TestContext testContext) {
+        TestContext previous = threadLocal.get();
+        replace(testContext);
+
+        return () -> replace(previous);
+    }
+
+    /**
+     * Wrap the given runnable so that it runs with the test context of the current thread
+     * attached regardless of the thread it is run on.
+     *
+     * @param runnable the runnable
+     * @return a runnable that carries the test context of the current thread
+     */
+    public Runnable wrap(Runnable runnable) {
+        TestContext testContext = threadLocal.get();
+
+        return () -> {
+            try (Scope scope = attach(testContext)) {
+                runnable.run();
+            }
+        };
+    }
+
+    /**
+     * Wrap the given callable so that it is called with the test context of the current thread
+     * attached regardless of the thread it is called on.
+     *
+     * @param <T> the callable result type
+     * @param callable the callable
+     * @return a callable that carries the test context of the current thread
+     */
+    public <T> Callable<T> wrap(Callable<T> callable) {
+        TestContext testContext = threadLocal.get();
+
+        return () -> {
+            try (Scope scope = attach(testContext)) {
+                return callable.call();
+            }
+        };
+    }
+
+    /**
+     * Wrap the given executor so that tasks submitted to it are run with the test context of
+     * the thread that submitted them attached.
+     *
+     * @param executor the executor
+     * @return an executor that carries test contexts into submitted tasks
+     */
+    public Executor wrap(Executor executor) {
+        return runnable -> executor.execute(wrap(runnable));
+    }
+
+    void replace(TestContext testContext) {
+        if (testContext == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(testContext);
+        }
+    }
+
+    /**
+     * A scope in which a test context is attached to a thread.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * Detach the test context and restore the test context previously held by the
+         * thread.
+         */
+        @Override
+        void close();
+
+    }
+
 }
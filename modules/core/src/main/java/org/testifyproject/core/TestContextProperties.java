@@ -71,6 +71,10 @@ public class TestContextProperties {
      * The application client provider property key.
      */
     public static final String CLIENT_PROVIDER = "appClientProvider";
+    /**
+     * The application in-memory client connector property key.
+     */
+    public static final String CLIENT_CONNECTOR = "appClientConnector";
     /**
      * The application server instance property key.
      */
@@ -83,6 +87,14 @@ public class TestContextProperties {
      * The application service instance property key.
      */
     public static final String SERVICE_INSTANCE = "serviceInstance";
+    /**
+     * The shared application property key.
+     */
+    public static final String SHARED_APPLICATION = "sharedApplication";
+    /**
+     * The shared integration service property key.
+     */
+    public static final String SHARED_SERVICE = "sharedService";
 
     /**
      * The application system under test instance property key.
@@ -108,6 +120,14 @@ public class TestContextProperties {
      * The resource providers property key.
      */
     public static final String RESOURCE_PROVIDERS = "resourceProviders";
+    /**
+     * The resource start schedule property key.
+     */
+    public static final String RESOURCE_START_SCHEDULE = "resourceStartSchedule";
+    /**
+     * The resource stop schedule property key.
+     */
+    public static final String RESOURCE_STOP_SCHEDULE = "resourceStopSchedule";
     /**
      * Application instance property key.
      */
@@ -121,6 +141,40 @@ public class TestContextProperties {
      */
     public static final String TEST_WARNINGS = "testWarnings";
 
+    /**
+     * Test Context property schema that declares all of the property keys above.
+     */
+    public static final PropertySchema SCHEMA = PropertySchema.of(
+            APP,
+            APP_NAME,
+            APP_FQN,
+            APP_ARGUMENTS,
+            APP_PORT,
+            SERVER,
+            SERVER_BASE_URI,
+            SERVER_CONTEXT_PATH,
+            CLIENT_INSTANCE,
+            CLIENT,
+            CLIENT_SUPPLIER,
+            CLIENT_PROVIDER,
+            CLIENT_CONNECTOR,
+            SERVER_INSTANCE,
+            SERVER_PROVIDER,
+            SERVICE_INSTANCE,
+            SHARED_APPLICATION,
+            SHARED_SERVICE,
+            SUT_INSTANCE,
+            SUT_DESCRIPTOR,
+            LOCAL_RESOURCE_INSTANCES,
+            VIRTUAL_RESOURCE_INSTANCES,
+            REMOTE_RESOURCE_INSTANCES,
+            RESOURCE_PROVIDERS,
+            RESOURCE_START_SCHEDULE,
+            RESOURCE_STOP_SCHEDULE,
+            APPLICATION_INSTANCE,
+            TEST_ERRORS,
+            TEST_WARNINGS);
+
     private TestContextProperties() {
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.ReuseScope;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.annotation.VirtualResource;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A key used to identify a virtual resource shared by test runs. Virtual resources are shared
+ * by tests that declare identical virtual resource annotations (i.e. same image, version,
+ * environment and data files).
+ *
+ * @author saden
+ */
+@ToString
+@EqualsAndHashCode
+public class VirtualResourceKey implements SharedArtifactKey {
+
+    private final ReuseScope scope;
+    private final Class<?> testClass;
+    private final VirtualResource annotation;
+
+    VirtualResourceKey(ReuseScope scope, Class<?> testClass, VirtualResource annotation) {
+        this.scope = scope;
+        this.testClass = testClass;
+        this.annotation = annotation;
+    }
+
+    /**
+     * Create a new virtual resource key instance for the given virtual resource declared on
+     * the given test. Note that virtual resources declared by tests that define configuration
+     * handlers are only shared with tests of the same test class since configuration handlers
+     * are test class methods.
+     *
+     * @param testDescriptor the test descriptor
+     * @param annotation the virtual resource annotation
+     * @return a new virtual resource key instance
+     */
+    public static VirtualResourceKey of(TestDescriptor testDescriptor,
+            VirtualResource annotation) {
+        ReuseScope scope = annotation.reuse();
+        Class<?> testClass = null;
+
+        if (scope == ReuseScope.CLASS || !testDescriptor.getConfigHandlers().isEmpty()) {
+            testClass = testDescriptor.getTestClass();
+        }
+
+        return new VirtualResourceKey(scope, testClass, annotation);
+    }
+
+    /**
+     * The scope in which the virtual resource is reused.
+     *
+     * @return the virtual resource reuse scope
+     */
+    @Override
+    public ReuseScope getScope() {
+        return scope;
+    }
+
+    /**
+     * The test class the virtual resource is restricted to.
+     *
+     * @return the test class, null if the virtual resource is not restricted to a test class
+     */
+    @Override
+    public Class<?> getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * Virtual resources are not wired with the collaborators of the test run that started
+     * them so no field is a collaborator covered by the key.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return false
+     */
+    @Override
+    public boolean isCollaborator(FieldDescriptor fieldDescriptor) {
+        return false;
+    }
+
+    /**
+     * The virtual resource annotation.
+     *
+     * @return the virtual resource annotation
+     */
+    public VirtualResource getAnnotation() {
+        return annotation;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.analyzer;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.testifyproject.annotation.Bundle;
+import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.extension.AnnotationInspector;
+import org.testifyproject.extension.annotation.Handles;
+
+/**
+ * A dispatch table that maps annotation types to the {@link AnnotationInspector}
+ * implementations that handle them. Annotation inspectors are discovered and their
+ * {@link Handles} annotations are read only once, and the inspectors of each annotation type
+ * are resolved only the first time the annotation type is looked up. Note that since
+ * inspector instances are shared annotation inspectors must be stateless.
+ *
+ * @author saden
+ */
+public class AnnotationInspectorTable {
+
+    public static final AnnotationInspectorTable INSTANCE =
+            new AnnotationInspectorTable(ServiceLocatorUtil.INSTANCE);
+
+    private final ServiceLocatorUtil serviceLocatorUtil;
+    private final Map<Class<? extends Annotation>, List<AnnotationInspector>> inspectors;
+    private final Map<Class<? extends Annotation>, List<AnnotationInspector>> bundleInspectors;
+    private volatile Map<AnnotationInspector, Class<? extends Annotation>[]> handledTypes;
+
+    AnnotationInspectorTable(ServiceLocatorUtil serviceLocatorUtil) {
+        this.serviceLocatorUtil = serviceLocatorUtil;
+        this.inspectors = new ConcurrentHashMap<>();
+        this.bundleInspectors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the inspectors that handle the given annotation type.
+     *
+     * @param annotationType the annotation type
+     * @return a list of inspectors, empty list otherwise
+     */
+    public List<AnnotationInspector> getInspectors(Class<? extends Annotation> annotationType) {
+        return inspectors.computeIfAbsent(annotationType, p
+                -> resolve(typeHandled -> typeHandled.isAssignableFrom(p)));
+    }
+
+    /**
+     * Get the inspectors that handle the {@link Bundle} meta-annotation of the given
+     * annotation type.
+     *
+     * @param annotationType the annotation type
+     * @return a list of inspectors if the annotation type is annotated with {@link Bundle},
+     * empty list otherwise
+     */
+    public List<AnnotationInspector> getBundleInspectors(
+            Class<? extends Annotation> annotationType) {
+        return bundleInspectors.computeIfAbsent(annotationType, p
+                -> p.isAnnotationPresent(Bundle.class)
+                ? resolve(Bundle.class::equals)
+                : Collections.emptyList());
+    }
+
+    /**
+     * Clear the dispatch table so that annotation inspectors are discovered again on the next
+     * lookup.
+     */
+    public void invalidate() {
+        handledTypes = null;
+        inspectors.clear();
+        bundleInspectors.clear();
+    }
+
+    List<AnnotationInspector> resolve(Predicate<Class<? extends Annotation>> predicate) {
+        return Collections.unmodifiableList(getHandledTypes().entrySet().stream()
+                .filter(entry -> {
+                    for (Class<? extends Annotation> typeHandled : entry.getValue()) {
+                        if (predicate.test(typeHandled)) {
+                            return true;
+                        }
+                    }
+
+                    return false;
+                })
+                .map(Map.Entry::getKey)
+                .collect(toList()));
+    }
+
+    Map<AnnotationInspector, Class<? extends Annotation>[]> getHandledTypes() {
+        Map<AnnotationInspector, Class<? extends Annotation>[]> result = handledTypes;
+
+        if (result == null) {
+            synchronized (this) {
+                result = handledTypes;
+
+                if (result == null) {
+                    Map<AnnotationInspector, Class<? extends Annotation>[]> types =
+                            new LinkedHashMap<>();
+
+                    serviceLocatorUtil.getAll(AnnotationInspector.class).forEach(inspector -> {
+                        Handles handles = inspector.getClass()
+                                .getDeclaredAnnotation(Handles.class);
+
+                        if (handles != null) {
+                            types.put(inspector, handles.value());
+                        }
+                    });
+
+                    result = Collections.unmodifiableMap(types);
+                    handledTypes = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -15,10 +15,20 @@
  */
 package org.testifyproject.core.analyzer;
 
+import static java.lang.invoke.MethodType.methodType;
+import static java.security.AccessController.doPrivileged;
+import static java.util.Optional.ofNullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.security.PrivilegedAction;
+import java.util.Optional;
 
 import org.testifyproject.FieldDescriptor;
+import org.testifyproject.TestifyException;
 import org.testifyproject.annotation.Name;
 
 import lombok.EqualsAndHashCode;
@@ -26,18 +36,26 @@ import lombok.ToString;
 
 /**
  * A descriptor class used to access properties of or perform operations on an analyzed test
- * class or the system under test fields. getF
+ * class or the system under test fields. Method handles used to get and set the value of the
+ * field are created once when the descriptor is created so that accessing the field does not
+ * require reflection.
  *
  * @author saden
  */
-@ToString(doNotUseGetters = true)
-@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true, of = "field")
+@EqualsAndHashCode(doNotUseGetters = true, of = "field")
 public class DefaultFieldDescriptor implements FieldDescriptor {
 
     private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
 
     DefaultFieldDescriptor(Field field) {
         this.field = field;
+
+        MethodHandle[] accessors = createAccessors(field);
+        this.getter = accessors[0];
+        this.setter = accessors[1];
     }
 
     /**
@@ -76,4 +94,93 @@ public class DefaultFieldDescriptor implements FieldDescriptor {
         return name.value();
     }
 
+    @Override
+    public void setValue(Object instance, Object value) {
+        if (setter == null) {
+            FieldDescriptor.super.setValue(instance, value);
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException e) {
+            throw TestifyException.of(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw TestifyException.of(e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> getValue(Object instance) {
+        if (getter == null) {
+            return FieldDescriptor.super.getValue(instance);
+        }
+
+        try {
+            return ofNullable((T) (Object) getter.invokeExact(instance));
+        } catch (ClassCastException e) {
+            throw TestifyException.of(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw TestifyException.of(e);
+        }
+    }
+
+    /**
+     * Create the getter and setter method handles of the given field. The getter has the
+     * {@code (Object)Object} type and the setter has the {@code (Object,Object)void} type
+     * regardless of whether the field is static. If a handle can not be created, for example
+     * because the field belongs to a module that is not open, the field is accessed
+     * reflectively instead.
+     *
+     * @param field the field
+     * @return an array containing the getter and setter method handles
+     */
+    static MethodHandle[] createAccessors(Field field) {
+        return doPrivileged((PrivilegedAction<MethodHandle[]>) () -> {
+            MethodHandle[] accessors = new MethodHandle[2];
+
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException e) {
+                //fallback to reflective access if the field can not be made accessible
+                return accessors;
+            }
+
+            boolean isStatic = Modifier.isStatic(field.getModifiers());
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            try {
+                MethodHandle getter = lookup.unreflectGetter(field);
+
+                if (isStatic) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+
+                accessors[0] = getter.asType(methodType(Object.class, Object.class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                //fallback to reflective access
+            }
+
+            try {
+                MethodHandle setter = lookup.unreflectSetter(field);
+
+                if (isStatic) {
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+
+                accessors[1] = setter.asType(
+                        methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                //final fields can not be set through a method handle
+            }
+
+            return accessors;
+        });
+    }
+
 }
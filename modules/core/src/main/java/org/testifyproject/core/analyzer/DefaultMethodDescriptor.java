@@ -15,32 +15,43 @@
  */
 package org.testifyproject.core.analyzer;
 
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.security.AccessController.doPrivileged;
 import static java.util.Optional.ofNullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.PrivilegedAction;
 import java.util.Optional;
 
 import org.testifyproject.MethodDescriptor;
+import org.testifyproject.TestifyException;
 import org.testifyproject.annotation.Name;
 
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
- * A descriptor class used to access or perform operations on test class methods.
+ * A descriptor class used to access or perform operations on test class methods. The method
+ * handle used to invoke the method is created once when the descriptor is created so that
+ * invoking the method does not require reflection.
  *
  * @author saden
  */
-@ToString(doNotUseGetters = true)
-@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true, of = {"method", "instance"})
+@EqualsAndHashCode(doNotUseGetters = true, of = {"method", "instance"})
 public class DefaultMethodDescriptor implements MethodDescriptor {
 
     private final Method method;
     private final Object instance;
+    private final MethodHandle invoker;
 
     DefaultMethodDescriptor(Method method, Object instance) {
         this.method = method;
         this.instance = instance;
+        this.invoker = createInvoker(method);
     }
 
     /**
@@ -85,4 +96,56 @@ public class DefaultMethodDescriptor implements MethodDescriptor {
         return name.value();
     }
 
+    @Override
+    public <T> Optional<T> invoke(Object instance, Object... args) {
+        if (invoker == null) {
+            return MethodDescriptor.super.invoke(instance, args);
+        }
+
+        Object[] arguments = args == null ? new Object[0] : args;
+
+        if (arguments.length != method.getParameterCount()) {
+            throw TestifyException.of(new IllegalArgumentException(
+                    "wrong number of arguments"));
+        }
+
+        try {
+            return ofNullable((T) (Object) invoker.invokeExact(instance, arguments));
+        } catch (Throwable e) {
+            throw TestifyException.of(e);
+        }
+    }
+
+    /**
+     * Create the method handle used to invoke the given method. The method handle has the
+     * {@code (Object,Object[])Object} type regardless of whether the method is static. If a
+     * method handle can not be created, for example because the method belongs to a module
+     * that is not open, the method is invoked reflectively instead.
+     *
+     * @param method the method
+     * @return the method handle, null if one could not be created
+     */
+    static MethodHandle createInvoker(Method method) {
+        return doPrivileged((PrivilegedAction<MethodHandle>) () -> {
+            try {
+                method.setAccessible(true);
+
+                int parameterCount = method.getParameterCount();
+                MethodHandle invoker = MethodHandles.lookup()
+                        .unreflect(method)
+                        .asFixedArity();
+
+                if (Modifier.isStatic(method.getModifiers())) {
+                    invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+                }
+
+                return invoker.asType(genericMethodType(parameterCount + 1))
+                        .asSpreader(Object[].class, parameterCount);
+            } catch (IllegalAccessException | RuntimeException e) {
+                //fallback to reflective invocation
+                return null;
+            }
+        });
+    }
+
 }
@@ -21,13 +21,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
 import org.testifyproject.FieldDescriptor;
 import org.testifyproject.ParameterDescriptor;
 import org.testifyproject.SutDescriptor;
+import org.testifyproject.core.PropertyKey;
+import org.testifyproject.core.PropertySchema;
+import org.testifyproject.core.PropertyStore;
 import org.testifyproject.guava.common.reflect.TypeToken;
 
 import lombok.EqualsAndHashCode;
@@ -43,6 +46,20 @@ import lombok.ToString;
 @EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
 public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutDescriptor {
 
+    private static final PropertySchema SCHEMA = SutDescriptorProperties.SCHEMA;
+    private static final PropertyKey<Constructor> CONSTRUCTOR =
+            SCHEMA.key(SutDescriptorProperties.CONSTRUCTOR);
+    private static final PropertyKey<Collection<FieldDescriptor>> FIELD_DESCRIPTORS =
+            SCHEMA.key(SutDescriptorProperties.FIELD_DESCRIPTORS);
+    private static final PropertyKey<Map<DescriptorKey, FieldDescriptor>>
+            FIELD_DESCRIPTORS_CACHE =
+                    SCHEMA.key(SutDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+    private static final PropertyKey<Collection<ParameterDescriptor>> PARAMETER_DESCRIPTORS =
+            SCHEMA.key(SutDescriptorProperties.PARAMETER_DESCRIPTORS);
+    private static final PropertyKey<Map<DescriptorKey, ParameterDescriptor>>
+            PARAMETER_DESCRIPTORS_CACHE =
+                    SCHEMA.key(SutDescriptorProperties.PARAMETER_DESCRIPTORS_CACHE);
+
     private final Map<String, Object> properties;
 
     DefaultSutDescriptor(Field field, Map<String, Object> properties) {
@@ -57,7 +74,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
      * @return a sut descriptor instance
      */
     public static DefaultSutDescriptor of(Field field) {
-        return new DefaultSutDescriptor(field, new LinkedHashMap<>());
+        return new DefaultSutDescriptor(field, PropertyStore.of(SCHEMA));
     }
 
     /**
@@ -83,7 +100,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
 
     @Override
     public Constructor getConstructor() {
-        return getProperty(SutDescriptorProperties.CONSTRUCTOR);
+        return CONSTRUCTOR.get(properties);
     }
 
     @Override
@@ -94,7 +111,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
     @Override
     public Optional<FieldDescriptor> findFieldDescriptor(Type type) {
         Map<DescriptorKey, FieldDescriptor> fieldDescriptors =
-                findMap(SutDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+                FIELD_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type);
         FieldDescriptor fieldDescriptor = fieldDescriptors.get(descriptorKey);
@@ -102,7 +119,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
         //XXX: maybe the type is a subtype of a field? maybe we are trying to be
         //too smart for our own good here?
         if (fieldDescriptor == null) {
-            fieldDescriptor = fieldDescriptors.values().parallelStream()
+            fieldDescriptor = fieldDescriptors.values().stream()
                     .filter(p -> p.isSupertypeOf(type))
                     .findFirst()
                     .orElse(null);
@@ -114,7 +131,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
     @Override
     public Optional<FieldDescriptor> findFieldDescriptor(Type type, String name) {
         Map<DescriptorKey, FieldDescriptor> fieldDescriptors =
-                findMap(SutDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+                FIELD_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type, name);
         FieldDescriptor fieldDescriptor = fieldDescriptors.get(descriptorKey);
@@ -124,13 +141,13 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
 
     @Override
     public Collection<FieldDescriptor> getFieldDescriptors() {
-        return findCollection(SutDescriptorProperties.FIELD_DESCRIPTORS);
+        return FIELD_DESCRIPTORS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Optional<ParameterDescriptor> findParameterDescriptor(Type type) {
         Map<DescriptorKey, ParameterDescriptor> paramterDescriptors =
-                findMap(SutDescriptorProperties.PARAMETER_DESCRIPTORS_CACHE);
+                PARAMETER_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type);
         ParameterDescriptor parameterDescriptor = paramterDescriptors.get(descriptorKey);
@@ -138,7 +155,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
         //XXX: maybe the type is a subtype of a field? maybe we are trying to be
         //too smart for our own good here?
         if (parameterDescriptor == null) {
-            parameterDescriptor = paramterDescriptors.values().parallelStream()
+            parameterDescriptor = paramterDescriptors.values().stream()
                     .filter(p -> p.isSupertypeOf(type))
                     .findFirst()
                     .orElse(null);
@@ -150,7 +167,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
     @Override
     public Optional<ParameterDescriptor> findParameterDescriptor(Type type, String name) {
         Map<DescriptorKey, ParameterDescriptor> paramterDescriptors =
-                findMap(SutDescriptorProperties.PARAMETER_DESCRIPTORS_CACHE);
+                PARAMETER_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type, name);
         ParameterDescriptor parameterDescriptor = paramterDescriptors.get(descriptorKey);
@@ -160,7 +177,7 @@ public class DefaultSutDescriptor extends DefaultFieldDescriptor implements SutD
 
     @Override
     public Collection<ParameterDescriptor> getParameterDescriptors() {
-        return findCollection(SutDescriptorProperties.PARAMETER_DESCRIPTORS);
+        return PARAMETER_DESCRIPTORS.getOrDefault(properties, Collections.emptyList());
     }
 
 }
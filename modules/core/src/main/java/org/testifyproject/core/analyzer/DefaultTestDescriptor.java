@@ -21,8 +21,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +41,9 @@ import org.testifyproject.annotation.Name;
 import org.testifyproject.annotation.RemoteResource;
 import org.testifyproject.annotation.Scan;
 import org.testifyproject.annotation.VirtualResource;
+import org.testifyproject.core.PropertyKey;
+import org.testifyproject.core.PropertySchema;
+import org.testifyproject.core.PropertyStore;
 import org.testifyproject.core.util.LoggingUtil;
 
 import lombok.EqualsAndHashCode;
@@ -55,6 +58,41 @@ import lombok.ToString;
 @EqualsAndHashCode(doNotUseGetters = true)
 public class DefaultTestDescriptor implements TestDescriptor {
 
+    private static final PropertySchema SCHEMA = TestDescriptorProperties.SCHEMA;
+    private static final PropertyKey<Application> APPLICATION =
+            SCHEMA.key(TestDescriptorProperties.APPLICATION);
+    private static final PropertyKey<Field> SUT_FIELD =
+            SCHEMA.key(TestDescriptorProperties.SUT_FIELD);
+    private static final PropertyKey<Collection<Module>> MODULES =
+            SCHEMA.key(TestDescriptorProperties.MODULES);
+    private static final PropertyKey<Collection<Scan>> SCANS =
+            SCHEMA.key(TestDescriptorProperties.SCANS);
+    private static final PropertyKey<Collection<LocalResource>> LOCAL_RESOURCES =
+            SCHEMA.key(TestDescriptorProperties.LOCAL_RESOURCES);
+    private static final PropertyKey<Collection<VirtualResource>> VIRTUAL_RESOURCES =
+            SCHEMA.key(TestDescriptorProperties.VIRTUAL_RESOURCES);
+    private static final PropertyKey<Collection<RemoteResource>> REMOTE_RESOURCES =
+            SCHEMA.key(TestDescriptorProperties.REMOTE_RESOURCES);
+    private static final PropertyKey<Collection<Annotation>> INSPECTED_ANNOTATIONS =
+            SCHEMA.key(TestDescriptorProperties.INSPECTED_ANNOTATIONS);
+    private static final PropertyKey<Collection<Class<? extends Annotation>>>
+            GUIDELINE_ANNOTATIONS = SCHEMA.key(TestDescriptorProperties.GUIDELINE_ANNOTATIONS);
+    private static final PropertyKey<Hint> HINT_ANNOTATION =
+            SCHEMA.key(TestDescriptorProperties.HINT_ANNOTATION);
+    private static final PropertyKey<CollaboratorProvider> COLLABORATOR_PROVIDER =
+            SCHEMA.key(TestDescriptorProperties.COLLABORATOR_PROVIDER);
+    private static final PropertyKey<Collection<MethodDescriptor>> COLLABORATOR_PROVIDERS =
+            SCHEMA.key(TestDescriptorProperties.COLLABORATOR_PROVIDERS);
+    private static final PropertyKey<ConfigHandler> CONFIG_HANDLER =
+            SCHEMA.key(TestDescriptorProperties.CONFIG_HANDLER);
+    private static final PropertyKey<Collection<MethodDescriptor>> CONFIG_HANDLERS =
+            SCHEMA.key(TestDescriptorProperties.CONFIG_HANDLERS);
+    private static final PropertyKey<Collection<FieldDescriptor>> FIELD_DESCRIPTORS =
+            SCHEMA.key(TestDescriptorProperties.FIELD_DESCRIPTORS);
+    private static final PropertyKey<Map<DescriptorKey, FieldDescriptor>>
+            FIELD_DESCRIPTORS_CACHE =
+                    SCHEMA.key(TestDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+
     private final Map<String, Object> properties;
     private final Class<?> testClass;
 
@@ -70,7 +108,7 @@ public class DefaultTestDescriptor implements TestDescriptor {
      * @return a test descriptor instance
      */
     public static TestDescriptor of(Class<?> testClass) {
-        return new DefaultTestDescriptor(testClass, new LinkedHashMap<>());
+        return new DefaultTestDescriptor(testClass, PropertyStore.of(SCHEMA));
     }
 
     /**
@@ -111,83 +149,83 @@ public class DefaultTestDescriptor implements TestDescriptor {
 
     @Override
     public Optional<Application> getApplication() {
-        return findProperty(TestDescriptorProperties.APPLICATION);
+        return APPLICATION.find(properties);
     }
 
     @Override
     public Optional<Field> getSutField() {
-        return findProperty(TestDescriptorProperties.SUT_FIELD);
+        return SUT_FIELD.find(properties);
     }
 
     @Override
     public Collection<Module> getModules() {
-        return findCollection(TestDescriptorProperties.MODULES);
+        return MODULES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<Scan> getScans() {
-        return findCollection(TestDescriptorProperties.SCANS);
+        return SCANS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<LocalResource> getLocalResources() {
-        return findCollection(TestDescriptorProperties.LOCAL_RESOURCES);
+        return LOCAL_RESOURCES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<VirtualResource> getVirtualResources() {
-        return findCollection(TestDescriptorProperties.VIRTUAL_RESOURCES);
+        return VIRTUAL_RESOURCES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<RemoteResource> getRemoteResources() {
-        return findCollection(TestDescriptorProperties.REMOTE_RESOURCES);
+        return REMOTE_RESOURCES.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<Annotation> getInspectedAnnotations() {
-        return findCollection(TestDescriptorProperties.INSPECTED_ANNOTATIONS);
+        return INSPECTED_ANNOTATIONS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<Class<? extends Annotation>> getGuidelines() {
-        return findCollection(TestDescriptorProperties.GUIDELINE_ANNOTATIONS);
+        return GUIDELINE_ANNOTATIONS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Optional<Hint> getHint() {
-        return findProperty(TestDescriptorProperties.HINT_ANNOTATION);
+        return HINT_ANNOTATION.find(properties);
     }
 
     @Override
     public Optional<CollaboratorProvider> getCollaboratorProvider() {
-        return findProperty(TestDescriptorProperties.COLLABORATOR_PROVIDER);
+        return COLLABORATOR_PROVIDER.find(properties);
     }
 
     @Override
     public Collection<MethodDescriptor> getCollaboratorProviders() {
-        return findCollection(TestDescriptorProperties.COLLABORATOR_PROVIDERS);
+        return COLLABORATOR_PROVIDERS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Optional<ConfigHandler> getConfigHandler() {
-        return findProperty(TestDescriptorProperties.CONFIG_HANDLER);
+        return CONFIG_HANDLER.find(properties);
     }
 
     @Override
     public Collection<MethodDescriptor> getConfigHandlers() {
-        return findCollection(TestDescriptorProperties.CONFIG_HANDLERS);
+        return CONFIG_HANDLERS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Collection<FieldDescriptor> getFieldDescriptors() {
-        return findCollection(TestDescriptorProperties.FIELD_DESCRIPTORS);
+        return FIELD_DESCRIPTORS.getOrDefault(properties, Collections.emptyList());
     }
 
     @Override
     public Optional<FieldDescriptor> findFieldDescriptor(Type type) {
         Map<DescriptorKey, FieldDescriptor> fieldDescriptors =
-                findMap(TestDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+                FIELD_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type);
         FieldDescriptor foundFieldDescriptor = fieldDescriptors.get(descriptorKey);
@@ -196,7 +234,7 @@ public class DefaultTestDescriptor implements TestDescriptor {
             //TODO: Not sure if we should be this lose in the event we don't
             //find a matching field descriptor. Need to evaluate if this code
             //is useful or harmful.
-            foundFieldDescriptor = fieldDescriptors.values().parallelStream()
+            foundFieldDescriptor = fieldDescriptors.values().stream()
                     .filter(fieldDescriptor -> fieldDescriptor.isSupertypeOf(type))
                     .findFirst()
                     .orElse(null);
@@ -208,7 +246,7 @@ public class DefaultTestDescriptor implements TestDescriptor {
     @Override
     public Optional<FieldDescriptor> findFieldDescriptor(Type type, String name) {
         Map<DescriptorKey, FieldDescriptor> fieldDescriptors =
-                findMap(TestDescriptorProperties.FIELD_DESCRIPTORS_CACHE);
+                FIELD_DESCRIPTORS_CACHE.getOrDefault(properties, Collections.emptyMap());
 
         DescriptorKey descriptorKey = DescriptorKey.of(type, name);
         FieldDescriptor foundFieldDescriptor = fieldDescriptors.get(descriptorKey);
@@ -219,7 +257,7 @@ public class DefaultTestDescriptor implements TestDescriptor {
     @Override
     public Optional<MethodDescriptor> findConfigHandler(Type parameterType) {
         return getConfigHandlers()
-                .parallelStream()
+                .stream()
                 .filter(methodDescriptor -> methodDescriptor.hasParameterTypes(parameterType))
                 .findFirst();
     }
@@ -227,7 +265,7 @@ public class DefaultTestDescriptor implements TestDescriptor {
     @Override
     public Optional<MethodDescriptor> findCollaboratorProvider(Type returnType) {
         return getCollaboratorProviders()
-                .parallelStream()
+                .stream()
                 .filter(methodDescriptor -> !methodDescriptor.hasAnyAnnotations(Name.class))
                 .filter(methodDescriptor -> methodDescriptor.hasReturnType(returnType))
                 .findFirst();
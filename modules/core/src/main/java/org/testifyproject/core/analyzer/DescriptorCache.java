@@ -0,0 +1,318 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.analyzer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.testifyproject.asm.ClassReader;
+import org.testifyproject.asm.ClassVisitor;
+import org.testifyproject.core.util.LoggingUtil;
+import org.testifyproject.core.util.SettingUtil;
+
+/**
+ * <p>
+ * A cache of class analysis results that is persisted between JVM runs. Analyzing a class
+ * requires reading and parsing its bytecode and resolving all of its method parameter types.
+ * Since the result of the analysis only depends on the class, the class annotations, fields
+ * and methods visited by an analyzer are recorded and stored in a file keyed by a hash of the
+ * class bytes. When the class has not changed the analysis is replayed from the file instead
+ * of parsing the class. Note that methods that are neither constructors nor annotated do not
+ * contribute to the analysis and are not replayed.
+ * </p>
+ * <p>
+ * By default the cache is stored in the {@code testify-cache} directory next to the build
+ * output directory of the test class (i.e. {@code target/testify-cache}). The location of the
+ * cache can be changed through the {@code testify.descriptor.cache} system property and the
+ * cache can be disabled by setting the property to {@code false}.
+ * </p>
+ *
+ * @author saden
+ */
+public class DescriptorCache {
+
+    public static final DescriptorCache INSTANCE = new DescriptorCache(SettingUtil.INSTANCE);
+
+    private static final String CACHE_DIRECTORY = "testify-cache";
+    private static final String CACHE_EXTENSION = ".descriptor";
+    private static final String HASH_ENTRY = "H";
+
+    private final SettingUtil settingUtil;
+
+    DescriptorCache(SettingUtil settingUtil) {
+        this.settingUtil = settingUtil;
+    }
+
+    /**
+     * Analyze the given type using the given analyzer. If the analysis of the type was cached
+     * by a previous run and the type has not changed since then the analysis is replayed
+     * otherwise the type is read and the analysis is cached.
+     *
+     * @param ownerClass the test class that determines the location of the cache
+     * @param type the type being analyzed
+     * @param analyzer the class visitor that performs the analysis
+     * @throws IOException an exception thrown if the type could not be read
+     */
+    public void analyze(Class<?> ownerClass, Class<?> type, ClassVisitor analyzer)
+            throws IOException {
+        byte[] bytes = readClass(type);
+        Optional<Path> foundCacheFile = getCacheFile(ownerClass, type);
+
+        if (!foundCacheFile.isPresent()) {
+            new ClassReader(bytes).accept(analyzer, ClassReader.SKIP_DEBUG);
+
+            return;
+        }
+
+        Path cacheFile = foundCacheFile.get();
+        String hash = hash(bytes);
+        Optional<List<String>> foundEntries = readEntries(cacheFile, hash);
+
+        if (foundEntries.isPresent()) {
+            replay(foundEntries.get(), analyzer);
+        } else {
+            DescriptorRecorder recorder = new DescriptorRecorder(analyzer);
+            new ClassReader(bytes).accept(recorder, ClassReader.SKIP_DEBUG);
+
+            writeEntries(cacheFile, hash, recorder.getEntries());
+        }
+    }
+
+    /**
+     * Replay the given recorded entries using the given analyzer.
+     *
+     * @param entries the recorded entries
+     * @param analyzer the class visitor that performs the analysis
+     */
+    void replay(List<String> entries, ClassVisitor analyzer) {
+        for (String entry : entries) {
+            String[] values = entry.split(" ");
+
+            switch (values[0]) {
+                case DescriptorRecorder.ANNOTATION_ENTRY:
+                    analyzer.visitAnnotation(values[1], Boolean.valueOf(values[2]));
+                    break;
+                case DescriptorRecorder.FIELD_ENTRY:
+                    analyzer.visitField(0, values[1], null, null, null);
+                    break;
+                case DescriptorRecorder.METHOD_ENTRY:
+                    if (values.length > 3
+                            || TestClassAnalyzer.CONSTRUCTOR_NAME.equals(values[1])) {
+                        analyzer.visitMethod(0, values[1], values[2], null, null);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        analyzer.visitEnd();
+    }
+
+    /**
+     * Get the file in which the analysis of the given type is cached.
+     *
+     * @param ownerClass the test class that determines the location of the cache
+     * @param type the type being analyzed
+     * @return an optional containing the cache file, empty optional if caching is disabled
+     */
+    Optional<Path> getCacheFile(Class<?> ownerClass, Class<?> type) {
+        if (isDisabled()) {
+            return Optional.empty();
+        }
+
+        String cache = settingUtil.getDescriptorCache();
+
+        Optional<Path> cacheDirectory;
+
+        if (cache.isEmpty()) {
+            cacheDirectory = getOutputDirectory(ownerClass)
+                    .map(p -> p.resolveSibling(CACHE_DIRECTORY));
+        } else {
+            cacheDirectory = Optional.of(Paths.get(cache));
+        }
+
+        return cacheDirectory.map(p -> p.resolve(type.getName() + CACHE_EXTENSION));
+    }
+
+    /**
+     * Get the build output directory the given class was loaded from.
+     *
+     * @param ownerClass the class
+     * @return an optional containing the output directory, empty optional if the class was
+     * not loaded from a directory
+     */
+    Optional<Path> getOutputDirectory(Class<?> ownerClass) {
+        try {
+            CodeSource codeSource = ownerClass.getProtectionDomain().getCodeSource();
+
+            if (codeSource != null && codeSource.getLocation() != null) {
+                URL location = codeSource.getLocation();
+
+                if ("file".equals(location.getProtocol())) {
+                    Path path = Paths.get(location.toURI());
+
+                    if (Files.isDirectory(path) && path.getParent() != null) {
+                        return Optional.of(path);
+                    }
+                }
+            }
+        } catch (SecurityException | URISyntaxException e) {
+            LoggingUtil.INSTANCE.debug("Could not determine output directory of '{}'",
+                    ownerClass.getName(), e);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Read the entries of the given cache file if the file was created for a class with the
+     * given hash.
+     *
+     * @param cacheFile the cache file
+     * @param hash the hash of the class bytes
+     * @return an optional containing the entries, empty optional otherwise
+     */
+    Optional<List<String>> readEntries(Path cacheFile, String hash) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(cacheFile, UTF_8);
+
+            if (lines.isEmpty() || !lines.get(0).equals(HASH_ENTRY + " " + hash)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(lines.subList(1, lines.size()));
+        } catch (IOException e) {
+            LoggingUtil.INSTANCE.debug("Could not read descriptor cache file '{}'",
+                    cacheFile, e);
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the given entries to the given cache file. The entries are written to a temporary
+     * file that is then moved in place so that concurrent test JVMs never read a partially
+     * written cache file.
+     *
+     * @param cacheFile the cache file
+     * @param hash the hash of the class bytes
+     * @param entries the recorded entries
+     */
+    void writeEntries(Path cacheFile, String hash, List<String> entries) {
+        try {
+            Path directory = cacheFile.getParent();
+            Files.createDirectories(directory);
+
+            List<String> lines = new ArrayList<>(entries.size() + 1);
+            lines.add(HASH_ENTRY + " " + hash);
+            lines.addAll(entries);
+
+            Path tempFile = Files.createTempFile(directory,
+                    cacheFile.getFileName().toString(), ".tmp");
+
+            try {
+                Files.write(tempFile, lines, UTF_8);
+                Files.move(tempFile, cacheFile,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            LoggingUtil.INSTANCE.debug("Could not write descriptor cache file '{}'",
+                    cacheFile, e);
+        }
+    }
+
+    /**
+     * Read the bytes of the given class.
+     *
+     * @param type the class
+     * @return the class bytes
+     * @throws IOException an exception thrown if the class could not be read
+     */
+    byte[] readClass(Class<?> type) throws IOException {
+        String resourceName = type.getName().replace('.', '/') + ".class";
+
+        try (InputStream inputStream = getClassLoader(type).getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IOException("Class '" + type.getName() + "' could not be read");
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+
+            return outputStream.toByteArray();
+        }
+    }
+
+    ClassLoader getClassLoader(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+
+        return classLoader;
+    }
+
+    boolean isDisabled() {
+        return "false".equalsIgnoreCase(settingUtil.getDescriptorCache());
+    }
+
+    /**
+     * Compute the hash of the given class bytes.
+     *
+     * @param bytes the class bytes
+     * @return the hex encoded hash
+     */
+    String hash(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            return new BigInteger(1, digest.digest(bytes)).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.analyzer;
+
+import static org.testifyproject.asm.Opcodes.ASM5;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testifyproject.asm.AnnotationVisitor;
+import org.testifyproject.asm.ClassVisitor;
+import org.testifyproject.asm.FieldVisitor;
+import org.testifyproject.asm.MethodVisitor;
+
+/**
+ * A class visitor that records the class annotations, fields, and methods visited while
+ * delegating to an analyzer so that the analysis can later be replayed by
+ * {@link DescriptorCache} without reading the class.
+ *
+ * @author saden
+ */
+public class DescriptorRecorder extends ClassVisitor {
+
+    public static final String ANNOTATION_ENTRY = "A";
+    public static final String FIELD_ENTRY = "F";
+    public static final String METHOD_ENTRY = "M";
+
+    private final List<List<String>> annotations;
+    private final List<String> fields;
+    private final List<List<String>> methods;
+
+    public DescriptorRecorder(ClassVisitor analyzer) {
+        super(ASM5, analyzer);
+        this.annotations = new ArrayList<>();
+        this.fields = new ArrayList<>();
+        this.methods = new ArrayList<>();
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+        List<String> annotation = new ArrayList<>();
+        annotation.add(desc);
+        annotation.add(String.valueOf(visible));
+        annotations.add(annotation);
+
+        return super.visitAnnotation(desc, visible);
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String desc, String signature,
+            Object value) {
+        fields.add(name);
+
+        return super.visitField(access, name, desc, signature, value);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc, String signature,
+            String[] exceptions) {
+        List<String> method = new ArrayList<>();
+        method.add(name);
+        method.add(desc);
+        methods.add(method);
+
+        super.visitMethod(access, name, desc, signature, exceptions);
+
+        //record the annotations of the method so that methods that are not annotated
+        //can be skipped when the analysis is replayed
+        return new MethodVisitor(ASM5) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String annotationDesc, boolean visible) {
+                if (visible) {
+                    method.add(annotationDesc);
+                }
+
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Get the recorded entries. Each entry is a space separated line that starts with the
+     * entry type followed by the entry values.
+     *
+     * @return a list of recorded entries
+     */
+    public List<String> getEntries() {
+        List<String> entries = new ArrayList<>();
+
+        annotations.forEach(p -> entries.add(ANNOTATION_ENTRY + " " + String.join(" ", p)));
+        fields.forEach(p -> entries.add(FIELD_ENTRY + " " + p));
+        methods.forEach(p -> entries.add(METHOD_ENTRY + " " + String.join(" ", p)));
+
+        return entries;
+    }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.testifyproject.core.analyzer;
 
+import org.testifyproject.core.PropertySchema;
+
 /**
  * A class that defines test descriptor property keys.
  *
@@ -46,6 +48,16 @@ public class SutDescriptorProperties {
      */
     public static final String PARAMETER_DESCRIPTORS_CACHE = "paramterDescriptorsCache";
 
+    /**
+     * Sut Descriptor property schema that declares all of the property keys above.
+     */
+    public static final PropertySchema SCHEMA = PropertySchema.of(
+            CONSTRUCTOR,
+            FIELD_DESCRIPTORS,
+            FIELD_DESCRIPTORS_CACHE,
+            PARAMETER_DESCRIPTORS,
+            PARAMETER_DESCRIPTORS_CACHE);
+
     private SutDescriptorProperties() {
     }
 }
@@ -23,11 +23,9 @@ import static org.testifyproject.asm.Opcodes.ASM5;
 import static org.testifyproject.asm.Type.getMethodType;
 import static org.testifyproject.asm.Type.getType;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.PrivilegedAction;
-import java.util.List;
 
 import org.testifyproject.FieldDescriptor;
 import org.testifyproject.MethodDescriptor;
@@ -43,9 +41,6 @@ import org.testifyproject.asm.MethodVisitor;
 import org.testifyproject.asm.Type;
 import org.testifyproject.core.util.ExceptionUtil;
 import org.testifyproject.core.util.ReflectionUtil;
-import org.testifyproject.core.util.ServiceLocatorUtil;
-import org.testifyproject.extension.AnnotationInspector;
-import org.testifyproject.extension.annotation.Handles;
 
 /**
  * A class visitor implementation that performs analysis on the test class.
@@ -71,30 +66,18 @@ public class TestClassAnalyzer extends ClassVisitor {
     public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
         Type type = getType(desc);
         Class annotationClass = getClass(type.getClassName());
-        List<AnnotationInspector> inspectors = ServiceLocatorUtil.INSTANCE.getAll(
-                AnnotationInspector.class);
+        AnnotationInspectorTable inspectorTable = AnnotationInspectorTable.INSTANCE;
 
         return doPrivileged((PrivilegedAction<AnnotationVisitor>) () -> {
+            inspectorTable.getInspectors(annotationClass).forEach(inspector
+                    -> inspector.inspect(testDescriptor, testClass,
+                            testClass.getDeclaredAnnotation(annotationClass)));
+
             //if the annotation class is annotated with Bundle meta annotation
             //then inspect anotations on the annotation class
-            inspectors.forEach(inspector -> {
-                Handles handles = inspector.getClass().getDeclaredAnnotation(Handles.class);
-                if (handles != null) {
-                    Class<? extends Annotation>[] typesHandled = handles.value();
-
-                    for (Class<? extends Annotation> typeHandled : typesHandled) {
-
-                        if (typeHandled.isAssignableFrom(annotationClass)) {
-                            inspector.inspect(testDescriptor, testClass, testClass
-                                    .getDeclaredAnnotation(annotationClass));
-                        } else if (typeHandled.equals(Bundle.class) && annotationClass
-                                .isAnnotationPresent(Bundle.class)) {
-                            inspector.inspect(testDescriptor, annotationClass, annotationClass
-                                    .getDeclaredAnnotation(Bundle.class));
-                        }
-                    }
-                }
-            });
+            inspectorTable.getBundleInspectors(annotationClass).forEach(inspector
+                    -> inspector.inspect(testDescriptor, annotationClass,
+                            annotationClass.getDeclaredAnnotation(Bundle.class)));
 
             return null;
         });
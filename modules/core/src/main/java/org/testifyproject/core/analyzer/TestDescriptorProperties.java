@@ -15,6 +15,8 @@
  */
 package org.testifyproject.core.analyzer;
 
+import org.testifyproject.core.PropertySchema;
+
 /**
  * A class that defines test descriptor property keys.
  *
@@ -102,6 +104,27 @@ public class TestDescriptorProperties {
      */
     public static final String HINT_ANNOTATION = "hintAnnotation";
 
+    /**
+     * Test Descriptor property schema that declares all of the property keys above.
+     */
+    public static final PropertySchema SCHEMA = PropertySchema.of(
+            APPLICATION,
+            COLLABORATOR_PROVIDER,
+            COLLABORATOR_PROVIDERS,
+            CONFIG_HANDLER,
+            CONFIG_HANDLERS,
+            MODULES,
+            SCANS,
+            LOCAL_RESOURCES,
+            VIRTUAL_RESOURCES,
+            REMOTE_RESOURCES,
+            SUT_FIELD,
+            FIELD_DESCRIPTORS,
+            FIELD_DESCRIPTORS_CACHE,
+            INSPECTED_ANNOTATIONS,
+            GUIDELINE_ANNOTATIONS,
+            HINT_ANNOTATION);
+
     private TestDescriptorProperties() {
     }
 }
@@ -16,13 +16,12 @@
 package org.testifyproject.core.analyzer.inspector;
 
 import java.lang.annotation.Annotation;
-import java.util.List;
 
 import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Bundle;
 import org.testifyproject.annotation.Discoverable;
+import org.testifyproject.core.analyzer.AnnotationInspectorTable;
 import org.testifyproject.core.analyzer.TestDescriptorProperties;
-import org.testifyproject.core.util.ServiceLocatorUtil;
 import org.testifyproject.extension.AnnotationInspector;
 import org.testifyproject.extension.annotation.Handles;
 
@@ -37,8 +36,7 @@ public class BundleInspector implements AnnotationInspector<Bundle> {
 
     @Override
     public void inspect(TestDescriptor testDescriptor, Class<?> annotatedType, Bundle bundle) {
-        List<AnnotationInspector> inspectors = ServiceLocatorUtil.INSTANCE.getAll(
-                AnnotationInspector.class);
+        AnnotationInspectorTable inspectorTable = AnnotationInspectorTable.INSTANCE;
         Annotation[] annotations = annotatedType.getDeclaredAnnotations();
 
         for (Annotation annotation : annotations) {
@@ -48,25 +46,18 @@ public class BundleInspector implements AnnotationInspector<Bundle> {
 
             Class<? extends Annotation> annotationClass = annotation.annotationType();
 
-            inspectors.forEach((inspector) -> {
-                Handles handles = inspector.getClass().getDeclaredAnnotation(Handles.class);
-                Class<? extends Annotation>[] typesHandled = handles.value();
-
-                for (Class<? extends Annotation> typeHandled : typesHandled) {
-                    if (typeHandled.isAssignableFrom(annotationClass)) {
-                        Annotation foundAnnotation = annotatedType.getDeclaredAnnotation(
-                                annotationClass);
-                        inspector.inspect(testDescriptor, annotatedType, foundAnnotation);
-                        testDescriptor.addCollectionElement(
-                                TestDescriptorProperties.INSPECTED_ANNOTATIONS, foundAnnotation);
-                    } else if (typeHandled.equals(Bundle.class) && annotationClass
-                            .isAnnotationPresent(Bundle.class)) {
-                        Annotation foundAnnotation = annotationClass.getDeclaredAnnotation(
-                                Bundle.class);
-                        inspector.inspect(testDescriptor, annotationClass, foundAnnotation);
-                    }
-                }
+            inspectorTable.getInspectors(annotationClass).forEach(inspector -> {
+                Annotation foundAnnotation = annotatedType.getDeclaredAnnotation(
+                        annotationClass);
+                inspector.inspect(testDescriptor, annotatedType, foundAnnotation);
+                testDescriptor.addCollectionElement(
+                        TestDescriptorProperties.INSPECTED_ANNOTATIONS, foundAnnotation);
+            });
 
+            inspectorTable.getBundleInspectors(annotationClass).forEach(inspector -> {
+                Annotation foundAnnotation = annotationClass.getDeclaredAnnotation(
+                        Bundle.class);
+                inspector.inspect(testDescriptor, annotationClass, foundAnnotation);
             });
         }
     }
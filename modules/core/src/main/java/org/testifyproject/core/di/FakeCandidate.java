@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.di;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.guava.common.reflect.TypeToken;
+
+/**
+ * A precomputed resolution of a required injection type against a {@link
+ * org.testifyproject.annotation.Fake fake} test class field. A candidate either provides the
+ * value of the test class field, if the field is assignable to the required type and
+ * initialized, or a new fake instance of the required type. Injection resolvers are called on
+ * every injection (i.e. every request scoped resource instantiation) so they resolve the
+ * candidates of a required type once and memoize them, including required types no fake field
+ * can satisfy.
+ *
+ * @author saden
+ */
+public class FakeCandidate {
+
+    private final FieldDescriptor fieldDescriptor;
+    private final boolean valueAssignable;
+    private final Class<?> fakeType;
+
+    FakeCandidate(FieldDescriptor fieldDescriptor, boolean valueAssignable, Class<?> fakeType) {
+        this.fieldDescriptor = fieldDescriptor;
+        this.valueAssignable = valueAssignable;
+        this.fakeType = fakeType;
+    }
+
+    /**
+     * Create a new fake candidate.
+     *
+     * @param fieldDescriptor the fake test class field descriptor
+     * @param valueAssignable true if the field value is assignable to the required type
+     * @param fakeType the type of the fake instance to create, null if a fake instance should
+     * not be created
+     * @return a new fake candidate instance
+     */
+    public static FakeCandidate of(FieldDescriptor fieldDescriptor, boolean valueAssignable,
+            Class<?> fakeType) {
+        return new FakeCandidate(fieldDescriptor, valueAssignable, fakeType);
+    }
+
+    /**
+     * Determine, in test class field order, the fake test class fields that can satisfy the
+     * given required type. The search stops at the first field a fake instance can be created
+     * for since no subsequent field will ever be consulted.
+     *
+     * @param testDescriptor the test descriptor
+     * @param requiredType the required type
+     * @param rawTypeResolver a function that determines the raw type a fake field can create
+     * fake instances of (i.e. the provided type of a provider field)
+     * @return a list of fake candidates, empty list otherwise
+     */
+    public static List<FakeCandidate> resolve(TestDescriptor testDescriptor, Type requiredType,
+            Function<Type, TypeToken<?>> rawTypeResolver) {
+        List<FakeCandidate> candidates = new ArrayList<>();
+
+        for (FieldDescriptor fieldDescriptor : testDescriptor.getFieldDescriptors()) {
+            if (fieldDescriptor.getFake().isPresent()) {
+                Type fieldType = fieldDescriptor.getGenericType();
+                boolean valueAssignable = TypeToken.of(fieldType).isSupertypeOf(requiredType);
+                Class<?> fakeType = null;
+
+                if (rawTypeResolver.apply(fieldType).isSupertypeOf(requiredType)) {
+                    fakeType = TypeToken.of(requiredType).getRawType();
+                }
+
+                if (valueAssignable || fakeType != null) {
+                    candidates.add(of(fieldDescriptor, valueAssignable, fakeType));
+                }
+
+                if (fakeType != null) {
+                    break;
+                }
+            }
+        }
+
+        return candidates.isEmpty() ? Collections.emptyList() : candidates;
+    }
+
+    /**
+     * Get the fake test class field descriptor.
+     *
+     * @return the field descriptor
+     */
+    public FieldDescriptor getFieldDescriptor() {
+        return fieldDescriptor;
+    }
+
+    /**
+     * Determine whether the value of the field is assignable to the required type.
+     *
+     * @return true if the field value is assignable, false otherwise
+     */
+    public boolean isValueAssignable() {
+        return valueAssignable;
+    }
+
+    /**
+     * Get the type of the fake instance that should be created for the required type.
+     *
+     * @return the fake type, null if a fake instance should not be created
+     */
+    public Class<?> getFakeType() {
+        return fakeType;
+    }
+
+}
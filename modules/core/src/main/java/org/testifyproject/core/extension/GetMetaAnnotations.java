@@ -43,8 +43,8 @@ public class GetMetaAnnotations implements Operation<Annotation[]> {
 
     @Override
     public Annotation[] execute() {
-        return Stream.of(metaAnnotationTypes).parallel()
-                .flatMap(Collection::parallelStream)
+        return Stream.of(metaAnnotationTypes)
+                .flatMap(Collection::stream)
                 .distinct()
                 .map(annotationType -> {
                     Annotation declaredAnnotation =
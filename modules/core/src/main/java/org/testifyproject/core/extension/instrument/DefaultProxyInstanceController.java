@@ -55,7 +55,7 @@ public class DefaultProxyInstanceController implements ProxyInstanceController {
         ImmutableList.Builder<Instance> builder = ImmutableList.builder();
 
         serviceLocatorUtil.findAll(ProxyInstanceProvider.class).stream()
-                .flatMap(p -> p.get(testContext).parallelStream())
+                .flatMap(p -> p.get(testContext).stream())
                 .forEach(proxyInstance -> {
                     Class proxyType = proxyInstance.getType();
 
@@ -41,7 +41,7 @@ public class FakeCollaboratorReifier implements CollaboratorReifier {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
         MockProvider mockProvider = testContext.getMockProvider();
 
-        testDescriptor.getFieldDescriptors().parallelStream()
+        testDescriptor.getFieldDescriptors().stream()
                 .filter(p -> p.getFake().isPresent())
                 .forEach(fieldDescriptor -> {
                     Class<?> fieldType = fieldDescriptor.getType();
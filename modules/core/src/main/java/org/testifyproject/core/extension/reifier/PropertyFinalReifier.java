@@ -50,7 +50,7 @@ public class PropertyFinalReifier implements FinalReifier {
         Object testInstance = testContext.getTestInstance();
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
-        testDescriptor.getFieldDescriptors().parallelStream().forEach(fieldDescriptor -> {
+        testDescriptor.getFieldDescriptors().stream().forEach(fieldDescriptor -> {
             fieldDescriptor.getProperty().ifPresent(property -> {
                 String propertyValue = property.value();
                 Object value = testContext.getProperty(propertyValue);
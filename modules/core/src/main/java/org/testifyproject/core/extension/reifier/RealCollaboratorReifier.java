@@ -39,7 +39,7 @@ public class RealCollaboratorReifier implements CollaboratorReifier {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
         testContext.getSutDescriptor().ifPresent(sut -> {
-            testDescriptor.getFieldDescriptors().parallelStream()
+            testDescriptor.getFieldDescriptors().stream()
                     .filter(p -> p.getReal().isPresent())
                     .forEach(fieldDescriptor -> {
                         Class<?> fieldType = fieldDescriptor.getType();
@@ -48,7 +48,7 @@ public class ServiceFinalReifier implements FinalReifier {
             //if there are any fields on the test class that are not collaborators
             //of the sut class and are annotated with DI supported injection
             //annotations then get the services and initialize the test fields.
-            testContext.getTestDescriptor().getFieldDescriptors().parallelStream()
+            testContext.getTestDescriptor().getFieldDescriptors().stream()
                     .filter(fieldDescriptor -> !fieldDescriptor.getValue(testInstance)
                             .isPresent())
                     .filter(fieldDescriptor -> fieldDescriptor.hasAnyAnnotations(Real.class))
@@ -41,7 +41,7 @@ public class VirtualCollaboratorReifier implements CollaboratorReifier {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
         MockProvider mockProvider = testContext.getMockProvider();
 
-        testDescriptor.getFieldDescriptors().parallelStream()
+        testDescriptor.getFieldDescriptors().stream()
                 .filter(p -> p.getVirtual().isPresent())
                 .forEach(fieldDescriptor -> {
                     Class<?> fieldType = fieldDescriptor.getType();
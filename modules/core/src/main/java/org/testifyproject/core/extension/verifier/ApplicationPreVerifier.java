@@ -26,6 +26,7 @@ import org.testifyproject.core.util.ReflectionUtil;
 import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -38,6 +39,7 @@ import org.testifyproject.extension.annotation.SystemCategory;
 @Lenient
 @Loose
 @SystemCategory
+@Memoizable
 @Discoverable
 public class ApplicationPreVerifier implements PreVerifier {
 
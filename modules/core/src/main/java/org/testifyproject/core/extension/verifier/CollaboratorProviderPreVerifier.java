@@ -24,6 +24,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 import org.testifyproject.extension.annotation.UnitCategory;
@@ -39,6 +40,7 @@ import org.testifyproject.extension.annotation.UnitCategory;
 @UnitCategory
 @IntegrationCategory
 @SystemCategory
+@Memoizable
 @Discoverable
 public class CollaboratorProviderPreVerifier implements PreVerifier {
 
@@ -46,7 +48,7 @@ public class CollaboratorProviderPreVerifier implements PreVerifier {
     public void verify(TestContext testContext) {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
-        testDescriptor.getCollaboratorProviders().parallelStream()
+        testDescriptor.getCollaboratorProviders().stream()
                 .forEach(collaboratorProvider -> {
                     List<Class> parameterTypes = collaboratorProvider.getParameterTypes();
                     int size = parameterTypes.size();
@@ -24,6 +24,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -37,6 +38,7 @@ import org.testifyproject.extension.annotation.SystemCategory;
 @Loose
 @IntegrationCategory
 @SystemCategory
+@Memoizable
 @Discoverable
 public class ConfigHandlerPreVerifier implements PreVerifier {
 
@@ -44,7 +46,7 @@ public class ConfigHandlerPreVerifier implements PreVerifier {
     public void verify(TestContext testContext) {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
-        testDescriptor.getConfigHandlers().parallelStream().forEach(configHandler -> {
+        testDescriptor.getConfigHandlers().stream().forEach(configHandler -> {
             List<Class> parameterTypes = configHandler.getParameterTypes();
             int size = parameterTypes.size();
             String name = configHandler.getName();
@@ -26,6 +26,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 import org.testifyproject.extension.annotation.UnitCategory;
@@ -41,6 +42,7 @@ import org.testifyproject.extension.annotation.UnitCategory;
 @UnitCategory
 @IntegrationCategory
 @SystemCategory
+@Memoizable
 @Discoverable
 public class GuidelinePreVerifier implements PreVerifier {
 
@@ -26,6 +26,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 
 /**
@@ -37,6 +38,7 @@ import org.testifyproject.extension.annotation.Strict;
 @Lenient
 @Loose
 @IntegrationCategory
+@Memoizable
 @Discoverable
 public class ModulePreVerifier implements PreVerifier {
 
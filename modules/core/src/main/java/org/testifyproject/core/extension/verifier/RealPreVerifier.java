@@ -29,6 +29,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 import org.testifyproject.extension.annotation.UnitCategory;
@@ -46,6 +47,7 @@ import org.testifyproject.extension.annotation.UnitCategory;
 @UnitCategory
 @IntegrationCategory
 @SystemCategory
+@Memoizable
 @Discoverable
 public class RealPreVerifier implements PreVerifier {
 
@@ -56,7 +58,7 @@ public class RealPreVerifier implements PreVerifier {
 
         Optional<SutDescriptor> foundSutDescriptor = testContext.getSutDescriptor();
         List<FieldDescriptor> fieldDescriptors = testDescriptor.getFieldDescriptors()
-                .parallelStream()
+                .stream()
                 .filter(p -> p.getReal().isPresent())
                 .collect(toList());
 
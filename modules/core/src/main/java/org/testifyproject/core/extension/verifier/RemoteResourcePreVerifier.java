@@ -23,6 +23,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -36,6 +37,7 @@ import org.testifyproject.extension.annotation.SystemCategory;
 @Loose
 @SystemCategory
 @IntegrationCategory
+@Memoizable
 @Discoverable
 public class RemoteResourcePreVerifier implements PreVerifier {
 
@@ -45,7 +47,7 @@ public class RemoteResourcePreVerifier implements PreVerifier {
         String testClassName = testDescriptor.getTestClassName();
 
         testDescriptor.getRemoteResources()
-                .parallelStream()
+                .stream()
                 .map(RemoteResource::value)
                 .forEach(p -> {
                     try {
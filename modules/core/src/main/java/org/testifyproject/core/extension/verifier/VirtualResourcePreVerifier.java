@@ -24,6 +24,7 @@ import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Lenient;
 import org.testifyproject.extension.annotation.Loose;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -37,6 +38,7 @@ import org.testifyproject.extension.annotation.SystemCategory;
 @Loose
 @SystemCategory
 @IntegrationCategory
+@Memoizable
 @Discoverable
 public class VirtualResourcePreVerifier implements PreVerifier {
 
@@ -45,7 +47,7 @@ public class VirtualResourcePreVerifier implements PreVerifier {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
         testDescriptor.getVirtualResources()
-                .parallelStream()
+                .stream()
                 .map(VirtualResource::provider)
                 .filter(p -> !VirtualResourceProvider.class.equals(p))
                 .forEach(resourceProvider -> {
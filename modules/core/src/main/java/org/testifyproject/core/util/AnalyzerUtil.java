@@ -29,15 +29,18 @@ import org.testifyproject.SutDescriptor;
 import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
-import org.testifyproject.asm.ClassReader;
 import org.testifyproject.core.DefaultTestConfigurer;
 import org.testifyproject.core.DefaultTestContextBuilder;
+import org.testifyproject.core.PropertyStore;
 import org.testifyproject.core.TestContextProperties;
 import org.testifyproject.core.analyzer.DefaultMethodDescriptor;
 import org.testifyproject.core.analyzer.DefaultSutDescriptor;
+import org.testifyproject.core.analyzer.DescriptorCache;
 import org.testifyproject.core.analyzer.DefaultTestDescriptor;
 import org.testifyproject.core.analyzer.SutClassAnalyzer;
+import org.testifyproject.core.analyzer.SutDescriptorProperties;
 import org.testifyproject.core.analyzer.TestClassAnalyzer;
+import org.testifyproject.core.analyzer.TestDescriptorProperties;
 
 /**
  * A utility class for analyzing classes.
@@ -54,13 +57,16 @@ public class AnalyzerUtil {
     public TestDescriptor analyzeTestClass(Class<?> testClass) {
         return TEST_DESCRIPTORS.computeIfAbsent(testClass, p -> {
             try {
-
-                TestDescriptor testDescriptor = DefaultTestDescriptor.of(testClass);
+                PropertyStore properties = PropertyStore.of(TestDescriptorProperties.SCHEMA);
+                TestDescriptor testDescriptor = DefaultTestDescriptor.of(testClass, properties);
                 TestClassAnalyzer testClassAnalyzer = new TestClassAnalyzer(testClass,
                         testDescriptor);
 
-                ClassReader testReader = new ClassReader(testClass.getName());
-                testReader.accept(testClassAnalyzer, ClassReader.SKIP_DEBUG);
+                DescriptorCache.INSTANCE.analyze(testClass, testClass, testClassAnalyzer);
+
+                //descriptors are shared by all the tests of the class and never change after
+                //the class is analyzed
+                properties.freeze();
 
                 return testDescriptor;
             } catch (IOException e) {
@@ -77,11 +83,14 @@ public class AnalyzerUtil {
     public SutDescriptor analyzeSutField(Field field) {
         return SUT_DESCRIPTORS.computeIfAbsent(field, p -> {
             try {
-                SutDescriptor sutDescriptor = DefaultSutDescriptor.of(field);
+                PropertyStore properties = PropertyStore.of(SutDescriptorProperties.SCHEMA);
+                SutDescriptor sutDescriptor = DefaultSutDescriptor.of(field, properties);
                 SutClassAnalyzer sutClassAnalyzer = new SutClassAnalyzer(field, sutDescriptor);
 
-                ClassReader sutReader = new ClassReader(field.getType().getName());
-                sutReader.accept(sutClassAnalyzer, ClassReader.SKIP_DEBUG);
+                DescriptorCache.INSTANCE.analyze(field.getDeclaringClass(), field.getType(),
+                        sutClassAnalyzer);
+
+                properties.freeze();
 
                 return sutDescriptor;
             } catch (IOException e) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.testifyproject.guava.common.collect.ImmutableSortedSet;
+
+/**
+ * An index of the files and directories on the classpath. The classpath directories and,
+ * optionally, the entries of the classpath JAR files are listed only once, when the index is
+ * created. Glob patterns are matched against the index and the result of each distinct set of
+ * patterns is memoized. Note that class files inside JAR files are not indexed and that the
+ * JAR file systems opened by the index remain open until the index is {@link #close() closed}.
+ *
+ * @author saden
+ */
+class ClasspathIndex implements Closeable {
+
+    static final String MANIFEST = "META-INF/MANIFEST.MF";
+    static final String CLASS_EXTENSION = ".class";
+
+    /**
+     * Order paths by their URI since paths that belong to different file systems are not
+     * comparable.
+     */
+    static final Comparator<Path> PATH_ORDER = Comparator.comparing(p -> p.toUri().toString());
+
+    private final Map<FileSystem, List<Path>> entries;
+    private final Map<List<String>, Set<Path>> queries;
+
+    ClasspathIndex(Map<FileSystem, List<Path>> entries) {
+        this.entries = entries;
+        this.queries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a new index of the given classpath directories and, if requested, the JAR files
+     * visible to the given class loader.
+     *
+     * @param directories the classpath directories
+     * @param classLoader the class loader used to discover JAR files
+     * @param indexJars whether the entries of JAR files should be indexed
+     * @return a new classpath index instance
+     */
+    static ClasspathIndex of(Collection<Path> directories, ClassLoader classLoader,
+            boolean indexJars) {
+        Map<FileSystem, List<Path>> entries = new LinkedHashMap<>();
+
+        try {
+            for (Path directory : new LinkedHashSet<>(directories)) {
+                if (Files.isDirectory(directory)) {
+                    try (Stream<Path> paths = Files.walk(directory)) {
+                        entries.computeIfAbsent(directory.getFileSystem(),
+                                p -> new ArrayList<>())
+                                .addAll(paths.collect(toList()));
+                    }
+                }
+            }
+
+            if (indexJars) {
+                for (Path jar : findJars(classLoader)) {
+                    indexJar(jar, entries);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            closeJars(entries.keySet());
+
+            throw ExceptionUtil.INSTANCE.propagate(e);
+        }
+
+        return new ClasspathIndex(entries);
+    }
+
+    /**
+     * Find the JAR files visible to the given class loader.
+     *
+     * @param classLoader the class loader
+     * @return a set of JAR file paths
+     * @throws IOException an exception thrown if the class loader resources can not be read
+     */
+    static Set<Path> findJars(ClassLoader classLoader) throws IOException {
+        Set<Path> jars = new LinkedHashSet<>();
+        Enumeration<URL> manifests = classLoader.getResources(MANIFEST);
+
+        while (manifests.hasMoreElements()) {
+            URL manifest = manifests.nextElement();
+
+            if ("jar".equals(manifest.getProtocol())) {
+                try {
+                    JarURLConnection connection = (JarURLConnection) manifest.openConnection();
+                    URL jarURL = connection.getJarFileURL();
+
+                    if ("file".equals(jarURL.getProtocol())) {
+                        jars.add(Paths.get(jarURL.toURI()));
+                    }
+                } catch (URISyntaxException e) {
+                    LoggingUtil.INSTANCE.debug("Could not index JAR file '{}'", manifest, e);
+                }
+            }
+        }
+
+        return jars;
+    }
+
+    /**
+     * Add the non-class entries of the given JAR file to the given index entries. The JAR file
+     * system is kept open so that the indexed paths remain readable and is closed if the JAR
+     * file can not be indexed.
+     *
+     * @param jar the JAR file path
+     * @param entries the index entries
+     */
+    static void indexJar(Path jar, Map<FileSystem, List<Path>> entries) {
+        FileSystem fileSystem = null;
+
+        try {
+            fileSystem = FileSystems.newFileSystem(jar, (ClassLoader) null);
+
+            try (Stream<Path> paths = Files.walk(fileSystem.getPath("/"))) {
+                List<Path> jarEntries = paths
+                        .filter(p -> !p.toString().endsWith(CLASS_EXTENSION))
+                        .collect(toList());
+
+                entries.put(fileSystem, jarEntries);
+            }
+        } catch (IOException | RuntimeException e) {
+            LoggingUtil.INSTANCE.debug("Could not index JAR file '{}'", jar, e);
+
+            if (fileSystem != null) {
+                closeJars(Collections.singleton(fileSystem));
+            }
+        }
+    }
+
+    /**
+     * Close the given JAR file systems. The default file system can not be closed and is
+     * skipped.
+     *
+     * @param fileSystems the file systems that will be closed
+     */
+    static void closeJars(Collection<FileSystem> fileSystems) {
+        for (FileSystem fileSystem : fileSystems) {
+            if (fileSystem != FileSystems.getDefault()) {
+                try {
+                    fileSystem.close();
+                } catch (IOException | RuntimeException e) {
+                    LoggingUtil.INSTANCE.debug("Could not close JAR file system '{}'",
+                            fileSystem, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the indexed paths that match any of the given patterns. The result of each distinct
+     * set of patterns is memoized.
+     *
+     * @param patterns file paths or {@link PathMatcher glob file patterns}
+     * @return a set of matching paths
+     */
+    Set<Path> find(String... patterns) {
+        return queries.computeIfAbsent(Arrays.asList(patterns), this::query);
+    }
+
+    Set<Path> query(List<String> patterns) {
+        ImmutableSortedSet.Builder<Path> matches = ImmutableSortedSet.orderedBy(PATH_ORDER);
+
+        entries.forEach((fileSystem, paths) -> {
+            List<PathMatcher> pathMatchers = patterns.stream()
+                    .map(p -> fileSystem.getPathMatcher("glob:" + p))
+                    .collect(toList());
+
+            for (Path path : paths) {
+                for (PathMatcher pathMatcher : pathMatchers) {
+                    if (pathMatcher.matches(path)) {
+                        matches.add(path);
+                        break;
+                    }
+                }
+            }
+        });
+
+        return matches.build();
+    }
+
+    /**
+     * Get the number of indexed paths.
+     *
+     * @return the number of indexed paths
+     */
+    int size() {
+        return entries.values().stream()
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    /**
+     * Close the JAR file systems opened by the index. Paths found in JAR files are no longer
+     * readable once the index is closed.
+     */
+    @Override
+    public void close() {
+        closeJars(entries.keySet());
+        queries.clear();
+    }
+
+}
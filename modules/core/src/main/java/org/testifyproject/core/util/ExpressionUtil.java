@@ -16,8 +16,9 @@
 package org.testifyproject.core.util;
 
 import java.util.Map;
-import java.util.regex.Pattern;
 
+import org.testifyproject.guava.common.cache.Cache;
+import org.testifyproject.guava.common.cache.CacheBuilder;
 import org.testifyproject.jexl3.JexlBuilder;
 import org.testifyproject.jexl3.JexlContext;
 import org.testifyproject.jexl3.JexlEngine;
@@ -26,25 +27,40 @@ import org.testifyproject.jexl3.MapContext;
 import org.testifyproject.jexl3.ObjectContext;
 
 /**
- * A utility class for creating and interpolating expressions.
+ * A utility class for creating and interpolating expressions. Compiled expressions are cached
+ * in a bounded cache keyed by their source so that the same expressions and templates are
+ * only parsed once, and templates that do not contain parameters are returned as is without
+ * being evaluated.
  *
  * @author saden
  */
 public class ExpressionUtil {
 
     public static final ExpressionUtil INSTANCE;
-    private static final Pattern PATTERN = Pattern.compile(".*\\$\\{.*\\}.*");
+    private static final String PARAMETER_START = "${";
+    private static final String DEFERRED_PARAMETER_START = "#{";
+    private static final char PARAMETER_END = '}';
 
     static {
         JexlEngine jexlEngine = new JexlBuilder()
                 .create();
-        INSTANCE = new ExpressionUtil(jexlEngine);
+        INSTANCE = new ExpressionUtil(jexlEngine,
+                SettingUtil.INSTANCE.getExpressionCacheSize());
     }
 
     private final JexlEngine jexlEngine;
+    private final Cache<String, JexlExpression> expressions;
 
     ExpressionUtil(JexlEngine jexlEngine) {
+        this(jexlEngine, SettingUtil.DEFAULT_EXPRESSION_CACHE_SIZE);
+    }
+
+    ExpressionUtil(JexlEngine jexlEngine, long cacheSize) {
         this.jexlEngine = jexlEngine;
+        this.expressions = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
     }
 
     /**
@@ -56,8 +72,12 @@ public class ExpressionUtil {
      * @return the result of evaluating the template
      */
     public String evaluateTemplate(String template, Map context) {
+        if (isLiteral(template)) {
+            return getLiteral(template);
+        }
+
         JexlContext jexlContext = new MapContext(context);
-        JexlExpression jexlExpression = jexlEngine.createExpression(createTemplate(template));
+        JexlExpression jexlExpression = getExpression(createTemplate(template));
 
         return (String) jexlExpression.evaluate(jexlContext);
     }
@@ -70,8 +90,12 @@ public class ExpressionUtil {
      * @return the result of evaluating the template
      */
     public String evaluateTemplate(String template, Object context) {
+        if (isLiteral(template)) {
+            return getLiteral(template);
+        }
+
         JexlContext jexlContext = new ObjectContext(jexlEngine, context);
-        JexlExpression jexlExpression = jexlEngine.createExpression(createTemplate(template));
+        JexlExpression jexlExpression = getExpression(createTemplate(template));
 
         return (String) jexlExpression.evaluate(jexlContext);
     }
@@ -87,7 +111,7 @@ public class ExpressionUtil {
      */
     public <T> T evaluateExpression(String expression, Map<String, Object> context) {
         JexlContext jexlContext = new MapContext(context);
-        JexlExpression jexlExpression = jexlEngine.createExpression(expression);
+        JexlExpression jexlExpression = getExpression(expression);
 
         return (T) jexlExpression.evaluate(jexlContext);
     }
@@ -103,7 +127,7 @@ public class ExpressionUtil {
      */
     public <T> T evaluateExpression(String expression, Object context) {
         JexlContext jexlContext = new ObjectContext(jexlEngine, context);
-        JexlExpression jexlExpression = jexlEngine.createExpression(expression);
+        JexlExpression jexlExpression = getExpression(expression);
 
         return (T) jexlExpression.evaluate(jexlContext);
     }
@@ -135,7 +159,68 @@ public class ExpressionUtil {
      * @return true if the string is a parameterized, false otherwise
      */
     public Boolean isParameterized(String value) {
-        return PATTERN.matcher(value).matches();
+        int start = value.indexOf(PARAMETER_START);
+
+        return start != -1 && value.indexOf(PARAMETER_END, start + PARAMETER_START.length()) != -1;
+    }
+
+    /**
+     * Get the number of times a compiled expression was found in the expression cache.
+     *
+     * @return the expression cache hit count
+     */
+    public long getCacheHits() {
+        return expressions.stats().hitCount();
+    }
+
+    /**
+     * Get the number of times an expression was not found in the expression cache and had to
+     * be compiled.
+     *
+     * @return the expression cache miss count
+     */
+    public long getCacheMisses() {
+        return expressions.stats().missCount();
+    }
+
+    /**
+     * Get the compiled expression of the given expression source from the expression cache,
+     * compiling and caching the expression if necessary.
+     *
+     * @param expression the expression source
+     * @return the compiled expression
+     */
+    JexlExpression getExpression(String expression) {
+        JexlExpression jexlExpression = expressions.getIfPresent(expression);
+
+        if (jexlExpression == null) {
+            jexlExpression = jexlEngine.createExpression(expression);
+            expressions.put(expression, jexlExpression);
+        }
+
+        return jexlExpression;
+    }
+
+    /**
+     * Determine if the given template evaluates to itself. A template is a literal if it has
+     * no parameters and contains no characters that have a special meaning in a template.
+     *
+     * @param template the template
+     * @return true if the template is a literal, false otherwise
+     */
+    boolean isLiteral(String template) {
+        String literal = getLiteral(template);
+
+        return literal.indexOf(PARAMETER_START) == -1
+                && literal.indexOf(DEFERRED_PARAMETER_START) == -1
+                && literal.indexOf('`') == -1
+                && literal.indexOf('\\') == -1;
+    }
+
+    String getLiteral(String template) {
+        return isTemplate(template) && template.length() > 1
+                ? template.substring(1, template.length() - 1)
+                : template;
     }
 
 }
@@ -31,6 +31,7 @@ import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -49,6 +50,17 @@ public class FileSystemUtil {
 
     public static final FileSystemUtil INSTANCE = new FileSystemUtil();
 
+    private final SettingUtil settingUtil;
+    private volatile ClasspathIndex classpathIndex;
+
+    public FileSystemUtil() {
+        this(SettingUtil.INSTANCE);
+    }
+
+    FileSystemUtil(SettingUtil settingUtil) {
+        this.settingUtil = settingUtil;
+    }
+
     /**
      * Converts a path string, or a sequence of strings that when joined form a normalized path
      * string.
@@ -61,24 +73,68 @@ public class FileSystemUtil {
         return Paths.get(first, more).normalize().toString();
     }
 
+    /**
+     * Find the files and directories on the classpath that match the given patterns. The
+     * classpath is indexed the first time this method is called and patterns are matched
+     * against the index.
+     *
+     * @param patterns file paths or {@link PathMatcher glob file patterns}
+     * @return a set of matching paths
+     */
     public Set<Path> findClasspathFiles(String... patterns) {
-        ImmutableSortedSet.Builder<Path> builder = ImmutableSortedSet.naturalOrder();
+        return getClasspathIndex().find(patterns);
+    }
+
+    /**
+     * Clear the classpath index so that the classpath is indexed again the next time
+     * {@link #findClasspathFiles(java.lang.String...)} is called. The JAR file systems opened
+     * by the previous index are closed.
+     */
+    public void invalidate() {
+        ClasspathIndex previous;
+
+        synchronized (this) {
+            previous = classpathIndex;
+            classpathIndex = null;
+        }
+
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    ClasspathIndex getClasspathIndex() {
+        ClasspathIndex result = classpathIndex;
+
+        if (result == null) {
+            synchronized (this) {
+                result = classpathIndex;
 
+                if (result == null) {
+                    result = createClasspathIndex();
+                    classpathIndex = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    ClasspathIndex createClasspathIndex() {
         try {
             URL classesURI = FileSystemUtil.class.getProtectionDomain().getCodeSource()
                     .getLocation();
-            builder.addAll(findFiles(Paths.get(classesURI.toURI()), patterns));
-
             URL testClassesURL = Resources.getResource("");
 
-            if (!classesURI.equals(testClassesURL)) {
-                builder.addAll(findFiles(Paths.get(testClassesURL.toURI()), patterns));
-            }
+            List<Path> directories = new ArrayList<>();
+            directories.add(Paths.get(classesURI.toURI()));
+            directories.add(Paths.get(testClassesURL.toURI()));
+
+            return ClasspathIndex.of(directories, FileSystemUtil.class.getClassLoader(),
+                    settingUtil.isClasspathJarsIndexed());
         } catch (URISyntaxException e) {
             throw ExceptionUtil.INSTANCE.propagate(e);
         }
-
-        return builder.build();
     }
 
     /**
@@ -201,21 +257,31 @@ public class FileSystemUtil {
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws
                 IOException {
-            pathMatchers.parallelStream()
-                    .filter(p -> p.matches(file))
-                    .forEach(p -> matches.add(file));
+            if (matches(file)) {
+                matches.add(file);
+            }
 
             return CONTINUE;
         }
 
         @Override
         public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
-            pathMatchers.parallelStream()
-                    .filter(p -> p.matches(dir))
-                    .forEach(p -> matches.add(dir));
+            if (matches(dir)) {
+                matches.add(dir);
+            }
 
             return CONTINUE;
         }
+
+        boolean matches(Path path) {
+            for (PathMatcher pathMatcher : pathMatchers) {
+                if (pathMatcher.matches(path)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
     }
 
 }
@@ -18,10 +18,17 @@ package org.testifyproject.core.util;
 import static org.testifyproject.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
 import static org.testifyproject.bytebuddy.matcher.ElementMatchers.not;
 
+import java.lang.reflect.Constructor;
 import java.util.function.Supplier;
 
 import org.testifyproject.bytebuddy.ByteBuddy;
+import org.testifyproject.bytebuddy.TypeCache;
+import org.testifyproject.bytebuddy.description.modifier.Visibility;
 import org.testifyproject.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.testifyproject.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import org.testifyproject.bytebuddy.implementation.FieldAccessor;
+import org.testifyproject.bytebuddy.implementation.Implementation;
+import org.testifyproject.bytebuddy.implementation.MethodCall;
 import org.testifyproject.bytebuddy.implementation.MethodDelegation;
 import org.testifyproject.bytebuddy.implementation.bind.MethodNameEqualityResolver;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.BindingPriority;
@@ -38,10 +45,18 @@ import org.testifyproject.extension.InstrumentMorpher;
 public class InstrumentUtil {
 
     private static final ByteBuddy BYTE_BUDDY = new ByteBuddy();
+    private static final String INTERCEPTOR_FIELD = "testify$interceptor";
     public static final InstrumentUtil INSTANCE = new InstrumentUtil();
 
+    private final TypeCache<TypeCache.SimpleKey> proxyTypes =
+            new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
+
     /**
      * Create a proxy instance for the given type using the given classloader and interceptor.
+     * Proxy classes are cached by proxied type, classloader and interceptor type and the
+     * interceptor is bound to the proxy instance so proxy classes are generated only once. The
+     * interceptor is passed to the proxy constructor and bound before the constructor of the
+     * proxied type is called so calls made by the constructor are intercepted as well.
      *
      * @param <T> the type of the class being proxied
      * @param type the class being proxied
@@ -51,11 +66,13 @@ public class InstrumentUtil {
      */
     public <T> T createProxy(Class<T> type, ClassLoader classLoader, Object interceptor) {
         try {
-            return createSubclass(type, classLoader, interceptor)
-                    .newInstance();
-        } catch (IllegalAccessException | InstantiationException e) {
-            throw ExceptionUtil.INSTANCE.propagate("Could not create proxy for type {}", type
-                    .getSimpleName());
+            Class<? extends T> proxyType = createProxyType(type, classLoader,
+                    interceptor.getClass());
+
+            return proxyType.getConstructor(interceptor.getClass()).newInstance(interceptor);
+        } catch (ReflectiveOperationException e) {
+            throw ExceptionUtil.INSTANCE.propagate("Could not create proxy for type {}", e,
+                    type.getSimpleName());
         }
     }
 
@@ -75,7 +92,51 @@ public class InstrumentUtil {
     }
 
     /**
-     * Create subclass of the given type using the given classLoader and interceptor.
+     * Get the proxy class of the given type for the given classLoader and interceptor type.
+     * The proxy class delegates calls to the interceptor instance bound to the proxy instance.
+     * The proxy class declares a single public constructor that takes the interceptor instance,
+     * binds it and then calls the no-arg constructor of the proxied type. Proxy classes are
+     * generated once and cached.
+     *
+     * @param <T> the type of the class being proxied
+     * @param type the class being proxied
+     * @param classLoader the classloader used by the proxy class
+     * @param interceptorType the type of the interceptor used to intercept calls
+     * @return the proxy class
+     */
+    public <T> Class<? extends T> createProxyType(Class<T> type, ClassLoader classLoader,
+            Class<?> interceptorType) {
+        TypeCache.SimpleKey key = new TypeCache.SimpleKey(type, interceptorType);
+
+        return (Class<? extends T>) proxyTypes.findOrInsert(classLoader, key, () -> {
+            MethodDelegation delegate = createDelegation()
+                    .toField(INTERCEPTOR_FIELD);
+            Constructor<?> superConstructor = type.isInterface()
+                    ? Object.class.getDeclaredConstructor()
+                    : type.getDeclaredConstructor();
+
+            //the interceptor field is assigned before the super constructor is called
+            Implementation constructor = FieldAccessor.ofField(INTERCEPTOR_FIELD)
+                    .setsArgumentAt(0)
+                    .andThen(MethodCall.invoke(superConstructor));
+
+            return BYTE_BUDDY.subclass(type, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                    .defineField(INTERCEPTOR_FIELD, interceptorType, Visibility.PUBLIC)
+                    .defineConstructor(Visibility.PUBLIC)
+                    .withParameters(interceptorType)
+                    .intercept(constructor)
+                    .method(isDeclaredBy(type))
+                    .intercept(delegate)
+                    .make()
+                    .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+        }, proxyTypes);
+    }
+
+    /**
+     * Create subclass of the given type using the given classLoader and interceptor. Note
+     * that the interceptor is part of the generated class and therefore a new class is
+     * generated every time this method is called.
      *
      * @param <T> the type of the class being subclassed
      * @param type the class being subclassed
@@ -85,12 +146,7 @@ public class InstrumentUtil {
      */
     public <T> Class<? extends T> createSubclass(Class<T> type, ClassLoader classLoader,
             Object interceptor) {
-        MethodDelegation delegate = MethodDelegation.withEmptyConfiguration()
-                .withBinders(TargetMethodAnnotationDrivenBinder.ParameterBinder.DEFAULTS)
-                .withBinders(Morph.Binder.install(InstrumentMorpher.class))
-                .withResolvers(MethodNameEqualityResolver.INSTANCE)
-                .withResolvers(BindingPriority.Resolver.INSTANCE)
-                .filter(not(isDeclaredBy(Object.class)))
+        MethodDelegation delegate = createDelegation()
                 .to(interceptor);
 
         return BYTE_BUDDY.subclass(type)
@@ -100,4 +156,13 @@ public class InstrumentUtil {
                 .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
                 .getLoaded();
     }
+
+    MethodDelegation.WithCustomProperties createDelegation() {
+        return MethodDelegation.withEmptyConfiguration()
+                .withBinders(TargetMethodAnnotationDrivenBinder.ParameterBinder.DEFAULTS)
+                .withBinders(Morph.Binder.install(InstrumentMorpher.class))
+                .withResolvers(MethodNameEqualityResolver.INSTANCE)
+                .withResolvers(BindingPriority.Resolver.INSTANCE)
+                .filter(not(isDeclaredBy(Object.class)));
+    }
 }
@@ -62,25 +62,34 @@ public class LoggingUtil {
     }
 
     /**
-     * Log a debug message.
+     * Log a debug message. Note that the message is only formatted if the debug level is
+     * enabled.
      *
      * @param messageFormat log message format
      * @param args message format arguments.
      */
     public void debug(String messageFormat, Object... args) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+
         String message = formatMessage(messageFormat, args);
         logger.debug(message);
     }
 
     /**
-     * Log an info message.
+     * Log an info message. Note that the message is only formatted if the info level is
+     * enabled.
      *
      * @param messageFormat log message format
      * @param args message format arguments.
      */
     public void info(String messageFormat, Object... args) {
-        String message = formatMessage(messageFormat, args);
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
 
+        String message = formatMessage(messageFormat, args);
         logger.info(message);
     }
 
@@ -91,8 +100,11 @@ public class LoggingUtil {
      * @param args message format arguments.
      */
     public void warn(String messageFormat, Object... args) {
-        String message = formatMessage(messageFormat, args);
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
 
+        String message = formatMessage(messageFormat, args);
         logger.warn(message);
     }
 
@@ -103,11 +115,24 @@ public class LoggingUtil {
      * @param args message format arguments.
      */
     public void error(String messageFormat, Object... args) {
-        String message = formatMessage(messageFormat, args);
+        if (!logger.isErrorEnabled()) {
+            return;
+        }
 
+        String message = formatMessage(messageFormat, args);
         logger.error(message);
     }
 
+    /**
+     * Flush the log messages buffered by the underlying logger. This method does nothing if the
+     * underlying logger does not buffer log messages.
+     */
+    public void flush() {
+        if (logger instanceof SimpleLogger) {
+            SimpleLogger.flush();
+        }
+    }
+
     /**
      * Given a message format and an array of arguments generate a formatted message. Note that
      * the last entry in the argument array can be an instance of {@link Throwable}.
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the implementations of an SPI contract. The "META-INF/services" descriptors of
+ * the contract are read and the implementation types are loaded only once, when the index is
+ * created. Implementation types are indexed by the annotations present on them (i.e. test
+ * category and guideline annotations) so that filter queries can be answered without
+ * reflectively inspecting every implementation on every call. Note that a new implementation
+ * instance is created for every lookup since SPI implementations may be stateful.
+ *
+ * @author saden
+ * @param <T> the SPI type
+ */
+class ServiceIndex<T> {
+
+    private final Class<T> contract;
+    private final List<Class<? extends T>> implementations;
+    private final Map<Class<? extends Annotation>, Set<Class<? extends T>>> annotations;
+    private final Map<Set<Class<? extends Annotation>>, List<Class<? extends T>>> queries;
+
+    ServiceIndex(Class<T> contract,
+            List<Class<? extends T>> implementations,
+            Map<Class<? extends Annotation>, Set<Class<? extends T>>> annotations) {
+        this.contract = contract;
+        this.implementations = implementations;
+        this.annotations = annotations;
+        this.queries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a new index of the implementations of the given contract visible to the given
+     * class loader.
+     *
+     * @param <T> the SPI type
+     * @param contract the SPI contract
+     * @param classLoader the class loader used to discover implementations
+     * @return a new service index instance
+     */
+    static <T> ServiceIndex<T> of(Class<T> contract, ClassLoader classLoader) {
+        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract, classLoader);
+        List<Class<? extends T>> implementations = new ArrayList<>();
+        Map<Class<? extends Annotation>, Set<Class<? extends T>>> annotations = new HashMap<>();
+
+        for (T service : serviceLoader) {
+            Class<? extends T> implementation = (Class<? extends T>) service.getClass();
+            implementations.add(implementation);
+
+            for (Annotation annotation : implementation.getAnnotations()) {
+                annotations.computeIfAbsent(annotation.annotationType(), p -> new HashSet<>())
+                        .add(implementation);
+            }
+        }
+
+        return new ServiceIndex<>(contract,
+                Collections.unmodifiableList(implementations),
+                annotations);
+    }
+
+    /**
+     * Get the contract of the index.
+     *
+     * @return the SPI contract
+     */
+    Class<T> getContract() {
+        return contract;
+    }
+
+    /**
+     * Get all the implementation types of the contract in discovery order.
+     *
+     * @return a list of implementation types, empty list otherwise
+     */
+    List<Class<? extends T>> getImplementations() {
+        return implementations;
+    }
+
+    /**
+     * Get the implementation types of the contract that are annotated with all the given
+     * annotations. The result of each distinct query is memoized.
+     *
+     * @param filters the annotations the implementations must be annotated with
+     * @return a list of implementation types in discovery order, empty list otherwise
+     */
+    List<Class<? extends T>> getImplementations(Collection<Class<? extends Annotation>> filters) {
+        if (filters.isEmpty()) {
+            return implementations;
+        }
+
+        return queries.computeIfAbsent(new LinkedHashSet<>(filters), this::query);
+    }
+
+    /**
+     * Create new instances of all the implementations of the contract.
+     *
+     * @return a list of implementation instances, empty list otherwise
+     */
+    List<T> newInstances() {
+        return newInstances(implementations);
+    }
+
+    /**
+     * Create new instances of the implementations of the contract annotated with all the given
+     * annotations.
+     *
+     * @param filters the annotations the implementations must be annotated with
+     * @return a list of implementation instances, empty list otherwise
+     */
+    List<T> newInstances(Collection<Class<? extends Annotation>> filters) {
+        return newInstances(getImplementations(filters));
+    }
+
+    /**
+     * Create a new instance of the given implementation type.
+     *
+     * @param implementation the implementation type
+     * @return a new implementation instance
+     */
+    T newInstance(Class<? extends T> implementation) {
+        try {
+            Constructor<? extends T> constructor = implementation.getDeclaredConstructor();
+
+            if (!constructor.isAccessible()) {
+                constructor.setAccessible(true);
+            }
+
+            return constructor.newInstance();
+        } catch (IllegalAccessException |
+                IllegalArgumentException |
+                InstantiationException |
+                NoSuchMethodException |
+                SecurityException |
+                InvocationTargetException e) {
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "Could not create an instance of '{}' implementation of '{}' contract.",
+                    e, implementation.getName(), contract.getName());
+        }
+    }
+
+    List<T> newInstances(List<Class<? extends T>> types) {
+        return types.stream()
+                .map(this::newInstance)
+                .collect(toList());
+    }
+
+    List<Class<? extends T>> query(Set<Class<? extends Annotation>> filters) {
+        List<Class<? extends T>> result = new ArrayList<>(implementations);
+
+        for (Class<? extends Annotation> filter : filters) {
+            Set<Class<? extends T>> annotated = annotations.get(filter);
+
+            if (annotated == null) {
+                return Collections.emptyList();
+            }
+
+            result.retainAll(annotated);
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+}
@@ -17,15 +17,18 @@ package org.testifyproject.core.util;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -35,7 +38,11 @@ import org.testifyproject.annotation.Hint;
 
 /**
  * A utility class that uses {@link ServiceLoader} mechanism to locate service descriptors under
- * "META-INF/services" folder.
+ * "META-INF/services" folder. The implementations of each contract are discovered once per
+ * class loader and indexed by the annotations present on them. Use {@link #invalidate()} or
+ * {@link #invalidate(ClassLoader)} to discard discovered implementations if the classpath of a
+ * class loader changes. Note that the indexes hold on to classes loaded by the class loader they
+ * are keyed on and are therefore softly referenced so that the class loader can be collected.
  *
  * @author saden
  */
@@ -43,6 +50,9 @@ public class ServiceLocatorUtil {
 
     public static final ServiceLocatorUtil INSTANCE = new ServiceLocatorUtil();
 
+    private final Map<ClassLoader, SoftReference<Map<Class<?>, ServiceIndex<?>>>> registry =
+            new WeakHashMap<>();
+
     /**
      * Find the first implementation of the given type.
      *
@@ -51,10 +61,11 @@ public class ServiceLocatorUtil {
      * @return optional containing implementation instance, empty otherwise
      */
     public <T> Optional<T> findOne(Class<T> type) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(type);
+        ServiceIndex<T> serviceIndex = getServiceIndex(type);
 
-        return stream(serviceLoader.spliterator(), true)
-                .findFirst();
+        return serviceIndex.getImplementations().stream()
+                .findFirst()
+                .map(serviceIndex::newInstance);
     }
 
     /**
@@ -65,10 +76,7 @@ public class ServiceLocatorUtil {
      * @return a list that contains all implementations, empty list otherwise
      */
     public <T> List<T> findAll(Class<T> type) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(type);
-
-        return stream(serviceLoader.spliterator(), true)
-                .collect(toList());
+        return getServiceIndex(type).newInstances();
     }
 
     /**
@@ -84,31 +92,10 @@ public class ServiceLocatorUtil {
     public <T> List<T> findAllWithFilter(Class<T> type,
             Collection<Class<? extends Annotation>> guidelines,
             Class<? extends Annotation>... filters) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(type);
-
-        return stream(serviceLoader.spliterator(), true)
-                .parallel()
-                .filter(service -> {
-                    Class serviceType = service.getClass();
-                    boolean filter = true;
-
-                    for (Class<? extends Annotation> guideline : guidelines) {
-                        if (!serviceType.isAnnotationPresent(guideline)) {
-                            filter = false;
-                            break;
-                        }
-                    }
-
-                    for (Class<? extends Annotation> filterAnnotation : filters) {
-                        if (!serviceType.isAnnotationPresent(filterAnnotation)) {
-                            filter = false;
-                            break;
-                        }
-                    }
-
-                    return filter;
-                })
-                .collect(toList());
+        List<Class<? extends Annotation>> annotations = new ArrayList<>(guidelines);
+        annotations.addAll(Arrays.asList(filters));
+
+        return getServiceIndex(type).newInstances(annotations);
     }
 
     /**
@@ -120,24 +107,7 @@ public class ServiceLocatorUtil {
      * @return a list that contains all implementations, empty list otherwise
      */
     public <T> List<T> findAllWithFilter(Class<T> type, Class<? extends Annotation>... filters) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(type);
-
-        return stream(serviceLoader.spliterator(), true)
-                .parallel()
-                .filter(service -> {
-                    Class serviceType = service.getClass();
-                    boolean filter = true;
-
-                    for (Class<? extends Annotation> filterAnnotation : filters) {
-                        if (!serviceType.isAnnotationPresent(filterAnnotation)) {
-                            filter = false;
-                            break;
-                        }
-                    }
-
-                    return filter;
-                })
-                .collect(toList());
+        return getServiceIndex(type).newInstances(Arrays.asList(filters));
     }
 
     /**
@@ -149,14 +119,12 @@ public class ServiceLocatorUtil {
      * @return an implementation of the service, throws an exception otherwise
      */
     public <T> T getOne(Class<T> contract) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract);
-
-        List<T> result = stream(serviceLoader.spliterator(), true)
-                .collect(toList());
+        ServiceIndex<T> serviceIndex = getServiceIndex(contract);
+        List<Class<? extends T>> result = serviceIndex.getImplementations();
 
         insureOne(result, contract.getName());
 
-        return result.get(0);
+        return serviceIndex.newInstance(result.get(0));
     }
 
     /**
@@ -169,28 +137,12 @@ public class ServiceLocatorUtil {
      * @return a list that contains all implementations, empty list otherwise
      */
     public <T> T getOneWithFilter(Class<T> contract, Class<? extends Annotation>... filters) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract);
-
-        List<T> result = stream(serviceLoader.spliterator(), true)
-                .parallel()
-                .filter(service -> {
-                    Class serviceType = service.getClass();
-                    boolean filter = true;
-
-                    for (Class<? extends Annotation> filterAnnotation : filters) {
-                        if (!serviceType.isAnnotationPresent(filterAnnotation)) {
-                            filter = false;
-                            break;
-                        }
-                    }
-
-                    return filter;
-                })
-                .collect(toList());
+        ServiceIndex<T> serviceIndex = getServiceIndex(contract);
+        List<Class<? extends T>> result = serviceIndex.getImplementations(Arrays.asList(filters));
 
         insureOne(result, contract.getName());
 
-        return result.get(0);
+        return serviceIndex.newInstance(result.get(0));
     }
 
     /**
@@ -203,18 +155,17 @@ public class ServiceLocatorUtil {
      * @return an implementation of the service, throws an exception otherwise
      */
     public <T> T getOne(Class<T> contract, Class<? extends T> implementation) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract);
-
-        List<T> result = stream(serviceLoader.spliterator(), true)
-                .filter(p -> p.getClass().equals(implementation))
-                .collect(toList());
-
         String contractName = contract.getName();
         String implementationName = implementation.getName();
+        ServiceIndex<T> serviceIndex = getServiceIndex(contract);
+
+        List<Class<? extends T>> result = serviceIndex.getImplementations().stream()
+                .filter(implementation::equals)
+                .collect(toList());
 
         insureNotEmpty(result, contractName, implementationName);
 
-        return result.get(0);
+        return serviceIndex.newInstance(implementation);
     }
 
     public <T> T getFromHintWithFilter(TestContext testContext,
@@ -263,37 +214,19 @@ public class ServiceLocatorUtil {
         String contractName = contract.getName();
         String implementationName = defaultImplementation.getName();
 
-        AtomicReference<T> contractRef = new AtomicReference<>();
-        AtomicReference<T> implementationRef = new AtomicReference<>();
-
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract);
-
-        List<T> result = stream(serviceLoader.spliterator(), true)
-                .parallel()
-                .filter(service -> {
-                    if (service.getClass().equals(defaultImplementation)) {
-                        implementationRef.compareAndSet(null, service);
-                    } else {
-                        contractRef.compareAndSet(null, service);
-                    }
-
-                    return true;
-                })
-                .collect(toList());
+        ServiceIndex<T> serviceIndex = getServiceIndex(contract);
+        List<Class<? extends T>> result = serviceIndex.getImplementations();
 
         insureAtMostTwo(result, contractName, implementationName);
 
-        T instance = null;
+        Class<? extends T> implementation = result.stream()
+                .filter(p -> !p.equals(defaultImplementation))
+                .findFirst()
+                .orElse(result.contains(defaultImplementation) ? defaultImplementation : null);
 
-        if (contractRef.get() != null) {
-            instance = contractRef.get();
-        } else if (implementationRef.get() != null) {
-            instance = implementationRef.get();
-        }
-
-        insureOne(instance, contractName, implementationName);
+        insureOne(implementation, contractName, implementationName);
 
-        return instance;
+        return serviceIndex.newInstance(implementation);
     }
 
     /**
@@ -305,10 +238,7 @@ public class ServiceLocatorUtil {
      * @return a list that contains all implementations, empty list otherwise
      */
     public <T> List<T> getAll(Class<T> contract) {
-        ServiceLoader<T> serviceLoader = ServiceLoader.load(contract);
-
-        List<T> result = stream(serviceLoader.spliterator(), true)
-                .collect(toList());
+        List<T> result = getServiceIndex(contract).newInstances();
 
         String name = contract.getName();
 
@@ -317,6 +247,86 @@ public class ServiceLocatorUtil {
         return result;
     }
 
+    /**
+     * Discard the implementations discovered using all class loaders. Subsequent lookups will
+     * rediscover implementations using the {@link ServiceLoader} mechanism.
+     */
+    public void invalidate() {
+        synchronized (registry) {
+            registry.clear();
+        }
+    }
+
+    /**
+     * Discard the implementations discovered using the given class loader. Subsequent lookups
+     * using the class loader will rediscover implementations using the {@link ServiceLoader}
+     * mechanism.
+     *
+     * @param classLoader the class loader whose discovered implementations will be discarded
+     */
+    public void invalidate(ClassLoader classLoader) {
+        synchronized (registry) {
+            registry.remove(classLoader);
+        }
+    }
+
+    /**
+     * Get the index of the implementations of the given contract visible to the current thread
+     * context class loader. The implementations are discovered the first time the index of a
+     * contract is requested.
+     *
+     * @param <T> the SPI type
+     * @param contract the SPI contract
+     * @return the service index of the contract
+     */
+    <T> ServiceIndex<T> getServiceIndex(Class<T> contract) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+
+        Map<Class<?>, ServiceIndex<?>> serviceIndexes = getServiceIndexes(classLoader);
+        ServiceIndex<T> serviceIndex = (ServiceIndex<T>) serviceIndexes.get(contract);
+
+        if (serviceIndex == null) {
+            // implementation constructors may lookup other contracts so we must not discover
+            // implementations while holding on to the index map
+            serviceIndex = ServiceIndex.of(contract, classLoader);
+
+            ServiceIndex<T> existing =
+                    (ServiceIndex<T>) serviceIndexes.putIfAbsent(contract, serviceIndex);
+
+            if (existing != null) {
+                serviceIndex = existing;
+            }
+        }
+
+        return serviceIndex;
+    }
+
+    /**
+     * Get the service indexes of the given class loader, creating them if they have not been
+     * created or have been reclaimed.
+     *
+     * @param classLoader the class loader
+     * @return a map of contracts to their service index
+     */
+    Map<Class<?>, ServiceIndex<?>> getServiceIndexes(ClassLoader classLoader) {
+        synchronized (registry) {
+            SoftReference<Map<Class<?>, ServiceIndex<?>>> reference = registry.get(classLoader);
+            Map<Class<?>, ServiceIndex<?>> serviceIndexes =
+                    reference == null ? null : reference.get();
+
+            if (serviceIndexes == null) {
+                serviceIndexes = new ConcurrentHashMap<>();
+                registry.put(classLoader, new SoftReference<>(serviceIndexes));
+            }
+
+            return serviceIndexes;
+        }
+    }
+
     void insureOne(Object instance, String contractName, String implementationName) {
         ExceptionUtil.INSTANCE.raise(instance == null,
                 "Could not find an implementation of '{}' contract in the classpath."
@@ -351,9 +361,9 @@ public class ServiceLocatorUtil {
                 name, name);
     }
 
-    void insureOne(List<?> result, String name) {
+    void insureOne(List<? extends Class<?>> result, String name) {
         String implementations = result.stream()
-                .map(p -> p.getClass().getSimpleName())
+                .map(Class::getSimpleName)
                 .collect(joining(", "));
 
         ExceptionUtil.INSTANCE.raise(result.size() != 1,
@@ -16,11 +16,21 @@
 package org.testifyproject.core.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.testifyproject.snakeyaml.Yaml;
@@ -33,42 +43,166 @@ import org.testifyproject.snakeyaml.Yaml;
 public class SettingUtil {
 
     public static final SettingUtil INSTANCE = new SettingUtil();
+    public static final long DEFAULT_EXPRESSION_CACHE_SIZE = 1024;
+    public static final String SETTINGS_FILE = ".testify.yml";
+
+    private volatile Map<String, Object> settings;
+    private volatile WatchService watchService;
 
     /**
      * Retrieve the {@code .testiy.yml} settings file from
      * {@code System.getProperty("user.dir")} directory. If one is not found then look in the
      * parent directory until {@code System.getProperty("user.home")} directory is reached.
+     * The settings file is resolved and parsed only once and if the
+     * {@code testify.settings.watch} system property is set to {@code true} the settings are
+     * reloaded when a settings file is created, modified or deleted.
      *
-     * @return the .testify.yml file as a Map, empty map otherwise
+     * @return the .testify.yml file as an unmodifiable Map, empty map otherwise
      */
     public Map<String, Object> getSettings() {
-        Map<String, Object> settings = new LinkedHashMap<>();
+        Map<String, Object> result = settings;
+        boolean changed = isSettingsChanged();
 
-        Path currentDir = Paths.get(System.getProperty("user.dir"));
-        Path userDir = Paths.get(System.getProperty("user.home"));
+        if (result == null || changed) {
+            synchronized (this) {
+                result = settings;
+
+                if (result == null || changed) {
+                    result = Collections.unmodifiableMap(loadSettings());
+                    settings = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard the loaded settings so that the settings file is resolved and parsed again the
+     * next time {@link #getSettings()} is called.
+     */
+    public synchronized void reload() {
+        settings = null;
+    }
+
+    /**
+     * Gets the {@code testify.settings.watch} system property that specifies whether settings
+     * files should be watched for changes.
+     *
+     * @return true if settings files are watched, false otherwise
+     */
+    public boolean isSettingsWatched() {
+        return Boolean.getBoolean("testify.settings.watch");
+    }
+
+    Map<String, Object> loadSettings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<Path> directories = getSettingsDirectories();
         Path testify = null;
 
-        do {
-            Path path = currentDir.resolve(".testify.yml");
+        for (Path directory : directories) {
+            Path path = directory.resolve(SETTINGS_FILE);
 
             if (path.toFile().exists()) {
                 testify = path;
                 break;
             }
+        }
 
-            currentDir = currentDir.getParent();
-        } while (currentDir.compareTo(userDir) >= 0);
+        if (isSettingsWatched()) {
+            watch(directories);
+        }
 
         if (testify != null) {
-            try {
+            try (InputStream inputStream = Files.newInputStream(testify)) {
                 Yaml yaml = new Yaml();
-                settings = (Map) yaml.load(Files.newInputStream(testify));
+                Map<String, Object> document = (Map) yaml.load(inputStream);
+
+                if (document != null) {
+                    result.putAll(document);
+                }
             } catch (IOException e) {
                 throw ExceptionUtil.INSTANCE.propagate("Could not load {} file", e, testify);
             }
         }
 
-        return settings;
+        return result;
+    }
+
+    /**
+     * Get the directories that are searched for a settings file in search order.
+     *
+     * @return a list of directories
+     */
+    List<Path> getSettingsDirectories() {
+        List<Path> directories = new ArrayList<>();
+        Path currentDir = Paths.get(System.getProperty("user.dir"));
+        Path userDir = Paths.get(System.getProperty("user.home"));
+
+        do {
+            directories.add(currentDir);
+            currentDir = currentDir.getParent();
+        } while (currentDir != null && currentDir.compareTo(userDir) >= 0);
+
+        return directories;
+    }
+
+    /**
+     * Watch the given directories for settings file changes.
+     *
+     * @param directories the directories that will be watched
+     */
+    synchronized void watch(List<Path> directories) {
+        if (watchService != null) {
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+
+            for (Path directory : directories) {
+                if (Files.isDirectory(directory)) {
+                    directory.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            LoggingUtil.INSTANCE.debug("Could not watch {} files", SETTINGS_FILE, e);
+        }
+    }
+
+    /**
+     * Determine whether a watched settings file was created, modified or deleted since the
+     * last time this method was called.
+     *
+     * @return true if a settings file changed, false otherwise
+     */
+    boolean isSettingsChanged() {
+        WatchService service = watchService;
+
+        if (service == null) {
+            return false;
+        }
+
+        boolean changed = false;
+        WatchKey watchKey;
+
+        while ((watchKey = service.poll()) != null) {
+            for (WatchEvent<?> event : watchKey.pollEvents()) {
+                Object context = event.context();
+
+                if (context instanceof Path
+                        && SETTINGS_FILE.equals(((Path) context).getFileName().toString())) {
+                    changed = true;
+                }
+            }
+
+            watchKey.reset();
+        }
+
+        return changed;
     }
 
     /**
@@ -87,4 +221,89 @@ public class SettingUtil {
                 .toArray(String[]::new);
     }
 
+    /**
+     * Gets the {@code testify.resource.threads} system property that specifies the maximum
+     * number of threads used to start and stop test resources. By default twice the number of
+     * available processors is used since starting resources is typically I/O bound.
+     *
+     * @return the number of resource threads
+     */
+    public int getResourceThreads() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        return Math.max(1, Integer.getInteger("testify.resource.threads", processors * 2));
+    }
+
+    /**
+     * Gets the {@code testify.resource.timeout} system property that specifies the maximum
+     * amount of time in milliseconds to wait for a single test resource to start or stop. By
+     * default a test resource is given five minutes.
+     *
+     * @return the resource timeout in milliseconds
+     */
+    public long getResourceTimeout() {
+        return Long.getLong("testify.resource.timeout", TimeUnit.MINUTES.toMillis(5));
+    }
+
+    /**
+     * Gets the {@code testify.descriptor.cache} system property that specifies the directory
+     * in which test and system under test class analysis results are cached between JVM runs.
+     * If the property is set to {@code false} the descriptor cache is disabled.
+     *
+     * @return the descriptor cache directory, empty string if not specified
+     */
+    public String getDescriptorCache() {
+        return System.getProperty("testify.descriptor.cache", "");
+    }
+
+    /**
+     * Gets the {@code testify.expression.cache.size} system property that specifies the
+     * maximum number of compiled expressions that are cached.
+     *
+     * @return the expression cache size
+     */
+    public long getExpressionCacheSize() {
+        return Math.max(0, Long.getLong("testify.expression.cache.size",
+                DEFAULT_EXPRESSION_CACHE_SIZE));
+    }
+
+    /**
+     * Gets the {@code testify.classpath.jars} system property that specifies whether the
+     * entries of classpath JAR files are searched for classpath files in addition to the
+     * classpath directories. JAR file entries are not indexed by default.
+     *
+     * @return true if JAR file entries are indexed, false otherwise
+     */
+    public boolean isClasspathJarsIndexed() {
+        return Boolean.parseBoolean(System.getProperty("testify.classpath.jars", "false"));
+    }
+
+    /**
+     * Gets the {@code testify.test.threads} system property that specifies the maximum number
+     * of test methods that are run concurrently. By default test methods are run sequentially.
+     *
+     * @return the number of test threads
+     */
+    public int getTestThreads() {
+        return Math.max(1, Integer.getInteger("testify.test.threads", 1));
+    }
+
+    /**
+     * Gets the {@code testify.test.parallel} system property, split it by comma separator and
+     * return it as an array of test levels (i.e. unit, integration, system) whose test methods
+     * may be run concurrently. By default only unit tests, which are fully mock-backed, are
+     * run concurrently.
+     *
+     * @return the names of the test levels that may be run concurrently
+     */
+    public String[] getParallelLevels() {
+        String result = System.getProperty("testify.test.parallel", "unit");
+
+        return Stream.of(result.split(","))
+                .map(String::trim)
+                .filter(p -> !p.isEmpty())
+                .map(String::toUpperCase)
+                .toArray(String[]::new);
+    }
+
 }
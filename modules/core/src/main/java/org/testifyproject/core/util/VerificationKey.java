@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import org.testifyproject.SutDescriptor;
+import org.testifyproject.TestDescriptor;
+
+/**
+ * A key used to look up the recorded result of a verifier. Descriptors are compared by identity
+ * since they are immutable once the test class is analyzed and comparing them by value would
+ * require hashing all their properties on every lookup.
+ *
+ * @author saden
+ */
+class VerificationKey {
+
+    private final TestDescriptor testDescriptor;
+    private final SutDescriptor sutDescriptor;
+    private final Class<?> verifierType;
+
+    VerificationKey(TestDescriptor testDescriptor, SutDescriptor sutDescriptor,
+            Class<?> verifierType) {
+        this.testDescriptor = testDescriptor;
+        this.sutDescriptor = sutDescriptor;
+        this.verifierType = verifierType;
+    }
+
+    /**
+     * Create a new verification key.
+     *
+     * @param testDescriptor the test descriptor
+     * @param sutDescriptor the system under test descriptor, may be null
+     * @param verifierType the verifier type
+     * @return a new verification key instance
+     */
+    static VerificationKey of(TestDescriptor testDescriptor, SutDescriptor sutDescriptor,
+            Class<?> verifierType) {
+        return new VerificationKey(testDescriptor, sutDescriptor, verifierType);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + System.identityHashCode(testDescriptor);
+        hash = 31 * hash + System.identityHashCode(sutDescriptor);
+        hash = 31 * hash + verifierType.hashCode();
+
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof VerificationKey)) {
+            return false;
+        }
+
+        VerificationKey other = (VerificationKey) obj;
+
+        return testDescriptor == other.testDescriptor
+                && sutDescriptor == other.sutDescriptor
+                && verifierType.equals(other.verifierType);
+    }
+
+}
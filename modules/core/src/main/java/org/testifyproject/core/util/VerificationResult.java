@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import java.util.List;
+
+/**
+ * The errors and warnings reported by a verifier.
+ *
+ * @author saden
+ */
+class VerificationResult {
+
+    private final List<String> errors;
+    private final List<String> warnings;
+
+    VerificationResult(List<String> errors, List<String> warnings) {
+        this.errors = errors;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Create a new verification result.
+     *
+     * @param errors the reported errors
+     * @param warnings the reported warnings
+     * @return a new verification result instance
+     */
+    static VerificationResult of(List<String> errors, List<String> warnings) {
+        return new VerificationResult(errors, warnings);
+    }
+
+    /**
+     * Get the reported errors.
+     *
+     * @return a list of errors, empty list otherwise
+     */
+    List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the reported warnings.
+     *
+     * @return a list of warnings, empty list otherwise
+     */
+    List<String> getWarnings() {
+        return warnings;
+    }
+
+}
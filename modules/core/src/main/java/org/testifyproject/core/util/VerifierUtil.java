@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.testifyproject.SutDescriptor;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.extension.annotation.Memoizable;
+
+/**
+ * A utility class for running test class verifiers. The errors and warnings reported by
+ * verifiers annotated with {@link Memoizable} are recorded the first time they are run for a
+ * given test and system under test descriptor and replayed for every subsequent test method of
+ * the test class instead of running the verifier again. All other verifiers are run every time.
+ *
+ * @author saden
+ */
+public class VerifierUtil {
+
+    public static final VerifierUtil INSTANCE = new VerifierUtil();
+
+    private final Map<VerificationKey, VerificationResult> results;
+
+    VerifierUtil() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    VerifierUtil(Map<VerificationKey, VerificationResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Run the given verifiers against the given test context.
+     *
+     * @param <T> the verifier type
+     * @param testContext the test context
+     * @param verifiers the verifiers that will be run
+     * @param verification the function that runs a verifier against a test context
+     */
+    public <T> void verify(TestContext testContext, Collection<T> verifiers,
+            BiConsumer<T, TestContext> verification) {
+        for (T verifier : verifiers) {
+            Class<?> verifierType = verifier.getClass();
+
+            if (!verifierType.isAnnotationPresent(Memoizable.class)) {
+                verification.accept(verifier, testContext);
+                continue;
+            }
+
+            TestDescriptor testDescriptor = testContext.getTestDescriptor();
+            SutDescriptor sutDescriptor = testContext.getSutDescriptor().orElse(null);
+            VerificationKey key = VerificationKey.of(testDescriptor, sutDescriptor, verifierType);
+            VerificationResult result = results.get(key);
+
+            if (result == null) {
+                int errorCount = testContext.getErrors().size();
+                int warningCount = testContext.getWarnings().size();
+
+                verification.accept(verifier, testContext);
+
+                result = VerificationResult.of(
+                        skip(testContext.getErrors(), errorCount),
+                        skip(testContext.getWarnings(), warningCount));
+                results.putIfAbsent(key, result);
+            } else {
+                result.getErrors().forEach(p -> testContext.addError("{}", p));
+                result.getWarnings().forEach(p -> testContext.addWarning("{}", p));
+            }
+        }
+    }
+
+    List<String> skip(Collection<String> messages, int count) {
+        return messages.stream()
+                .skip(count)
+                .collect(toList());
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2016-2018 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util.logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.helpers.Util;
+
+/**
+ * <p>
+ * A writer that writes log entries to the output choice on a background thread. Log entries
+ * are placed in a bounded ring buffer and the background thread writes them in batches.
+ * A batch is written and the target stream flushed once per flush interval, when the
+ * buffer holds a full batch, or when a flush is requested (i.e. at the end of a test).
+ * Logging threads block when the buffer is full so log entries are never dropped. If the
+ * background thread stops, log entries are written directly by the logging threads.
+ * </p>
+ * <p>
+ * Note that pending log entries are flushed when the JVM shuts down.
+ * </p>
+ *
+ * @author saden
+ */
+class AsyncWriter implements Runnable {
+
+    private static final long FLUSH_TIMEOUT = 5000;
+    private static final long OFFER_TIMEOUT = 100;
+
+    private final OutputChoice outputChoice;
+    private final BlockingQueue<Object> buffer;
+    private final int batchSize;
+    private final long flushInterval;
+    private final StringBuilder batchText;
+    private final AtomicInteger flushRequests;
+
+    volatile Thread thread;
+
+    AsyncWriter(OutputChoice outputChoice, int bufferSize, long flushInterval) {
+        this.outputChoice = outputChoice;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = bufferSize;
+        this.flushInterval = MILLISECONDS.toNanos(flushInterval);
+        this.batchText = new StringBuilder(8192);
+        this.flushRequests = new AtomicInteger();
+    }
+
+    /**
+     * Create and start a new asynchronous writer for the given output choice.
+     *
+     * @param outputChoice the output choice log entries are written to
+     * @param bufferSize the maximum number of buffered log entries
+     * @param flushInterval the maximum time in milliseconds log entries are buffered
+     * @return a new asynchronous writer instance
+     */
+    static AsyncWriter of(OutputChoice outputChoice, int bufferSize, long flushInterval) {
+        AsyncWriter asyncWriter = new AsyncWriter(outputChoice, bufferSize, flushInterval);
+        Thread thread = new Thread(asyncWriter, "testify-logger");
+        thread.setDaemon(true);
+        asyncWriter.thread = thread;
+        thread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncWriter::flush));
+
+        return asyncWriter;
+    }
+
+    /**
+     * Buffer the given log entry. The log entry is expected to end with a line separator. If
+     * the writer thread is no longer running the log entry is written directly.
+     *
+     * @param entry the log entry
+     */
+    void write(String entry) {
+        try {
+            //the writer thread may stop while the buffer is full so rather than waiting on the
+            //buffer indefinitely the entry is offered until the writer thread accepts it
+            while (isRunning()) {
+                if (buffer.offer(entry, OFFER_TIMEOUT, MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        //the entry is written directly rather than lost
+        writeDirectly(entry);
+    }
+
+    /**
+     * Write the given log entry or flush request on the calling thread. If the writer thread
+     * is no longer running the log entries it left in the buffer are written first.
+     *
+     * @param entry the log entry or flush request
+     */
+    void writeDirectly(Object entry) {
+        List<Object> batch = new ArrayList<>();
+
+        synchronized (this) {
+            if (!isRunning()) {
+                buffer.drainTo(batch);
+            }
+
+            batch.add(entry);
+            writeBatch(batch, new StringBuilder());
+        }
+    }
+
+    /**
+     * Determine if the writer thread is running.
+     *
+     * @return true if the writer thread is alive, false otherwise
+     */
+    boolean isRunning() {
+        Thread current = thread;
+
+        return current != null && current.isAlive();
+    }
+
+    /**
+     * Write all the buffered log entries and flush the target stream. This method blocks until
+     * the buffered log entries have been written or the flush times out.
+     */
+    void flush() {
+        Thread current = Thread.currentThread();
+
+        if (current == thread) {
+            return;
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        flushRequests.incrementAndGet();
+
+        boolean accepted = false;
+
+        try {
+            while (!accepted && isRunning()) {
+                accepted = buffer.offer(latch, OFFER_TIMEOUT, MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            current.interrupt();
+        }
+
+        if (!accepted) {
+            //the flush request was not accepted by the writer thread so the buffered entries
+            //are written directly
+            writeDirectly(latch);
+            return;
+        }
+
+        try {
+            latch.await(FLUSH_TIMEOUT, MILLISECONDS);
+        } catch (InterruptedException e) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        List<Object> batch = new ArrayList<>();
+
+        while (true) {
+            try {
+                batch.add(buffer.take());
+                collect(batch);
+                writeBatch(batch, batchText);
+            } catch (InterruptedException e) {
+                //the entries already taken from the buffer are written before the thread stops
+                writeBatch(batch, batchText);
+                return;
+            } catch (Throwable e) {
+                //a failed write, including an error, must not stop the writer thread
+                Util.report("Could not write log entries", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Collect log entries into the given batch until the flush interval elapses, the batch is
+     * full or a flush is requested.
+     *
+     * @param batch the batch that contains the first log entry
+     * @throws InterruptedException thrown if the writer thread is interrupted
+     */
+    void collect(List<Object> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushInterval;
+
+        while (batch.size() < batchSize && flushRequests.get() == 0) {
+            buffer.drainTo(batch, batchSize - batch.size());
+
+            if (flushRequests.get() != 0) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                return;
+            }
+
+            Object entry = buffer.poll(remaining, NANOSECONDS);
+
+            if (entry == null) {
+                return;
+            }
+
+            batch.add(entry);
+        }
+    }
+
+    void writeBatch(List<Object> batch, StringBuilder batchText) {
+        batchText.setLength(0);
+
+        for (Object entry : batch) {
+            if (entry instanceof String) {
+                batchText.append((String) entry);
+            }
+        }
+
+        try {
+            if (batchText.length() > 0) {
+                PrintStream targetStream = outputChoice.getTargetPrintStream();
+                targetStream.print(batchText);
+                targetStream.flush();
+            }
+        } finally {
+            for (Object entry : batch) {
+                if (entry instanceof CountDownLatch) {
+                    flushRequests.decrementAndGet();
+                    ((CountDownLatch) entry).countDown();
+                }
+            }
+        }
+    }
+
+}
@@ -15,15 +15,11 @@
  */
 package org.testifyproject.core.util.logger;
 
-import static java.time.Instant.ofEpochMilli;
-import static java.time.ZoneOffset.UTC;
-
 import static org.fusesource.jansi.Ansi.ansi;
 
 import java.io.PrintStream;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import org.slf4j.event.LoggingEvent;
 import org.slf4j.helpers.FormattingTuple;
@@ -69,8 +65,9 @@ import org.testifyproject.core.TestContextHolder;
  * <li><code>org.testifyproject.logger.dateTimeFormat</code> - The date and time format to be
  * used in the output messages. The pattern describing the date and time format is defined by <a href=
  * "http://docs.oracle.com/javase/1.5.0/docs/api/java/text/SimpleDateFormat.html">
- * <code>SimpleDateFormat</code></a>. If the format is not specified or is invalid, the number
- * of milliseconds since start up will be output.</li>
+ * <code>SimpleDateFormat</code></a> and dates are formatted in the default time zone. If the
+ * format is not specified or is invalid, the ISO-8601 local date and time in UTC will be
+ * output.</li>
  *
  * <li><code>org.testifyproject.logger.showThreadName</code> -Set to <code>true</code> if you
  * want to output the current thread name. Defaults to <code>true</code>.</li>
@@ -89,6 +86,19 @@ import org.testifyproject.core.TestContextHolder;
  * <li><code>org.testifyproject.logger.warnLevelString</code> - The string value output for the
  * warn level. Defaults to <code>WARN</code>.</li>
  *
+ * <li><code>org.testifyproject.logger.asyncOutput</code> - Set to <code>true</code> if you want
+ * log messages to be buffered and written to the output target in batches by a background
+ * thread instead of being written and flushed by the logging thread. Defaults to
+ * <code>false</code>.</li>
+ *
+ * <li><code>org.testifyproject.logger.asyncBufferSize</code> - The maximum number of log
+ * messages buffered when asynchronous output is enabled. Logging threads wait when the buffer
+ * is full. Defaults to <code>8192</code>.</li>
+ *
+ * <li><code>org.testifyproject.logger.asyncFlushInterval</code> - The maximum time in
+ * milliseconds log messages are buffered when asynchronous output is enabled. Buffered
+ * messages are also flushed at the end of each test. Defaults to <code>100</code>.</li>
+ *
  * </ul>
  *
  * <p>
@@ -175,6 +185,10 @@ public class SimpleLogger extends MarkerIgnoringBase {
      * The short name of this simple log instance.
      */
     private transient String shortLogName = null;
+    /**
+     * The highlighted name of this simple log instance.
+     */
+    private transient String magentaLogName = null;
 
     /**
      * All system properties used by <code>SimpleLogger</code> start with this prefix.
@@ -211,6 +225,16 @@ public class SimpleLogger extends MarkerIgnoringBase {
     public static final String DEFAULT_LOG_LEVEL_KEY = SimpleLogger.SYSTEM_PREFIX
             + "defaultLogLevel";
 
+    public static final String ASYNC_OUTPUT_KEY = SimpleLogger.SYSTEM_PREFIX + "asyncOutput";
+
+    public static final String ASYNC_BUFFER_SIZE_KEY = SimpleLogger.SYSTEM_PREFIX
+            + "asyncBufferSize";
+
+    public static final String ASYNC_FLUSH_INTERVAL_KEY = SimpleLogger.SYSTEM_PREFIX
+            + "asyncFlushInterval";
+
+    private static final int DATE_TIME_COLUMNS = 23;
+
     /**
      * Create a new simple logger instance with the given name.
      *
@@ -225,6 +249,20 @@ public class SimpleLogger extends MarkerIgnoringBase {
         } else {
             this.currentLogLevel = configParams.defaultLogLevel;
         }
+
+        this.magentaLogName = getMagentaMessage(name);
+    }
+
+    /**
+     * Write all the log messages buffered by the asynchronous writer to the output target. This
+     * method does nothing if asynchronous output is not enabled.
+     */
+    public static void flush() {
+        SimpleLoggerConfiguration config = configParams;
+
+        if (config != null && config.asyncWriter != null) {
+            config.asyncWriter.flush();
+        }
     }
 
     String recursivelyComputeLevelString() {
@@ -244,21 +282,17 @@ public class SimpleLogger extends MarkerIgnoringBase {
         }
 
         StringBuilder builder = new StringBuilder(512);
-        LocalDateTime dateTime = ofEpochMilli(System.currentTimeMillis())
-                .atZone(UTC)
-                .toLocalDateTime();
-        String foramttedDateTime = paddRight(dateTime.format(
-                DateTimeFormatter.ISO_LOCAL_DATE_TIME), 23);
+        builder.append("[");
+        configParams.formatDateTime(System.currentTimeMillis(), builder);
+        paddRight(builder, DATE_TIME_COLUMNS + 1);
 
-        builder.append("[")
-                .append(foramttedDateTime)
-                .append("]")
+        builder.append("]")
                 .append("[")
                 .append(renderLevel(level))
                 .append("]");
 
         builder.append("[")
-                .append(getMagentaMessage(name))
+                .append(magentaLogName)
                 .append("]");
 
         TestContextHolder.INSTANCE.command(context -> {
@@ -277,8 +311,10 @@ public class SimpleLogger extends MarkerIgnoringBase {
         write(builder, t);
     }
 
-    String paddRight(String value, int maxColumns) {
-        return String.format("%1$-" + maxColumns + "s", value);
+    void paddRight(StringBuilder builder, int maxColumns) {
+        for (int i = builder.length(); i < maxColumns; i++) {
+            builder.append(' ');
+        }
     }
 
     String getMagentaMessage(String loggerName) {
@@ -307,6 +343,21 @@ public class SimpleLogger extends MarkerIgnoringBase {
     }
 
     void write(StringBuilder buf, Throwable t) {
+        AsyncWriter asyncWriter = configParams.asyncWriter;
+
+        if (asyncWriter != null) {
+            buf.append(System.lineSeparator());
+
+            if (t != null) {
+                StringWriter stringWriter = new StringWriter();
+                t.printStackTrace(new PrintWriter(stringWriter));
+                buf.append(stringWriter);
+            }
+
+            asyncWriter.write(buf.toString());
+            return;
+        }
+
         PrintStream targetStream = configParams.outputChoice.getTargetPrintStream();
 
         targetStream.println(buf.toString());
@@ -320,15 +371,6 @@ public class SimpleLogger extends MarkerIgnoringBase {
         }
     }
 
-    private String getFormattedDate() {
-        Date now = new Date();
-        String dateText;
-        synchronized (configParams.dateFormatter) {
-            dateText = configParams.dateFormatter.format(now);
-        }
-        return dateText;
-    }
-
     private String computeShortName() {
         return name.substring(name.lastIndexOf(".") + 1);
     }
@@ -15,6 +15,9 @@
  */
 package org.testifyproject.core.util.logger;
 
+import static java.time.Instant.ofEpochMilli;
+import static java.time.ZoneOffset.UTC;
+
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
@@ -23,6 +26,8 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
 import java.util.Properties;
 
 import org.slf4j.helpers.Util;
@@ -53,7 +58,8 @@ public class SimpleLoggerConfiguration {
     private static final String DATE_TIME_FORMAT_STR_DEFAULT = null;
     private static String dateTimeFormatStr = DATE_TIME_FORMAT_STR_DEFAULT;
 
-    DateFormat dateFormatter = null;
+    DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    ThreadLocal<DateFormat> dateFormat = null;
 
     private static final boolean SHOW_THREAD_NAME_DEFAULT = true;
     boolean showThreadName = SHOW_THREAD_NAME_DEFAULT;
@@ -74,6 +80,17 @@ public class SimpleLoggerConfiguration {
     private static final boolean CACHE_OUTPUT_STREAM_DEFAULT = false;
     private boolean cacheOutputStream = CACHE_OUTPUT_STREAM_DEFAULT;
 
+    private static final boolean ASYNC_OUTPUT_DEFAULT = false;
+    boolean asyncOutput = ASYNC_OUTPUT_DEFAULT;
+
+    private static final int ASYNC_BUFFER_SIZE_DEFAULT = 8192;
+    int asyncBufferSize = ASYNC_BUFFER_SIZE_DEFAULT;
+
+    private static final int ASYNC_FLUSH_INTERVAL_DEFAULT = 100;
+    long asyncFlushInterval = ASYNC_FLUSH_INTERVAL_DEFAULT;
+
+    AsyncWriter asyncWriter = null;
+
     private static final String WARN_LEVELS_STRING_DEFAULT = "WARN";
     String warnLevelString = WARN_LEVELS_STRING_DEFAULT;
 
@@ -110,16 +127,44 @@ public class SimpleLoggerConfiguration {
                 CACHE_OUTPUT_STREAM_DEFAULT);
         outputChoice = computeOutputChoice(logFile, cacheOutputStream);
 
+        asyncOutput = getBooleanProperty(SimpleLogger.ASYNC_OUTPUT_KEY, ASYNC_OUTPUT_DEFAULT);
+        asyncBufferSize = Math.max(1, getIntProperty(SimpleLogger.ASYNC_BUFFER_SIZE_KEY,
+                ASYNC_BUFFER_SIZE_DEFAULT));
+        asyncFlushInterval = Math.max(0, getIntProperty(SimpleLogger.ASYNC_FLUSH_INTERVAL_KEY,
+                ASYNC_FLUSH_INTERVAL_DEFAULT));
+
+        if (asyncOutput) {
+            asyncWriter = AsyncWriter.of(outputChoice, asyncBufferSize, asyncFlushInterval);
+        }
+
         if (dateTimeFormatStr != null) {
             try {
-                dateFormatter = new SimpleDateFormat(dateTimeFormatStr);
+                //the configured pattern keeps SimpleDateFormat semantics. SimpleDateFormat is
+                //not thread-safe so each logging thread formats with its own copy
+                DateFormat configuredFormat = new SimpleDateFormat(dateTimeFormatStr);
+                dateFormat = ThreadLocal.withInitial(() -> (DateFormat) configuredFormat.clone());
             } catch (IllegalArgumentException e) {
                 Util.report("Bad date format in " + CONFIGURATION_FILE
-                        + "; will output relative time", e);
+                        + "; will output ISO-8601 date time", e);
             }
         }
     }
 
+    /**
+     * Format the given time and append it to the given builder. The configured date and time
+     * format is used if there is one, otherwise the ISO-8601 local date and time in UTC.
+     *
+     * @param millis the time in milliseconds since the epoch
+     * @param builder the builder the formatted time is appended to
+     */
+    void formatDateTime(long millis, StringBuilder builder) {
+        if (dateFormat == null) {
+            dateFormatter.formatTo(ofEpochMilli(millis).atZone(UTC), builder);
+        } else {
+            builder.append(dateFormat.get().format(new Date(millis)));
+        }
+    }
+
     private void loadProperties() {
         // add props from the resource simplelogger.properties
         InputStream in = AccessController.doPrivileged((PrivilegedAction<InputStream>) () -> {
@@ -156,6 +201,21 @@ public class SimpleLoggerConfiguration {
         return (prop == null) ? defaultValue : "true".equalsIgnoreCase(prop);
     }
 
+    int getIntProperty(String name, int defaultValue) {
+        String prop = getStringProperty(name);
+
+        if (prop == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(prop.trim());
+        } catch (NumberFormatException e) {
+            Util.report("Bad integer value for " + name + "; will use " + defaultValue);
+            return defaultValue;
+        }
+    }
+
     String getStringProperty(String name) {
         String prop = null;
         try {
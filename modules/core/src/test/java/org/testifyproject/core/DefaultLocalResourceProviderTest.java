@@ -95,6 +95,7 @@ public class DefaultLocalResourceProviderTest {
         verify(testContext).getTestDescriptor();
         verify(testContext).getTestConfigurer();
         verify(testDescriptor).getLocalResources();
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testDescriptor, serviceInstance);
     }
 
@@ -146,6 +147,8 @@ public class DefaultLocalResourceProviderTest {
         given(reflectionUtil.newInstance(dataProviderType)).willReturn(dataProvider);
         given(localResourceInstance.getFqn()).willReturn(fqn);
         given(localResourceInstance.getProperties()).willReturn(properties);
+        given(localResource.name()).willReturn("local");
+        given(localResource.dependsOn()).willReturn(new String[]{});
 
         sut.start(testContext);
 
@@ -174,6 +177,7 @@ public class DefaultLocalResourceProviderTest {
                 TestContextProperties.LOCAL_RESOURCE_INSTANCES),
                 eq(resourceInstance));
 
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testDescriptor, serviceInstance);
     }
 
@@ -192,6 +196,8 @@ public class DefaultLocalResourceProviderTest {
         List<LocalResourceInfo> resourceInstances = ImmutableList.of(resourceInstance);
 
         given(testContext.getLocalResources()).willReturn(resourceInstances);
+        given(localResource.name()).willReturn("local");
+        given(localResource.dependsOn()).willReturn(new String[]{});
 
         sut.stop(testContext);
 
@@ -95,6 +95,7 @@ public class DefaultRemoteResourceProviderTest {
         verify(testContext).getTestDescriptor();
         verify(testContext).getTestConfigurer();
         verify(testDescriptor).getRemoteResources();
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testDescriptor, serviceInstance);
     }
 
@@ -146,6 +147,8 @@ public class DefaultRemoteResourceProviderTest {
         given(reflectionUtil.newInstance(dataProviderType)).willReturn(dataProvider);
         given(remoteResourceInstance.getFqn()).willReturn(fqn);
         given(remoteResourceInstance.getProperties()).willReturn(properties);
+        given(remoteResource.name()).willReturn("remote");
+        given(remoteResource.dependsOn()).willReturn(new String[]{});
 
         sut.start(testContext);
 
@@ -176,6 +179,7 @@ public class DefaultRemoteResourceProviderTest {
                         eq(
                                 resourceInstance));
 
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testDescriptor, serviceInstance);
     }
 
@@ -195,6 +199,8 @@ public class DefaultRemoteResourceProviderTest {
         List<RemoteResourceInfo> resourceInstances = ImmutableList.of(resourceInstance);
 
         given(testContext.getRemoteResources()).willReturn(resourceInstances);
+        given(remoteResource.name()).willReturn("remote");
+        given(remoteResource.dependsOn()).willReturn(new String[]{});
 
         sut.stop(testContext);
 
@@ -15,9 +15,12 @@
  */
 package org.testifyproject.core;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.util.List;
 
@@ -25,6 +28,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.testifyproject.ResourceProvider;
 import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
 import org.testifyproject.core.util.ServiceLocatorUtil;
 import org.testifyproject.guava.common.collect.ImmutableList;
 
@@ -67,6 +71,9 @@ public class DefaultResourceControllerTest {
 
         sut.start(testContext);
 
+        verify(testContext).addProperty(
+                eq(TestContextProperties.RESOURCE_START_SCHEDULE),
+                any(ResourceSchedule.class));
         verify(resourceProvider).start(testContext);
         verify(testContext).addCollectionElement(TestContextProperties.RESOURCE_PROVIDERS,
                 resourceProvider);
@@ -84,7 +91,38 @@ public class DefaultResourceControllerTest {
 
         sut.stop(testContext);
 
+        verify(testContext).addProperty(
+                eq(TestContextProperties.RESOURCE_STOP_SCHEDULE),
+                any(ResourceSchedule.class));
         verify(resourceProvider).stop(testContext);
     }
 
+    @Test
+    public void givenTestContextWithoutResourceProvidersStopShouldDoNothing() {
+        TestContext testContext = mock(TestContext.class);
+
+        given(testContext.<ResourceProvider>findCollection(
+                TestContextProperties.RESOURCE_PROVIDERS))
+                .willReturn(ImmutableList.of());
+
+        sut.stop(testContext);
+
+        verify(testContext).findCollection(TestContextProperties.RESOURCE_PROVIDERS);
+        verifyNoMoreInteractions(testContext);
+    }
+
+    @Test
+    public void givenTestDescriptorReleaseShouldReleaseResourceProviders() {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        ResourceProvider resourceProvider = mock(ResourceProvider.class);
+        List<ResourceProvider> foundResourceProviders = ImmutableList.of(resourceProvider);
+
+        given(serviceLocatorUtil.findAll(ResourceProvider.class)).willReturn(
+                foundResourceProviders);
+
+        sut.release(testDescriptor);
+
+        verify(resourceProvider).release(testDescriptor);
+    }
+
 }
@@ -118,4 +118,13 @@ public class DefaultTestContextBuilderTest {
         assertThat(result.getProperties()).containsEntry(key, value);
     }
 
+    @Test
+    public void callToBuildShouldReturnTestContextWithTestContextPropertyStore() {
+        TestContext result = sut.build();
+
+        assertThat(result.getProperties()).isInstanceOf(PropertyStore.class);
+        assertThat(((PropertyStore) result.getProperties()).getSchema())
+                .isSameAs(TestContextProperties.SCHEMA);
+    }
+
 }
@@ -16,9 +16,14 @@
 package org.testifyproject.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -26,16 +31,19 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.testifyproject.DataProvider;
 import org.testifyproject.ResourceInfo;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServiceInstance;
 import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
+import org.testifyproject.TestifyException;
 import org.testifyproject.VirtualResourceInfo;
 import org.testifyproject.VirtualResourceInstance;
 import org.testifyproject.VirtualResourceProvider;
@@ -46,6 +54,7 @@ import org.testifyproject.core.util.ServiceLocatorUtil;
 import org.testifyproject.fixture.resource.TestDataProvider;
 import org.testifyproject.fixture.resource.ValidVirtualResourceProvider;
 import org.testifyproject.guava.common.collect.ImmutableList;
+import org.testifyproject.guava.common.collect.ImmutableMap;
 import org.testifyproject.trait.PropertiesReader;
 
 /**
@@ -58,15 +67,17 @@ public class DefaultVirtualResourceProviderTest {
     ReflectionUtil reflectionUtil;
     FileSystemUtil fileSystemUtil;
     ServiceLocatorUtil serviceLocatorUtil;
+    SharedArtifactCache<VirtualResourceKey> resourceCache;
 
     @Before
     public void init() {
         reflectionUtil = mock(ReflectionUtil.class);
         fileSystemUtil = mock(FileSystemUtil.class);
         serviceLocatorUtil = mock(ServiceLocatorUtil.class);
+        resourceCache = mock(SharedArtifactCache.class);
 
         sut = spy(new DefaultVirtualResourceProvider(reflectionUtil, fileSystemUtil,
-                serviceLocatorUtil));
+                serviceLocatorUtil, resourceCache, ResourceScheduler.INSTANCE));
     }
 
     @Test
@@ -100,6 +111,7 @@ public class DefaultVirtualResourceProviderTest {
         verify(testContext).getTestDescriptor();
         verify(testContext).getTestConfigurer();
         verify(testDescriptor).getVirtualResources();
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testDescriptor, serviceInstance);
     }
 
@@ -154,6 +166,8 @@ public class DefaultVirtualResourceProviderTest {
         given(reflectionUtil.newInstance(dataProviderType)).willReturn(dataProvider);
         given(virtualResourceInstance.getFqn()).willReturn(fqn);
         given(virtualResourceInstance.getProperties()).willReturn(properties);
+        given(virtualResource.name()).willReturn("virtual");
+        given(virtualResource.dependsOn()).willReturn(new String[]{});
 
         sut.start(testContext);
 
@@ -182,6 +196,7 @@ public class DefaultVirtualResourceProviderTest {
         verify(testContext).addCollectionElement(
                 eq(TestContextProperties.VIRTUAL_RESOURCE_INSTANCES), eq(resourceInstance));
 
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testConfigurer, testDescriptor,
                 serviceInstance);
     }
@@ -237,6 +252,8 @@ public class DefaultVirtualResourceProviderTest {
         given(reflectionUtil.newInstance(dataProviderType)).willReturn(dataProvider);
         given(virtualResourceInstance.getFqn()).willReturn(fqn);
         given(virtualResourceInstance.getProperties()).willReturn(properties);
+        given(virtualResource.name()).willReturn("virtual");
+        given(virtualResource.dependsOn()).willReturn(new String[]{});
 
         sut.start(testContext);
 
@@ -265,6 +282,7 @@ public class DefaultVirtualResourceProviderTest {
         verify(testContext).addCollectionElement(
                 eq(TestContextProperties.VIRTUAL_RESOURCE_INSTANCES), eq(resourceInstance));
 
+        verify(testContext).findProperty(TestContextProperties.RESOURCE_START_SCHEDULE);
         verifyNoMoreInteractions(testContext, testConfigurer, testDescriptor,
                 serviceInstance);
     }
@@ -288,6 +306,8 @@ public class DefaultVirtualResourceProviderTest {
         List<VirtualResourceInfo> resourceInstances = ImmutableList.of(resourceInstance);
 
         given(testContext.getVirtualResources()).willReturn(resourceInstances);
+        given(virtualResource.name()).willReturn("virtual");
+        given(virtualResource.dependsOn()).willReturn(new String[]{});
 
         sut.stop(testContext);
 
@@ -296,4 +316,154 @@ public class DefaultVirtualResourceProviderTest {
         verifyNoMoreInteractions(virtualResourceProvider);
     }
 
+    @Test
+    public void callToStartWithSharedResourceShouldAcquireAndResetSharedResource()
+            throws Exception {
+        TestContext testContext = mock(TestContext.class);
+        TestContext ownerTestContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        VirtualResource virtualResource = mock(VirtualResource.class);
+        List<VirtualResource> virtualResources = ImmutableList.of(virtualResource);
+        VirtualResourceProvider virtualResourceProvider = mock(
+                VirtualResourceProvider.class);
+        VirtualResourceInstance<Object> virtualResourceInstance =
+                mock(VirtualResourceInstance.class);
+        String fqn = "fqn";
+        Map<String, Object> properties = mock(Map.class);
+
+        VirtualResourceInfo resourceInstance = DefaultVirtualResourceInfo.of(virtualResource,
+                virtualResourceProvider, virtualResourceInstance);
+        VirtualResourceKey key = new VirtualResourceKey(ReuseScope.JVM, null,
+                virtualResource);
+        SharedArtifact<VirtualResourceKey> sharedResource = mock(SharedArtifact.class);
+
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getTestConfigurer()).willReturn(testConfigurer);
+        given(testDescriptor.getVirtualResources()).willReturn(virtualResources);
+        given(virtualResource.reuse()).willReturn(ReuseScope.JVM);
+        given(virtualResource.dataFiles()).willReturn(new String[]{});
+        given(resourceCache.computeIfAbsent(eq(key), any())).willReturn(sharedResource);
+        given(sharedResource.getTestContext()).willReturn(ownerTestContext);
+        given(sharedResource.getProperties()).willReturn(
+                ImmutableMap.of(DefaultVirtualResourceProvider.RESOURCE_INFO, resourceInstance));
+        given(virtualResourceInstance.getFqn()).willReturn(fqn);
+        given(virtualResourceInstance.getProperties()).willReturn(properties);
+        given(virtualResource.name()).willReturn("virtual");
+        given(virtualResource.dependsOn()).willReturn(new String[]{});
+
+        sut.start(testContext);
+
+        verify(resourceCache).computeIfAbsent(eq(key), any());
+        verify(sharedResource).acquire();
+        verify(sut, never()).createResource(testContext, testConfigurer, virtualResource);
+        verify(virtualResourceProvider).reset(testContext, virtualResource,
+                virtualResourceInstance);
+        verify(sut).loadData(testContext, virtualResourceProvider, virtualResource,
+                virtualResourceInstance);
+        verify(testContext).addProperty(fqn, properties);
+        verify(testContext).addCollectionElement(
+                TestContextProperties.VIRTUAL_RESOURCE_INSTANCES, resourceInstance);
+    }
+
+    @Test
+    public void givenResetFailureAcquireResourceShouldReleaseSharedResource() throws Exception {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        VirtualResource virtualResource = mock(VirtualResource.class);
+        VirtualResourceProvider virtualResourceProvider = mock(
+                VirtualResourceProvider.class);
+        VirtualResourceInstance<Object> virtualResourceInstance =
+                mock(VirtualResourceInstance.class);
+        VirtualResourceInfo resourceInstance = DefaultVirtualResourceInfo.of(virtualResource,
+                virtualResourceProvider, virtualResourceInstance);
+        SharedArtifact<VirtualResourceKey> sharedResource = mock(SharedArtifact.class);
+
+        given(virtualResource.reuse()).willReturn(ReuseScope.JVM);
+        given(resourceCache.computeIfAbsent(any(), any())).willReturn(sharedResource);
+        given(sharedResource.getProperties()).willReturn(
+                ImmutableMap.of(DefaultVirtualResourceProvider.RESOURCE_INFO, resourceInstance));
+        willThrow(IllegalStateException.class).given(virtualResourceProvider)
+                .reset(testContext, virtualResource, virtualResourceInstance);
+
+        Throwable result = catchThrowable(() -> sut.acquireResource(testContext,
+                testDescriptor, testConfigurer, virtualResource));
+
+        assertThat(result).isInstanceOf(TestifyException.class);
+        verify(sharedResource).acquire();
+        verify(sharedResource).release();
+    }
+
+    @Test
+    public void callToAcquireResourceForUncachedResourceShouldCreateResource() {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        VirtualResource virtualResource = mock(VirtualResource.class);
+        VirtualResourceInfo resourceInstance = mock(VirtualResourceInfo.class);
+        SharedArtifactCache<VirtualResourceKey> cache = SharedArtifactCache.of();
+
+        sut = spy(new DefaultVirtualResourceProvider(reflectionUtil, fileSystemUtil,
+                serviceLocatorUtil, cache, ResourceScheduler.INSTANCE));
+
+        given(virtualResource.reuse()).willReturn(ReuseScope.CLASS);
+        doReturn(resourceInstance).when(sut)
+                .createResource(testContext, testConfigurer, virtualResource);
+
+        VirtualResourceInfo result = sut.acquireResource(testContext, testDescriptor,
+                testConfigurer, virtualResource);
+
+        assertThat(result).isSameAs(resourceInstance);
+        assertThat(cache.find(VirtualResourceKey.of(testDescriptor, virtualResource)))
+                .isPresent();
+        verify(sut).createResource(testContext, testConfigurer, virtualResource);
+        verifyNoMoreInteractions(resourceInstance);
+    }
+
+    @Test
+    public void callToStopWithSharedResourceShouldReleaseSharedResource() throws Exception {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        VirtualResource virtualResource = mock(VirtualResource.class);
+        VirtualResourceProvider virtualResourceProvider = mock(
+                VirtualResourceProvider.class);
+        VirtualResourceInstance virtualResourceInstance = mock(
+                VirtualResourceInstance.class);
+        SharedArtifact<VirtualResourceKey> sharedResource = mock(SharedArtifact.class);
+
+        VirtualResourceInfo resourceInstance = DefaultVirtualResourceInfo.of(virtualResource,
+                virtualResourceProvider, virtualResourceInstance);
+        VirtualResourceKey key = VirtualResourceKey.of(testDescriptor, virtualResource);
+
+        given(testContext.getVirtualResources()).willReturn(ImmutableList.of(resourceInstance));
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(virtualResource.reuse()).willReturn(ReuseScope.JVM);
+        given(virtualResource.name()).willReturn("virtual");
+        given(virtualResource.dependsOn()).willReturn(new String[]{});
+        given(resourceCache.find(key)).willReturn(Optional.of(sharedResource));
+
+        sut.stop(testContext);
+
+        verify(resourceCache).find(key);
+        verify(sharedResource).release();
+        verifyNoMoreInteractions(virtualResourceProvider);
+    }
+
+    @Test
+    public void givenTestDescriptorReleaseShouldDestroyRemovedSharedResources() {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Class testClass = Object.class;
+        SharedArtifact<VirtualResourceKey> sharedResource = mock(SharedArtifact.class);
+
+        given(testDescriptor.getTestClass()).willReturn(testClass);
+        given(resourceCache.remove(testClass))
+                .willReturn(ImmutableList.of(sharedResource));
+
+        sut.release(testDescriptor);
+
+        verify(resourceCache).remove(testClass);
+        verify(sharedResource).destroy();
+    }
+
 }
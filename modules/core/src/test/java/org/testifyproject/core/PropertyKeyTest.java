@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author saden
+ */
+public class PropertyKeyTest {
+
+    PropertySchema schema;
+    PropertyKey<String> sut;
+
+    @Before
+    public void init() {
+        schema = PropertySchema.of("first", "propertyKeyTest");
+        sut = schema.key("propertyKeyTest");
+    }
+
+    @Test
+    public void validateSut() {
+        assertThat(sut).isNotNull();
+        assertThat(sut.getName()).isEqualTo("propertyKeyTest");
+        assertThat(sut.getSchema()).isSameAs(schema);
+        assertThat(sut.getSlot()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenMapGetShouldReturnValueByName() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("propertyKeyTest", "value");
+
+        String result = sut.get(properties);
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    public void givenPropertyStoreGetShouldReturnValueBySlot() {
+        PropertyStore properties = PropertyStore.of(schema);
+        properties.put("propertyKeyTest", "value");
+
+        String result = sut.get(properties);
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    public void givenPropertyStoreOfOtherSchemaGetShouldReturnValueByName() {
+        PropertyStore properties = PropertyStore.of(PropertySchema.of("propertyKeyTest"));
+        properties.put("propertyKeyTest", "value");
+
+        String result = sut.get(properties);
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    public void givenAbsentPropertyGetOrDefaultShouldReturnDefaultValue() {
+        String result = sut.getOrDefault(PropertyStore.of(schema), "default");
+
+        assertThat(result).isEqualTo("default");
+    }
+
+    @Test
+    public void givenAbsentPropertyFindShouldReturnEmptyOptional() {
+        Optional<String> result = sut.find(PropertyStore.of(schema));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenAbsentPropertyComputeIfAbsentShouldAddComputedValue() {
+        Map<String, Object> properties = new HashMap<>();
+
+        String result = sut.computeIfAbsent(properties, p -> "value");
+
+        assertThat(result).isEqualTo("value");
+        assertThat(properties).containsEntry("propertyKeyTest", "value");
+    }
+
+}
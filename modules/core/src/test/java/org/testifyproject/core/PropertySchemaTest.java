@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.TestifyException;
+
+/**
+ *
+ * @author saden
+ */
+public class PropertySchemaTest {
+
+    PropertySchema sut;
+
+    @Before
+    public void init() {
+        sut = PropertySchema.of("first", "second", "first");
+    }
+
+    @Test
+    public void validateSut() {
+        assertThat(sut).isNotNull();
+        assertThat(sut.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenDeclaredNameKeyShouldReturnSameKey() {
+        PropertyKey<String> result = sut.key("first");
+
+        assertThat(result).isSameAs(sut.key("first"));
+        assertThat(result.getSchema()).isSameAs(sut);
+    }
+
+    @Test
+    public void givenDeclaredNamesKeyShouldAssignSlotsInDeclarationOrder() {
+        assertThat(sut.key("first").getSlot()).isEqualTo(0);
+        assertThat(sut.key("second").getSlot()).isEqualTo(1);
+    }
+
+    @Test(expected = TestifyException.class)
+    public void givenUndeclaredNameKeyShouldThrowException() {
+        sut.key("undeclared");
+    }
+
+    @Test
+    public void givenUndeclaredNameFindShouldReturnNull() {
+        PropertyKey<?> result = sut.find("undeclared");
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void givenSameNamesSchemasShouldAssignDifferentKeys() {
+        PropertySchema other = PropertySchema.of("first", "second");
+
+        assertThat(other.key("first")).isNotSameAs(sut.key("first"));
+    }
+
+}
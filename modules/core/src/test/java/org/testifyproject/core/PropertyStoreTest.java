@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author saden
+ */
+public class PropertyStoreTest {
+
+    PropertySchema schema;
+    PropertyStore sut;
+
+    @Before
+    public void init() {
+        schema = PropertySchema.of("propertyStoreTest", "otherPropertyStoreTest");
+        sut = PropertyStore.of(schema);
+    }
+
+    @Test
+    public void validateSut() {
+        assertThat(sut).isNotNull();
+        assertThat(sut.isEmpty()).isTrue();
+        assertThat(sut.isFrozen()).isFalse();
+    }
+
+    @Test
+    public void givenPropertyPutShouldAddProperty() {
+        Object result = sut.put("propertyStoreTest", "value");
+
+        assertThat(result).isNull();
+        assertThat(sut.get("propertyStoreTest")).isEqualTo("value");
+        assertThat(sut).hasSize(1).containsEntry("propertyStoreTest", "value");
+    }
+
+    @Test
+    public void givenDeclaredPropertyPutShouldAddPropertyToSlot() {
+        PropertyKey<String> key = schema.key("propertyStoreTest");
+
+        sut.put("propertyStoreTest", "value");
+
+        assertThat(sut.get(key)).isEqualTo("value");
+    }
+
+    @Test
+    public void givenUndeclaredPropertyPutShouldAddProperty() {
+        Object result = sut.put("undeclaredPropertyStoreTest", "value");
+
+        assertThat(result).isNull();
+        assertThat(sut.get("undeclaredPropertyStoreTest")).isEqualTo("value");
+        assertThat(sut).hasSize(1).containsEntry("undeclaredPropertyStoreTest", "value");
+    }
+
+    @Test
+    public void givenNullValuePutShouldKeepProperty() {
+        sut.put("propertyStoreTest", "value");
+
+        Object result = sut.put("propertyStoreTest", null);
+
+        assertThat(result).isEqualTo("value");
+        assertThat(sut.containsKey("propertyStoreTest")).isTrue();
+        assertThat(sut.get("propertyStoreTest")).isNull();
+        assertThat(sut).hasSize(1);
+    }
+
+    @Test
+    public void givenPropertiesEntrySetShouldReturnPropertiesInInsertionOrder() {
+        sut.put("otherPropertyStoreTest", "other");
+        sut.put("undeclaredPropertyStoreTest", "undeclared");
+        sut.put("propertyStoreTest", "value");
+
+        assertThat(sut.keySet()).containsExactly("otherPropertyStoreTest",
+                "undeclaredPropertyStoreTest", "propertyStoreTest");
+    }
+
+    @Test
+    public void givenDeclaredPropertyGetOrDefaultShouldReturnProperty() {
+        sut.put("propertyStoreTest", "value");
+
+        Object result = sut.getOrDefault("propertyStoreTest", "default");
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    public void givenAbsentPropertyGetOrDefaultShouldReturnDefaultValue() {
+        Object result = sut.getOrDefault("propertyStoreTest", "default");
+
+        assertThat(result).isEqualTo("default");
+    }
+
+    @Test
+    public void givenNullValueGetOrDefaultShouldReturnNull() {
+        sut.put("propertyStoreTest", null);
+
+        Object result = sut.getOrDefault("propertyStoreTest", "default");
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void givenUnknownKeyGetShouldReturnNull() {
+        Object result = sut.get("unknownPropertyStoreTest");
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void givenPropertyRemoveShouldRemoveProperty() {
+        sut.put("propertyStoreTest", "value");
+
+        Object result = sut.remove("propertyStoreTest");
+
+        assertThat(result).isEqualTo("value");
+        assertThat(sut).isEmpty();
+    }
+
+    @Test
+    public void givenExistingPropertyComputeIfAbsentShouldReturnExistingValue() {
+        sut.put("propertyStoreTest", "value");
+
+        Object result = sut.computeIfAbsent("propertyStoreTest", p -> "other");
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    public void givenExistingPropertyPutIfAbsentShouldNotReplaceValue() {
+        sut.put("propertyStoreTest", "value");
+
+        Object result = sut.putIfAbsent("propertyStoreTest", "other");
+
+        assertThat(result).isEqualTo("value");
+        assertThat(sut.get("propertyStoreTest")).isEqualTo("value");
+    }
+
+    @Test
+    public void givenSamePropertiesShouldBeEqualToMap() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("propertyStoreTest", "value");
+        sut.put("propertyStoreTest", "value");
+
+        assertThat(sut).isEqualTo(properties);
+        assertThat(properties).isEqualTo(sut);
+        assertThat(sut.hashCode()).isEqualTo(properties.hashCode());
+    }
+
+    @Test
+    public void callToClearShouldRemoveAllProperties() {
+        sut.put("propertyStoreTest", "value");
+
+        sut.clear();
+
+        assertThat(sut).isEmpty();
+    }
+
+    @Test
+    public void callToFreezeShouldReplaceCollectionsWithUnmodifiableCopies() {
+        Collection<String> collection = new ConcurrentLinkedQueue<>();
+        collection.add("element");
+        sut.put("propertyStoreTest", collection);
+
+        sut.freeze();
+
+        Collection<String> result = (Collection<String>) sut.get("propertyStoreTest");
+        assertThat(sut.isFrozen()).isTrue();
+        assertThat(result).containsExactly("element");
+        assertThatThrownBy(() -> result.add("other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void givenFrozenStorePutShouldThrowException() {
+        sut.freeze();
+
+        assertThatThrownBy(() -> sut.put("propertyStoreTest", "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void givenFrozenStoreComputeIfAbsentOfExistingPropertyShouldReturnValue() {
+        sut.put("propertyStoreTest", "value");
+        sut.freeze();
+
+        Object result = sut.computeIfAbsent("propertyStoreTest", p -> "other");
+
+        assertThat(result).isEqualTo("value");
+    }
+
+}
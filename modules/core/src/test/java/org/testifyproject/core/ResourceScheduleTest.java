@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.TestifyException;
+
+/**
+ *
+ * @author saden
+ */
+public class ResourceScheduleTest {
+
+    ResourceSchedule sut;
+    ExecutorService executor;
+    ScheduledExecutorService timer;
+    List<String> events;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        timer = Executors.newSingleThreadScheduledExecutor();
+        events = Collections.synchronizedList(new ArrayList<>());
+
+        sut = new ResourceSchedule("start", false, 2000, executor, timer);
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    @Test
+    public void givenNoTasksRunShouldDoNothing() {
+        sut.run();
+
+        assertThat(sut.getTimings()).isEmpty();
+    }
+
+    @Test
+    public void givenDependentTasksRunShouldRunDependenciesFirst() {
+        sut.add("migration", new String[]{"database"}, () -> events.add("migration"))
+                .add("database", new String[]{}, () -> {
+                    sleep(50);
+                    events.add("database");
+                })
+                .add("cache", new String[]{}, () -> events.add("cache"));
+
+        sut.run();
+
+        assertThat(events).containsOnly("migration", "database", "cache");
+        assertThat(events.indexOf("database")).isLessThan(events.indexOf("migration"));
+        assertThat(sut.getTimings()).containsOnlyKeys("migration", "database", "cache");
+    }
+
+    @Test
+    public void givenStopScheduleRunShouldRunDependentsFirst() {
+        sut = new ResourceSchedule("stop", true, 2000, executor, timer);
+
+        sut.add("migration", new String[]{"database"}, () -> {
+            sleep(50);
+            events.add("migration");
+        }).add("database", new String[]{}, () -> events.add("database"));
+
+        sut.run();
+
+        assertThat(events).containsExactly("migration", "database");
+    }
+
+    @Test(expected = TestifyException.class)
+    public void givenDuplicateResourceNameAddShouldThrowException() {
+        sut.add("database", new String[]{}, () -> events.add("database"));
+
+        sut.add("database", new String[]{}, () -> events.add("database"));
+    }
+
+    @Test(expected = TestifyException.class)
+    public void givenUnknownDependencyRunShouldThrowException() {
+        sut.add("migration", new String[]{"database"}, () -> events.add("migration"));
+
+        sut.run();
+    }
+
+    @Test
+    public void givenUnknownDependencyInStopScheduleRunShouldRunTask() {
+        sut = new ResourceSchedule("stop", true, 2000, executor, timer);
+
+        sut.add("migration", new String[]{"database"}, () -> events.add("migration"));
+
+        sut.run();
+
+        assertThat(events).containsExactly("migration");
+    }
+
+    @Test
+    public void givenCircularDependencyRunShouldThrowExceptionWithoutRunningTasks() {
+        sut.add("first", new String[]{"second"}, () -> events.add("first"))
+                .add("second", new String[]{"first"}, () -> events.add("second"))
+                .add("third", new String[]{}, () -> events.add("third"));
+
+        Throwable result = catchThrowable(sut::run);
+
+        assertThat(result).isInstanceOf(TestifyException.class)
+                .hasMessageContaining("circular dependency");
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void givenFailedTaskRunShouldNotRunDependentTasksAndThrowException() {
+        sut.add("migration", new String[]{"database"}, () -> events.add("migration"))
+                .add("database", new String[]{}, () -> {
+                    throw new IllegalStateException("database");
+                });
+
+        Throwable result = catchThrowable(sut::run);
+
+        assertThat(result).isInstanceOf(TestifyException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void givenSlowTaskRunShouldTimeout() {
+        sut = new ResourceSchedule("start", false, 50, executor, timer);
+
+        sut.add("database", new String[]{}, () -> sleep(2000));
+
+        Throwable result = catchThrowable(sut::run);
+
+        assertThat(result).isInstanceOf(TestifyException.class)
+                .hasRootCauseInstanceOf(TimeoutException.class);
+    }
+
+    void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.TestContext;
+import org.testifyproject.core.util.SettingUtil;
+
+/**
+ *
+ * @author saden
+ */
+public class ResourceSchedulerTest {
+
+    ResourceScheduler sut;
+    ExecutorService executor;
+    ScheduledExecutorService timer;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(2);
+        timer = Executors.newSingleThreadScheduledExecutor();
+
+        sut = new ResourceScheduler(executor, timer, 1000);
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    @Test
+    public void givenSettingUtilConstructorShouldReturnNewInstance() {
+        SettingUtil settingUtil = mock(SettingUtil.class);
+
+        given(settingUtil.getResourceThreads()).willReturn(1);
+        given(settingUtil.getResourceTimeout()).willReturn(1000L);
+
+        ResourceScheduler result = new ResourceScheduler(settingUtil);
+
+        assertThat(result).isNotNull();
+        verify(settingUtil).getResourceThreads();
+        verify(settingUtil).getResourceTimeout();
+    }
+
+    @Test
+    public void callToCreateStartScheduleShouldReturnStartSchedule() {
+        ResourceSchedule result = sut.createStartSchedule();
+
+        assertThat(result.getPhase()).isEqualTo("start");
+    }
+
+    @Test
+    public void callToCreateStopScheduleShouldReturnStopSchedule() {
+        ResourceSchedule result = sut.createStopSchedule();
+
+        assertThat(result.getPhase()).isEqualTo("stop");
+    }
+
+    @Test
+    public void givenTestContextWithScheduleScheduleStartShouldAddTasksToSchedule() {
+        TestContext testContext = mock(TestContext.class);
+        ResourceSchedule schedule = sut.createStartSchedule();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        given(testContext.findProperty(TestContextProperties.RESOURCE_START_SCHEDULE))
+                .willReturn(Optional.of(schedule));
+
+        sut.scheduleStart(testContext, p -> p.add("resource", new String[]{},
+                () -> events.add("resource")));
+
+        assertThat(events).isEmpty();
+
+        schedule.run();
+
+        assertThat(events).containsExactly("resource");
+    }
+
+    @Test
+    public void givenTestContextWithoutScheduleScheduleStopShouldRunTasks() {
+        TestContext testContext = mock(TestContext.class);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        given(testContext.findProperty(TestContextProperties.RESOURCE_STOP_SCHEDULE))
+                .willReturn(Optional.empty());
+
+        sut.scheduleStop(testContext, p -> p.add("resource", new String[]{},
+                () -> events.add("resource")));
+
+        assertThat(events).containsExactly("resource");
+    }
+
+}
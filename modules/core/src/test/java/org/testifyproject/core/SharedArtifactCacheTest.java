@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.ReuseScope;
+
+/**
+ *
+ * @author saden
+ */
+public class SharedArtifactCacheTest {
+
+    SharedArtifactCache<SharedArtifactKey> sut;
+
+    @Before
+    public void init() {
+        sut = SharedArtifactCache.of();
+    }
+
+    @Test
+    public void givenUncachedKeyFindShouldReturnEmptyOptional() {
+        SharedArtifactKey key = createKey(ReuseScope.JVM, null);
+
+        Optional<SharedArtifact<SharedArtifactKey>> result = sut.find(key);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenKeyComputeIfAbsentShouldCreateArtifactOnce() {
+        SharedArtifactKey key = createKey(ReuseScope.JVM, null);
+        SharedArtifact<SharedArtifactKey> artifact = mock(SharedArtifact.class);
+        SharedArtifact<SharedArtifactKey> otherArtifact = mock(SharedArtifact.class);
+
+        SharedArtifact<SharedArtifactKey> first = sut.computeIfAbsent(key, p -> artifact);
+        SharedArtifact<SharedArtifactKey> second = sut.computeIfAbsent(key, p -> otherArtifact);
+
+        assertThat(first).isSameAs(artifact);
+        assertThat(second).isSameAs(artifact);
+        assertThat(sut.find(key)).contains(artifact);
+    }
+
+    @Test
+    public void givenDistinctKeysComputeIfAbsentShouldCreateArtifactsConcurrently() {
+        SharedArtifactKey key = createKey(ReuseScope.JVM, null);
+        SharedArtifactKey otherKey = createKey(ReuseScope.JVM, null);
+        SharedArtifact<SharedArtifactKey> artifact = mock(SharedArtifact.class);
+        SharedArtifact<SharedArtifactKey> otherArtifact = mock(SharedArtifact.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            SharedArtifact<SharedArtifactKey> result = sut.computeIfAbsent(key, p -> {
+                //creating another artifact while this one is being created must not block
+                Future<SharedArtifact<SharedArtifactKey>> future = executor.submit(() ->
+                        sut.computeIfAbsent(otherKey, k -> otherArtifact));
+
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                    throw new IllegalStateException(e);
+                }
+
+                return artifact;
+            });
+
+            assertThat(result).isSameAs(artifact);
+            assertThat(sut.find(otherKey)).contains(otherArtifact);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenTestClassRemoveShouldRemoveClassScopedArtifacts() {
+        SharedArtifactKey classKey = createKey(ReuseScope.CLASS, SharedArtifactCacheTest.class);
+        SharedArtifactKey jvmKey = createKey(ReuseScope.JVM, SharedArtifactCacheTest.class);
+        SharedArtifact<SharedArtifactKey> classArtifact = mock(SharedArtifact.class);
+        SharedArtifact<SharedArtifactKey> jvmArtifact = mock(SharedArtifact.class);
+
+        sut.computeIfAbsent(classKey, p -> classArtifact);
+        sut.computeIfAbsent(jvmKey, p -> jvmArtifact);
+
+        Collection<SharedArtifact<SharedArtifactKey>> result =
+                sut.remove(SharedArtifactCacheTest.class);
+
+        assertThat(result).containsExactly(classArtifact);
+        assertThat(sut.find(classKey)).isEmpty();
+        assertThat(sut.find(jvmKey)).contains(jvmArtifact);
+    }
+
+    @Test
+    public void callToDestroyAllShouldDestroyAllArtifacts() {
+        SharedArtifactKey key = createKey(ReuseScope.JVM, null);
+        SharedArtifact<SharedArtifactKey> artifact = mock(SharedArtifact.class);
+
+        sut.computeIfAbsent(key, p -> artifact);
+        sut.destroyAll();
+
+        verify(artifact).destroy();
+        assertThat(sut.find(key)).isEmpty();
+    }
+
+    SharedArtifactKey createKey(ReuseScope scope, Class testClass) {
+        SharedArtifactKey key = mock(SharedArtifactKey.class);
+
+        given(key.getScope()).willReturn(scope);
+        given(key.getTestClass()).willReturn(testClass);
+
+        return key;
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.MockProvider;
+import org.testifyproject.ResourceController;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.TestifyException;
+import org.testifyproject.guava.common.collect.ImmutableList;
+import org.testifyproject.guava.common.collect.ImmutableMap;
+
+/**
+ *
+ * @author saden
+ */
+public class SharedArtifactTest {
+
+    SharedArtifact<SharedArtifactKey> sut;
+    SharedArtifactKey key;
+    TestContext sharedTestContext;
+    ResourceController resourceController;
+    BiConsumer<TestContext, ResourceController> destroyer;
+
+    @Before
+    public void init() {
+        key = mock(SharedArtifactKey.class);
+        sharedTestContext = mock(TestContext.class);
+        resourceController = mock(ResourceController.class);
+        destroyer = mock(BiConsumer.class);
+
+        sut = SharedArtifact.of(key, sharedTestContext, resourceController, ImmutableMap.of(),
+                destroyer);
+    }
+
+    @Test
+    public void givenFakeCollaboratorReuseCollaboratorsShouldResetAndReuseFake() {
+        TestContext testContext = mock(TestContext.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        MockProvider mockProvider = mock(MockProvider.class);
+        Object testInstance = new Object();
+        Object sharedFake = new Object();
+
+        given(fieldDescriptor.isMock()).willReturn(true);
+        givenSharedCollaborator(testContext, fieldDescriptor, mockProvider, testInstance,
+                sharedFake);
+
+        sut.reuseCollaborators(testContext);
+
+        verify(mockProvider).resetFake(sharedFake);
+        verify(fieldDescriptor).setValue(testInstance, sharedFake);
+    }
+
+    @Test
+    public void givenRealCollaboratorReuseCollaboratorsShouldReuseRealWithoutReset() {
+        TestContext testContext = mock(TestContext.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        MockProvider mockProvider = mock(MockProvider.class);
+        Object testInstance = new Object();
+        Object sharedReal = new Object();
+
+        given(fieldDescriptor.isMock()).willReturn(false);
+        givenSharedCollaborator(testContext, fieldDescriptor, mockProvider, testInstance,
+                sharedReal);
+
+        sut.reuseCollaborators(testContext);
+
+        verify(mockProvider, never()).resetFake(any());
+        verify(fieldDescriptor).setValue(testInstance, sharedReal);
+    }
+
+    @Test
+    public void givenFieldNotCoveredByKeyReuseCollaboratorsShouldNotReuseField() {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testDescriptor.getFieldDescriptors()).willReturn(ImmutableList.of(fieldDescriptor));
+        given(key.isCollaborator(fieldDescriptor)).willReturn(false);
+
+        sut.reuseCollaborators(testContext);
+
+        verify(fieldDescriptor, never()).setValue(any(), any());
+    }
+
+    @Test
+    public void givenMissingSharedCollaboratorReuseCollaboratorsShouldThrowException() {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        TestDescriptor sharedTestDescriptor = mock(TestDescriptor.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        Class fieldType = Object.class;
+        String fieldName = "collaborator";
+
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(sharedTestContext.getTestDescriptor()).willReturn(sharedTestDescriptor);
+        given(testDescriptor.getFieldDescriptors()).willReturn(ImmutableList.of(fieldDescriptor));
+        given(key.isCollaborator(fieldDescriptor)).willReturn(true);
+        given(fieldDescriptor.getGenericType()).willReturn(fieldType);
+        given(fieldDescriptor.getName()).willReturn(fieldName);
+        given(sharedTestDescriptor.findFieldDescriptor(fieldType, fieldName))
+                .willReturn(Optional.empty());
+
+        Throwable result = catchThrowable(() -> sut.reuseCollaborators(testContext));
+
+        assertThat(result).isInstanceOf(TestifyException.class);
+        verify(fieldDescriptor, never()).setValue(any(), any());
+    }
+
+    @Test
+    public void callToDestroyShouldDestroyArtifact() {
+        sut.destroy();
+
+        verify(destroyer).accept(sharedTestContext, resourceController);
+    }
+
+    void givenSharedCollaborator(TestContext testContext, FieldDescriptor fieldDescriptor,
+            MockProvider mockProvider, Object testInstance, Object value) {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        TestDescriptor sharedTestDescriptor = mock(TestDescriptor.class);
+        FieldDescriptor sharedFieldDescriptor = mock(FieldDescriptor.class);
+        Object sharedTestInstance = new Object();
+        Class fieldType = Object.class;
+        String fieldName = "collaborator";
+
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getMockProvider()).willReturn(mockProvider);
+        given(sharedTestContext.getTestInstance()).willReturn(sharedTestInstance);
+        given(sharedTestContext.getTestDescriptor()).willReturn(sharedTestDescriptor);
+        given(testDescriptor.getFieldDescriptors()).willReturn(ImmutableList.of(fieldDescriptor));
+        given(key.isCollaborator(fieldDescriptor)).willReturn(true);
+        given(fieldDescriptor.getGenericType()).willReturn(fieldType);
+        given(fieldDescriptor.getName()).willReturn(fieldName);
+        given(sharedTestDescriptor.findFieldDescriptor(fieldType, fieldName))
+                .willReturn(Optional.of(sharedFieldDescriptor));
+        given(sharedFieldDescriptor.getValue(sharedTestInstance)).willReturn(Optional.of(value));
+    }
+
+}
@@ -23,6 +23,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -151,4 +157,165 @@ public class TestContextHolderTest {
         verify(function).apply(testContext);
     }
 
+    @Test
+    public void givenDefaultHolderNewThreadShouldInheritTestContext() throws Exception {
+        sut = new TestContextHolder();
+        TestContext testContext = mock(TestContext.class);
+
+        sut.register(testContext);
+        sut.set(testContext);
+
+        Optional<TestContext> result = getInChildThread();
+
+        assertThat(sut.isInheritable(testContext)).isTrue();
+        assertThat(result).contains(testContext);
+    }
+
+    @Test
+    public void givenNonInheritableTestContextNewThreadShouldNotInheritTestContext()
+            throws Exception {
+        sut = new TestContextHolder();
+        TestContext testContext = mock(TestContext.class);
+
+        sut.register(testContext, false);
+        sut.set(testContext);
+
+        Optional<TestContext> result = getInChildThread();
+
+        assertThat(sut.isInheritable(testContext)).isFalse();
+        assertThat(result).isEmpty();
+        assertThat(sut.get()).contains(testContext);
+    }
+
+    @Test
+    public void givenNonInheritableRunThenInheritableRunNewThreadShouldInheritTestContext()
+            throws Exception {
+        sut = new TestContextHolder();
+        TestContext parallelTestContext = mock(TestContext.class);
+        TestContext systemTestContext = mock(TestContext.class);
+
+        sut.register(parallelTestContext, false);
+        sut.set(parallelTestContext);
+        sut.unregister(parallelTestContext);
+        sut.remove();
+
+        sut.register(systemTestContext);
+        sut.set(systemTestContext);
+
+        Optional<TestContext> result = getInChildThread();
+
+        assertThat(sut.isInheritable(parallelTestContext)).isTrue();
+        assertThat(result).contains(systemTestContext);
+    }
+
+    Optional<TestContext> getInChildThread() throws InterruptedException {
+        AtomicReference<Optional<TestContext>> result = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> result.set(sut.get()));
+        thread.start();
+        thread.join();
+
+        return result.get();
+    }
+
+    @Test
+    public void givenRegisteredTestContextFindShouldReturnTestContext() {
+        TestContext testContext = mock(TestContext.class);
+        String name = "test.method";
+
+        given(testContext.getName()).willReturn(name);
+
+        String result = sut.register(testContext);
+
+        assertThat(result).startsWith(name);
+        assertThat(sut.getId(testContext)).isEqualTo(result);
+        assertThat(sut.find(result)).contains(testContext);
+
+        sut.unregister(testContext);
+
+        assertThat(sut.find(result)).isEmpty();
+        assertThat(sut.getId(testContext)).isEqualTo(name);
+    }
+
+    @Test
+    public void givenTestContextsWithSameNameRegisterShouldAssignDistinctIds() {
+        TestContext testContext = mock(TestContext.class);
+        TestContext otherTestContext = mock(TestContext.class);
+        String name = "test.method";
+
+        given(testContext.getName()).willReturn(name);
+        given(otherTestContext.getName()).willReturn(name);
+
+        String id = sut.register(testContext);
+        String otherId = sut.register(otherTestContext);
+
+        assertThat(id).isNotEqualTo(otherId);
+        assertThat(sut.find(id)).contains(testContext);
+        assertThat(sut.find(otherId)).contains(otherTestContext);
+    }
+
+    @Test
+    public void givenUnregisteredCurrentTestContextFindShouldReturnTestContext() {
+        TestContext testContext = mock(TestContext.class);
+        String name = "test.method";
+
+        given(testContext.getName()).willReturn(name);
+        inheritableThreadLocal.set(testContext);
+
+        assertThat(sut.find(name)).contains(testContext);
+        assertThat(sut.find("other.method")).isEmpty();
+        assertThat(sut.find(null)).isEmpty();
+    }
+
+    @Test
+    public void callToAttachShouldRestorePreviousTestContextWhenClosed() {
+        TestContext previousTestContext = mock(TestContext.class);
+        TestContext testContext = mock(TestContext.class);
+        inheritableThreadLocal.set(previousTestContext);
+
+        try (TestContextHolder.Scope scope = sut.attach(testContext)) {
+            assertThat(sut.get()).contains(testContext);
+        }
+
+        assertThat(sut.get()).contains(previousTestContext);
+    }
+
+    @Test
+    public void givenRunnableWrapShouldCarryTestContextToOtherThread() throws Exception {
+        TestContext testContext = mock(TestContext.class);
+        AtomicReference<Optional<TestContext>> result = new AtomicReference<>();
+        inheritableThreadLocal.set(testContext);
+
+        Runnable runnable = sut.wrap(() -> result.set(sut.get()));
+        inheritableThreadLocal.remove();
+
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+
+        assertThat(result.get()).contains(testContext);
+    }
+
+    @Test
+    public void givenExecutorWrapShouldCarryTestContextIntoSubmittedTasks() throws Exception {
+        TestContext testContext = mock(TestContext.class);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            //start the executor thread before a test context is held by the current thread
+            executorService.submit(() -> null).get();
+            inheritableThreadLocal.set(testContext);
+
+            Executor executor = sut.wrap(executorService);
+            CompletableFuture<Optional<TestContext>> result = new CompletableFuture<>();
+
+            executor.execute(() -> result.complete(sut.get()));
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).contains(testContext);
+            assertThat(executorService.submit(sut::get).get()).isEmpty();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
@@ -37,6 +37,10 @@ public class TestContextPropertiesTest {
         assertThat(TestContextProperties.SUT_DESCRIPTOR).isNotEmpty();
         assertThat(TestContextProperties.SUT_INSTANCE).isNotEmpty();
         assertThat(TestContextProperties.SERVICE_INSTANCE).isNotEmpty();
+        assertThat(TestContextProperties.SHARED_APPLICATION).isNotEmpty();
+        assertThat(TestContextProperties.SHARED_SERVICE).isNotEmpty();
+        assertThat(TestContextProperties.RESOURCE_START_SCHEDULE).isNotEmpty();
+        assertThat(TestContextProperties.RESOURCE_STOP_SCHEDULE).isNotEmpty();
     }
 
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.annotation.Bundle;
+import org.testifyproject.annotation.Module;
+import org.testifyproject.annotation.Scan;
+import org.testifyproject.core.analyzer.inspector.BundleInspector;
+import org.testifyproject.core.analyzer.inspector.ModuleInspector;
+import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.extension.AnnotationInspector;
+import org.testifyproject.fixture.analyzer.AnalyzedBundle;
+import org.testifyproject.guava.common.collect.ImmutableList;
+
+/**
+ *
+ * @author saden
+ */
+public class AnnotationInspectorTableTest {
+
+    AnnotationInspectorTable sut;
+    ServiceLocatorUtil serviceLocatorUtil;
+
+    ModuleInspector moduleInspector;
+    BundleInspector bundleInspector;
+
+    @Before
+    public void init() {
+        serviceLocatorUtil = mock(ServiceLocatorUtil.class);
+        moduleInspector = new ModuleInspector();
+        bundleInspector = new BundleInspector();
+
+        given(serviceLocatorUtil.getAll(AnnotationInspector.class))
+                .willReturn(ImmutableList.of(moduleInspector, bundleInspector));
+
+        sut = new AnnotationInspectorTable(serviceLocatorUtil);
+    }
+
+    @Test
+    public void givenHandledAnnotationTypeGetInspectorsShouldReturnInspectors() {
+        List<AnnotationInspector> result = sut.getInspectors(Module.class);
+
+        assertThat(result).containsExactly(moduleInspector);
+    }
+
+    @Test
+    public void givenUnhandledAnnotationTypeGetInspectorsShouldReturnEmptyList() {
+        List<AnnotationInspector> result = sut.getInspectors(Scan.class);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenBundleAnnotationTypeGetBundleInspectorsShouldReturnBundleInspectors() {
+        List<AnnotationInspector> result = sut.getBundleInspectors(AnalyzedBundle.class);
+
+        assertThat(result).containsExactly(bundleInspector);
+    }
+
+    @Test
+    public void givenNonBundleAnnotationTypeGetBundleInspectorsShouldReturnEmptyList() {
+        List<AnnotationInspector> result = sut.getBundleInspectors(Module.class);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenMultipleLookupsGetInspectorsShouldDiscoverInspectorsOnce() {
+        sut.getInspectors(Module.class);
+        sut.getInspectors(Bundle.class);
+        sut.getBundleInspectors(AnalyzedBundle.class);
+
+        verify(serviceLocatorUtil).getAll(AnnotationInspector.class);
+    }
+
+    @Test
+    public void callToInvalidateShouldDiscoverInspectorsAgain() {
+        sut.getInspectors(Module.class);
+
+        sut.invalidate();
+        sut.getInspectors(Module.class);
+
+        verify(serviceLocatorUtil, times(2)).getAll(AnnotationInspector.class);
+    }
+
+}
@@ -16,13 +16,18 @@
 package org.testifyproject.core.analyzer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.testifyproject.FieldDescriptor;
+import org.testifyproject.TestifyException;
+import org.testifyproject.fixture.TestContract;
 import org.testifyproject.fixture.TestFieldService;
 
 /**
@@ -139,4 +144,55 @@ public class DefaultFieldDescriptorTest {
 
         assertThat(result).contains("DefaultFieldDescriptor", "field");
     }
+
+    @Test
+    public void givenInstanceAndValueSetValueShouldSetFieldValue() throws
+            IllegalAccessException {
+        TestFieldService instance = new TestFieldService();
+        TestContract value = mock(TestContract.class);
+
+        sut.setValue(instance, value);
+
+        assertThat(field.get(instance)).isSameAs(value);
+    }
+
+    @Test
+    public void givenInstanceGetValueShouldReturnFieldValue() throws IllegalAccessException {
+        TestFieldService instance = new TestFieldService();
+        TestContract value = mock(TestContract.class);
+        field.set(instance, value);
+
+        Optional<TestContract> result = sut.getValue(instance);
+
+        assertThat(result).contains(value);
+    }
+
+    @Test
+    public void givenInstanceWithoutValueGetValueShouldReturnEmptyOptional() {
+        TestFieldService instance = new TestFieldService();
+
+        Optional<TestContract> result = sut.getValue(instance);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenInvalidValueSetValueShouldThrowException() {
+        TestFieldService instance = new TestFieldService();
+
+        Throwable result = catchThrowable(() -> sut.setValue(instance, new Object()));
+
+        assertThat(result).isInstanceOf(TestifyException.class);
+    }
+
+    @Test
+    public void givenInaccessibleFieldCreateAccessorsShouldNotThrowException()
+            throws NoSuchFieldException {
+        Field inaccessibleField = String.class.getDeclaredField("hash");
+
+        Throwable result = catchThrowable(() ->
+                DefaultFieldDescriptor.createAccessors(inaccessibleField));
+
+        assertThat(result).isNull();
+    }
 }
@@ -16,12 +16,15 @@
 package org.testifyproject.core.analyzer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.testifyproject.MethodDescriptor;
+import org.testifyproject.TestifyException;
 import org.testifyproject.fixture.MethodTestService;
 
 /**
@@ -126,4 +129,43 @@ public class DefaultMethodDescriptorTest {
         assertThat(result).contains("DefaultMethodDescriptor", "method", "instance");
     }
 
+    @Test
+    public void givenInstanceInvokeShouldInvokeMethod() {
+        MethodTestService service = new MethodTestService();
+
+        Optional<Object> result = sut.invoke(service);
+
+        assertThat(result).isEmpty();
+        assertThat(service.getMessage()).isEqualTo("init");
+    }
+
+    @Test
+    public void givenInstanceAndArgumentsInvokeShouldReturnResult() throws
+            NoSuchMethodException {
+        method = MethodTestService.class.getDeclaredMethod("sayHello", String.class);
+        sut = DefaultMethodDescriptor.of(method);
+
+        Optional<String> result = sut.invoke(new MethodTestService(), "Testify");
+
+        assertThat(result).contains("Hello Testify!");
+    }
+
+    @Test
+    public void givenWrongNumberOfArgumentsInvokeShouldThrowException() {
+        Throwable result = catchThrowable(() -> sut.invoke(new MethodTestService(), "arg"));
+
+        assertThat(result).isInstanceOf(TestifyException.class);
+    }
+
+    @Test
+    public void givenInaccessibleMethodCreateInvokerShouldNotThrowException()
+            throws NoSuchMethodException {
+        Method inaccessibleMethod = ClassLoader.class
+                .getDeclaredMethod("getClassLoadingLock", String.class);
+
+        Throwable result = catchThrowable(() ->
+                DefaultMethodDescriptor.createInvoker(inaccessibleMethod));
+
+        assertThat(result).isNull();
+    }
 }
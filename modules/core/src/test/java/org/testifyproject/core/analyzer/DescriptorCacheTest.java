@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.asm.ClassReader;
+import org.testifyproject.core.util.SettingUtil;
+import org.testifyproject.fixture.analyzer.AnalyzedTestClass;
+
+/**
+ *
+ * @author saden
+ */
+public class DescriptorCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    DescriptorCache sut;
+    SettingUtil settingUtil;
+
+    @Before
+    public void init() {
+        settingUtil = mock(SettingUtil.class);
+
+        sut = new DescriptorCache(settingUtil);
+    }
+
+    @Test
+    public void givenDisabledCacheGetCacheFileShouldReturnEmptyOptional() {
+        given(settingUtil.getDescriptorCache()).willReturn("false");
+
+        Optional<Path> result = sut.getCacheFile(AnalyzedTestClass.class,
+                AnalyzedTestClass.class);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenCacheDirectoryGetCacheFileShouldReturnCacheFile() {
+        Path cacheDirectory = temporaryFolder.getRoot().toPath();
+        given(settingUtil.getDescriptorCache()).willReturn(cacheDirectory.toString());
+
+        Optional<Path> result = sut.getCacheFile(AnalyzedTestClass.class,
+                AnalyzedTestClass.class);
+
+        assertThat(result).contains(
+                cacheDirectory.resolve(AnalyzedTestClass.class.getName() + ".descriptor"));
+    }
+
+    @Test
+    public void givenNoCacheDirectoryGetCacheFileShouldReturnCacheFileInBuildDirectory() {
+        given(settingUtil.getDescriptorCache()).willReturn("");
+
+        Optional<Path> result = sut.getCacheFile(AnalyzedTestClass.class,
+                AnalyzedTestClass.class);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getParent().getFileName().toString())
+                .isEqualTo("testify-cache");
+    }
+
+    @Test
+    public void givenCachedAnalysisReplayShouldReplayAnalysis() throws IOException {
+        Path cacheFile = temporaryFolder.getRoot().toPath().resolve("cached.descriptor");
+        TestDescriptor analyzed = DefaultTestDescriptor.of(AnalyzedTestClass.class);
+        DescriptorRecorder recorder = new DescriptorRecorder(
+                new TestClassAnalyzer(AnalyzedTestClass.class, analyzed));
+        new ClassReader(sut.readClass(AnalyzedTestClass.class))
+                .accept(recorder, ClassReader.SKIP_DEBUG);
+
+        sut.writeEntries(cacheFile, "hash", recorder.getEntries());
+        Optional<List<String>> entries = sut.readEntries(cacheFile, "hash");
+
+        assertThat(entries).contains(recorder.getEntries());
+
+        TestDescriptor replayed = DefaultTestDescriptor.of(AnalyzedTestClass.class);
+        sut.replay(entries.get(), new TestClassAnalyzer(AnalyzedTestClass.class, replayed));
+
+        assertDescriptors(replayed, analyzed);
+    }
+
+    @Test
+    public void givenCachedAnalysisAnalyzeShouldReplayAnalysis() throws IOException {
+        Path cacheDirectory = temporaryFolder.getRoot().toPath();
+        Path cacheFile = cacheDirectory.resolve(AnalyzedTestClass.class.getName()
+                + ".descriptor");
+        given(settingUtil.getDescriptorCache()).willReturn(cacheDirectory.toString());
+
+        TestDescriptor analyzed = analyze();
+
+        assertThat(cacheFile).exists();
+
+        TestDescriptor replayed = analyze();
+
+        assertDescriptors(replayed, analyzed);
+    }
+
+    @Test
+    public void givenStaleCacheFileReadEntriesShouldReturnEmptyOptional() throws IOException {
+        Path cacheFile = temporaryFolder.newFile().toPath();
+        Files.write(cacheFile, "H stale\nF store\n".getBytes());
+
+        Optional<?> result = sut.readEntries(cacheFile, "fresh");
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenClassBytesHashShouldReturnSameHash() throws IOException {
+        byte[] bytes = sut.readClass(AnalyzedTestClass.class);
+
+        String result = sut.hash(bytes);
+
+        assertThat(result).isNotEmpty().isEqualTo(sut.hash(bytes));
+    }
+
+    TestDescriptor analyze() throws IOException {
+        TestDescriptor testDescriptor = DefaultTestDescriptor.of(AnalyzedTestClass.class);
+        TestClassAnalyzer analyzer = new TestClassAnalyzer(AnalyzedTestClass.class,
+                testDescriptor);
+
+        sut.analyze(AnalyzedTestClass.class, AnalyzedTestClass.class, analyzer);
+
+        return testDescriptor;
+    }
+
+    void assertDescriptors(TestDescriptor replayed, TestDescriptor analyzed) {
+        assertThat(replayed.getSutField()).isEqualTo(analyzed.getSutField());
+        assertThat(replayed.getFieldDescriptors())
+                .containsExactlyElementsOf(analyzed.getFieldDescriptors());
+        assertThat(replayed.getModules()).containsExactlyElementsOf(analyzed.getModules());
+        assertThat(replayed.getScans()).containsExactlyElementsOf(analyzed.getScans());
+        assertThat(replayed.getVirtualResources())
+                .containsExactlyElementsOf(analyzed.getVirtualResources());
+        assertThat(replayed.getConfigHandlers())
+                .containsExactlyElementsOf(analyzed.getConfigHandlers());
+        assertThat(replayed.getCollaboratorProviders())
+                .containsExactlyElementsOf(analyzed.getCollaboratorProviders());
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.di;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.annotation.Fake;
+import org.testifyproject.guava.common.reflect.TypeToken;
+
+/**
+ *
+ * @author saden
+ */
+public class FakeCandidateTest {
+
+    TestDescriptor testDescriptor;
+    Function<Type, TypeToken<?>> rawTypeResolver;
+
+    @Before
+    public void init() {
+        testDescriptor = mock(TestDescriptor.class);
+        rawTypeResolver = type -> TypeToken.of(TypeToken.of(type).getRawType());
+    }
+
+    @Test
+    public void givenNoFakeFieldsResolveShouldReturnEmptyList() {
+        given(testDescriptor.getFieldDescriptors()).willReturn(Collections.emptyList());
+
+        List<FakeCandidate> result =
+                FakeCandidate.resolve(testDescriptor, String.class, rawTypeResolver);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenNonFakeFieldResolveShouldReturnEmptyList() {
+        FieldDescriptor fieldDescriptor = mockField(String.class, Optional.empty());
+        given(testDescriptor.getFieldDescriptors())
+                .willReturn(Collections.singletonList(fieldDescriptor));
+
+        List<FakeCandidate> result =
+                FakeCandidate.resolve(testDescriptor, String.class, rawTypeResolver);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenAssignableFakeFieldResolveShouldStopAtFirstCandidate() {
+        Fake fake = mock(Fake.class);
+        FieldDescriptor first = mockField(CharSequence.class, Optional.of(fake));
+        FieldDescriptor second = mockField(CharSequence.class, Optional.of(fake));
+        given(testDescriptor.getFieldDescriptors()).willReturn(Arrays.asList(first, second));
+
+        List<FakeCandidate> result =
+                FakeCandidate.resolve(testDescriptor, String.class, rawTypeResolver);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getFieldDescriptor()).isSameAs(first);
+        assertThat(result.get(0).isValueAssignable()).isTrue();
+        assertThat(result.get(0).getFakeType()).isEqualTo(String.class);
+    }
+
+    @Test
+    public void givenUnrelatedFakeFieldResolveShouldReturnEmptyList() {
+        Fake fake = mock(Fake.class);
+        FieldDescriptor fieldDescriptor = mockField(Integer.class, Optional.of(fake));
+        given(testDescriptor.getFieldDescriptors())
+                .willReturn(Collections.singletonList(fieldDescriptor));
+
+        List<FakeCandidate> result =
+                FakeCandidate.resolve(testDescriptor, String.class, rawTypeResolver);
+
+        assertThat(result).isEmpty();
+    }
+
+    FieldDescriptor mockField(Type genericType, Optional<Fake> foundFake) {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        given(fieldDescriptor.getGenericType()).willReturn(genericType);
+        given(fieldDescriptor.getFake()).willReturn(foundFake);
+
+        return fieldDescriptor;
+    }
+
+}
@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.testifyproject.SutDescriptor;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
+import org.testifyproject.core.PropertyStore;
 import org.testifyproject.fixture.analyzer.AnalyzedModule;
 import org.testifyproject.fixture.analyzer.AnalyzedTestClass;
 
@@ -68,6 +69,14 @@ public class AnalyzerUtilTest {
         assertThat(result.getCollaboratorProviders()).isNotEmpty();
     }
 
+    @Test
+    public void givenTestClassAnalyzeTestClassShouldFreezeProperties() {
+        TestDescriptor result = sut.analyzeTestClass(AnalyzedTestClass.class);
+
+        assertThat(result.getProperties()).isInstanceOf(PropertyStore.class);
+        assertThat(((PropertyStore) result.getProperties()).isFrozen()).isTrue();
+    }
+
     @Test(expected = NullPointerException.class)
     public void givenNullAnalyzeSutClassShouldThrowException() {
         sut.analyzeSutField(null);
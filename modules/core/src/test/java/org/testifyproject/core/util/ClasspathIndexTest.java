@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.testifyproject.guava.common.collect.ImmutableList;
+
+/**
+ *
+ * @author saden
+ */
+public class ClasspathIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    ClasspathIndex sut;
+    ClassLoader classLoader;
+
+    @Before
+    public void init() throws IOException {
+        Path directory = temporaryFolder.newFolder("classes").toPath();
+        Files.createDirectories(directory.resolve("data"));
+        Files.write(directory.resolve("data/directory.sql"), "select 1;".getBytes());
+        Files.write(directory.resolve("Directory.class"), new byte[0]);
+
+        Path jar = temporaryFolder.getRoot().toPath().resolve("data.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+                JarOutputStream jarOutputStream = new JarOutputStream(outputStream, manifest)) {
+            jarOutputStream.putNextEntry(new JarEntry("data/jar.sql"));
+            jarOutputStream.write("select 2;".getBytes());
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("Jar.class"));
+            jarOutputStream.closeEntry();
+        }
+
+        classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null);
+
+        sut = ClasspathIndex.of(ImmutableList.of(directory), classLoader, true);
+    }
+
+    @After
+    public void destroy() {
+        sut.close();
+    }
+
+    @Test
+    public void givenPatternFindShouldReturnDirectoryAndJarFiles() {
+        Set<Path> result = sut.find("**/*.sql");
+
+        assertThat(result).extracting(p -> p.getFileName().toString())
+                .containsExactlyInAnyOrder("directory.sql", "jar.sql");
+    }
+
+    @Test
+    public void givenClassPatternFindShouldNotReturnJarClassFiles() {
+        Set<Path> result = sut.find("**/*.class");
+
+        assertThat(result).extracting(p -> p.getFileName().toString())
+                .containsExactly("Directory.class");
+    }
+
+    @Test
+    public void givenJarFilePatternFindShouldReturnReadableJarFile() throws IOException {
+        Set<Path> result = sut.find("**/jar.sql");
+
+        assertThat(result).hasSize(1);
+        assertThat(Files.readAllLines(result.iterator().next())).containsExactly("select 2;");
+    }
+
+    @Test
+    public void givenUnknownPatternFindShouldReturnEmptySet() {
+        Set<Path> result = sut.find("**/*.unknown");
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenSamePatternsFindShouldReturnMemoizedResult() {
+        Set<Path> result = sut.find("**/*.sql");
+
+        assertThat(result).isSameAs(sut.find("**/*.sql"));
+    }
+
+    @Test
+    public void givenJarsNotIndexedFindShouldReturnDirectoryFiles() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("classes");
+        sut.close();
+        sut = ClasspathIndex.of(ImmutableList.of(directory), classLoader, false);
+
+        Set<Path> result = sut.find("**/*.sql");
+
+        assertThat(result).extracting(p -> p.getFileName().toString())
+                .containsExactly("directory.sql");
+    }
+
+    @Test
+    public void callToCloseShouldCloseJarFileSystems() {
+        Path result = sut.find("**/jar.sql").iterator().next();
+
+        sut.close();
+
+        assertThat(result.getFileSystem().isOpen()).isFalse();
+    }
+
+    @Test
+    public void givenInvalidJarIndexJarShouldNotAddEntries() throws IOException {
+        Path jar = temporaryFolder.newFile("invalid.jar").toPath();
+        Files.write(jar, "invalid".getBytes());
+        Map<FileSystem, List<Path>> entries = new LinkedHashMap<>();
+
+        ClasspathIndex.indexJar(jar, entries);
+
+        assertThat(entries).isEmpty();
+    }
+
+}
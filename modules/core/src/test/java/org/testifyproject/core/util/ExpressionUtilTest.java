@@ -196,4 +196,52 @@ public class ExpressionUtilTest {
         Boolean result = sut.isParameterized(value);
         assertThat(result).isTrue();
     }
+
+    @Test
+    public void givenPartialParameterStringIsParameterizedShouldReturnFalse() {
+        String value = "${value";
+
+        Boolean result = sut.isParameterized(value);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void givenLiteralTemplateEvaluateTemplateShouldNotCompileExpression() {
+        String template = "`value`";
+        Map<String, Object> context = ImmutableMap.of();
+
+        String result = sut.evaluateTemplate(template, context);
+
+        assertThat(result).isEqualTo("value");
+        assertThat(sut.getCacheHits()).isZero();
+        assertThat(sut.getCacheMisses()).isZero();
+    }
+
+    @Test
+    public void givenRepeatedTemplateEvaluateTemplateShouldReuseCompiledExpression() {
+        String template = "${value}";
+
+        String first = sut.evaluateTemplate(template, ImmutableMap.of("value", "first"));
+        String second = sut.evaluateTemplate(template, ImmutableMap.of("value", "second"));
+
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("second");
+        assertThat(sut.getCacheMisses()).isEqualTo(1);
+        assertThat(sut.getCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenRepeatedExpressionEvaluateExpressionShouldReuseCompiledExpression() {
+        String expression = "value";
+        Map<String, Object> context = ImmutableMap.of(expression, "test");
+
+        sut.evaluateExpression(expression, context);
+        Object result = sut.evaluateExpression(expression, context);
+
+        assertThat(result).isEqualTo("test");
+        assertThat(sut.getCacheMisses()).isEqualTo(1);
+        assertThat(sut.getCacheHits()).isEqualTo(1);
+    }
+
 }
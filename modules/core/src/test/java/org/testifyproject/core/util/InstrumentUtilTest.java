@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.testifyproject.fixture.instrument.ConstructorGreeter;
 import org.testifyproject.fixture.instrument.Greeter;
 import org.testifyproject.fixture.instrument.GreeterInterceptor;
 
@@ -49,6 +50,17 @@ public class InstrumentUtilTest {
         assertThat(result.modifiedGreeting()).isEqualTo("HELLO");
     }
 
+    @Test
+    public void givenConstructorCallingMethodCreateProxyShouldInterceptConstructorCall() {
+        Class<ConstructorGreeter> type = ConstructorGreeter.class;
+        ClassLoader classLoader = InstrumentUtilTest.class.getClassLoader();
+        GreeterInterceptor interceptor = new GreeterInterceptor();
+
+        ConstructorGreeter result = sut.createProxy(type, classLoader, interceptor);
+
+        assertThat(result.getGreeting()).isEqualTo("HELLO");
+    }
+
     @Test
     public void givenGreeterTypeAndInterceptorSupplierCreateProxyShouldCreateProxy() {
         Class<Greeter> type = Greeter.class;
@@ -71,4 +83,43 @@ public class InstrumentUtilTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    public void givenSameTypeAndInterceptorTypeCreateProxyShouldReuseProxyClass() {
+        Class<Greeter> type = Greeter.class;
+        ClassLoader classLoader = InstrumentUtilTest.class.getClassLoader();
+
+        Greeter first = sut.createProxy(type, classLoader, new GreeterInterceptor());
+        Greeter second = sut.createProxy(type, classLoader, new GreeterInterceptor());
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getClass()).isEqualTo(second.getClass());
+        assertThat(second.modifiedGreeting()).isEqualTo("HELLO");
+    }
+
+    @Test
+    public void givenSameTypeAndDelegateSuppliersCreateProxyShouldBindDelegatePerProxy() {
+        Class<Greeter> type = Greeter.class;
+        ClassLoader classLoader = InstrumentUtilTest.class.getClassLoader();
+        Greeter delegate = new Greeter();
+
+        Greeter first = sut.createProxy(type, classLoader, (Supplier) () -> delegate);
+        Greeter second = sut.createProxy(type, classLoader, (Supplier) () -> delegate);
+
+        assertThat(first.getClass()).isEqualTo(second.getClass());
+        assertThat(first.modifiedGreeting()).isEqualTo("hello");
+        assertThat(second.modifiedGreeting()).isEqualTo("hello");
+    }
+
+    @Test
+    public void givenSameTypeAndInterceptorTypeCreateProxyTypeShouldReturnCachedType() {
+        Class<Greeter> type = Greeter.class;
+        ClassLoader classLoader = InstrumentUtilTest.class.getClassLoader();
+
+        Class<? extends Greeter> result = sut.createProxyType(type, classLoader,
+                GreeterInterceptor.class);
+
+        assertThat(result).isSameAs(sut.createProxyType(type, classLoader,
+                GreeterInterceptor.class));
+    }
+
 }
@@ -19,9 +19,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.slf4j.Logger;
 import org.testifyproject.TestContext;
 
 import slf4jtest.LogLevel;
@@ -103,6 +105,18 @@ public class LoggingUtilTest {
         assertThat(logger.contains(LogLevel.DebugLevel, messageFormat)).isTrue();
     }
 
+    @Test
+    public void givenDisabledDebugLevelDebugShouldNotFormatMessage() {
+        Logger disabledLogger = mock(Logger.class);
+        given(disabledLogger.isDebugEnabled()).willReturn(false);
+        sut = new LoggingUtil(disabledLogger);
+
+        sut.debug("debugging {}", "message");
+
+        verify(disabledLogger).isDebugEnabled();
+        verifyNoMoreInteractions(disabledLogger);
+    }
+
     @Test
     public void callToDebugWithArgsShouldLogMessage() {
         String message = "debugging";
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.extension.annotation.IntegrationCategory;
+import org.testifyproject.extension.annotation.Strict;
+import org.testifyproject.extension.annotation.UnitCategory;
+import org.testifyproject.fixture.locator.MultiImplmentationContract;
+import org.testifyproject.fixture.locator.impl.FirstMultiImplmentationContract;
+import org.testifyproject.fixture.locator.impl.SecondMultiImplmentationContract;
+import org.testifyproject.guava.common.collect.ImmutableList;
+
+/**
+ *
+ * @author saden
+ */
+public class ServiceIndexTest {
+
+    ServiceIndex<MultiImplmentationContract> sut;
+
+    @Before
+    public void init() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        sut = ServiceIndex.of(MultiImplmentationContract.class, classLoader);
+    }
+
+    @Test
+    public void callToGetContractShouldReturnContract() {
+        Class<MultiImplmentationContract> result = sut.getContract();
+
+        assertThat(result).isEqualTo(MultiImplmentationContract.class);
+    }
+
+    @Test
+    public void callToGetImplementationsShouldReturnImplementations() {
+        List<Class<? extends MultiImplmentationContract>> result = sut.getImplementations();
+
+        assertThat(result).containsOnly(
+                FirstMultiImplmentationContract.class,
+                SecondMultiImplmentationContract.class);
+    }
+
+    @Test
+    public void givenFiltersCallToGetImplementationsShouldReturnAnnotatedImplementations() {
+        List<Class<? extends MultiImplmentationContract>> result =
+                sut.getImplementations(ImmutableList.of(Strict.class, UnitCategory.class));
+
+        assertThat(result).containsExactly(SecondMultiImplmentationContract.class);
+    }
+
+    @Test
+    public void givenUnmatchedFilterCallToGetImplementationsShouldReturnEmptyList() {
+        List<Class<? extends MultiImplmentationContract>> result =
+                sut.getImplementations(ImmutableList.of(IntegrationCategory.class));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void givenSameFiltersCallToGetImplementationsShouldReturnMemoizedResult() {
+        List<Class<? extends MultiImplmentationContract>> first =
+                sut.getImplementations(ImmutableList.of(UnitCategory.class));
+        List<Class<? extends MultiImplmentationContract>> second =
+                sut.getImplementations(ImmutableList.of(UnitCategory.class));
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void callToNewInstancesShouldReturnNewInstances() {
+        List<MultiImplmentationContract> first = sut.newInstances();
+        List<MultiImplmentationContract> second = sut.newInstances();
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(first.get(0)).isNotSameAs(second.get(0));
+    }
+
+}
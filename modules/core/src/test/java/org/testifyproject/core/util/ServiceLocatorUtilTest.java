@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -371,4 +372,61 @@ public class ServiceLocatorUtilTest {
         verify(hint).serviceProvider();
         verify(sut).getOne(contract, implementation);
     }
+
+    @Test
+    public void givenContractCallToGetServiceIndexTwiceShouldReturnSameIndex() {
+        Class<MultiImplmentationContract> contract = MultiImplmentationContract.class;
+
+        ServiceIndex<MultiImplmentationContract> first = sut.getServiceIndex(contract);
+        ServiceIndex<MultiImplmentationContract> second = sut.getServiceIndex(contract);
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void givenContractCallToFindAllTwiceShouldReturnNewInstances() {
+        Class<SingleImplementationContract> contract = SingleImplementationContract.class;
+
+        List<SingleImplementationContract> first = sut.findAll(contract);
+        List<SingleImplementationContract> second = sut.findAll(contract);
+
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(first.get(0)).isNotSameAs(second.get(0));
+    }
+
+    @Test
+    public void callToInvalidateShouldDiscardServiceIndexes() {
+        Class<MultiImplmentationContract> contract = MultiImplmentationContract.class;
+        ServiceIndex<MultiImplmentationContract> serviceIndex = sut.getServiceIndex(contract);
+
+        sut.invalidate();
+
+        ServiceIndex<MultiImplmentationContract> result = sut.getServiceIndex(contract);
+
+        assertThat(result).isNotSameAs(serviceIndex);
+    }
+
+    @Test
+    public void givenClassLoaderCallToInvalidateShouldDiscardServiceIndexes() {
+        Class<MultiImplmentationContract> contract = MultiImplmentationContract.class;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ServiceIndex<MultiImplmentationContract> serviceIndex = sut.getServiceIndex(contract);
+
+        sut.invalidate(classLoader);
+
+        ServiceIndex<MultiImplmentationContract> result = sut.getServiceIndex(contract);
+
+        assertThat(result).isNotSameAs(serviceIndex);
+    }
+
+    @Test
+    public void givenClassLoaderCallToGetServiceIndexesShouldReturnSameIndexes() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        Map<Class<?>, ServiceIndex<?>> first = sut.getServiceIndexes(classLoader);
+        Map<Class<?>, ServiceIndex<?>> second = sut.getServiceIndexes(classLoader);
+
+        assertThat(first).isSameAs(second);
+    }
 }
@@ -16,6 +16,7 @@
 package org.testifyproject.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -93,4 +94,85 @@ public class SettingUtilTest {
 
         assertThat(result).contains("UNIT", "INTEGRATION");
     }
+
+    @Test
+    public void callToGetResourceThreadsShouldReturnPositiveNumber() {
+        int result = sut.getResourceThreads();
+
+        assertThat(result).isPositive();
+    }
+
+    @Test
+    public void callToGetTestThreadsShouldReturnOne() {
+        int result = sut.getTestThreads();
+
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    public void callToGetParallelLevelsShouldReturnUnitLevel() {
+        String[] result = sut.getParallelLevels();
+
+        assertThat(result).containsExactly("UNIT");
+    }
+
+    @Test
+    public void callToGetResourceTimeoutShouldReturnPositiveTimeout() {
+        long result = sut.getResourceTimeout();
+
+        assertThat(result).isPositive();
+    }
+
+    @Test
+    public void callToGetDescriptorCacheShouldReturnEmptyString() {
+        String result = sut.getDescriptorCache();
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void callToGetExpressionCacheSizeShouldReturnDefaultSize() {
+        long result = sut.getExpressionCacheSize();
+
+        assertThat(result).isEqualTo(SettingUtil.DEFAULT_EXPRESSION_CACHE_SIZE);
+    }
+
+    @Test
+    public void givenLoadedSettingsGetSettingsShouldReturnSameUnmodifiableSettings() {
+        Map<String, Object> result = sut.getSettings();
+
+        assertThat(result).isSameAs(sut.getSettings());
+        assertThat(catchThrowable(() -> result.put("hello", "world")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void givenLoadedSettingsReloadShouldLoadSettingsAgain() throws IOException {
+        Map<String, Object> loaded = sut.getSettings();
+        Path path = Paths.get(System.getProperty("user.dir"), SettingUtil.SETTINGS_FILE);
+        Files.write(path, "reloaded: true".getBytes());
+
+        try {
+            sut.reload();
+            Map<String, Object> result = sut.getSettings();
+
+            assertThat(result).isNotSameAs(loaded).containsEntry("reloaded", true);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void callToIsSettingsWatchedShouldReturnFalse() {
+        boolean result = sut.isSettingsWatched();
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void callToIsClasspathJarsIndexedShouldReturnFalse() {
+        boolean result = sut.isClasspathJarsIndexed();
+
+        assertThat(result).isFalse();
+    }
 }
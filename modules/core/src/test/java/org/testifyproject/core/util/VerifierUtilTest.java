@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.SutDescriptor;
+import org.testifyproject.TestContext;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.extension.PreVerifier;
+import org.testifyproject.extension.annotation.Memoizable;
+import org.testifyproject.guava.common.collect.ImmutableList;
+
+/**
+ *
+ * @author saden
+ */
+public class VerifierUtilTest {
+
+    VerifierUtil sut;
+
+    @Before
+    public void init() {
+        sut = new VerifierUtil();
+    }
+
+    @Test
+    public void givenVerifierVerifyShouldRunVerifierEveryTime() {
+        TestContext testContext = mock(TestContext.class);
+        PreVerifier verifier = mock(PreVerifier.class);
+        List<PreVerifier> verifiers = ImmutableList.of(verifier);
+
+        sut.verify(testContext, verifiers, PreVerifier::verify);
+        sut.verify(testContext, verifiers, PreVerifier::verify);
+
+        verify(verifier, times(2)).verify(testContext);
+        verifyZeroInteractions(testContext);
+    }
+
+    @Test
+    public void givenMemoizableVerifierVerifyShouldReplayRecordedResult() {
+        TestContext firstContext = mock(TestContext.class);
+        TestContext secondContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        SutDescriptor sutDescriptor = mock(SutDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.of(sutDescriptor);
+        MemoizableVerifier verifier = new MemoizableVerifier();
+        List<PreVerifier> verifiers = ImmutableList.of(verifier);
+
+        given(firstContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(firstContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(firstContext.getErrors()).willReturn(ImmutableList.of(),
+                ImmutableList.of("error"));
+        given(firstContext.getWarnings()).willReturn(ImmutableList.of(),
+                ImmutableList.of("warning"));
+        given(secondContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(secondContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+
+        sut.verify(firstContext, verifiers, PreVerifier::verify);
+        sut.verify(secondContext, verifiers, PreVerifier::verify);
+
+        assertThat(verifier.invocations).isEqualTo(1);
+
+        verify(secondContext).addError("{}", "error");
+        verify(secondContext).addWarning("{}", "warning");
+    }
+
+    @Test
+    public void givenMemoizableVerifierAndDifferentDescriptorsVerifyShouldRunVerifier() {
+        TestContext firstContext = mock(TestContext.class);
+        TestContext secondContext = mock(TestContext.class);
+        MemoizableVerifier verifier = new MemoizableVerifier();
+        List<PreVerifier> verifiers = ImmutableList.of(verifier);
+
+        given(firstContext.getTestDescriptor()).willReturn(mock(TestDescriptor.class));
+        given(secondContext.getTestDescriptor()).willReturn(mock(TestDescriptor.class));
+
+        sut.verify(firstContext, verifiers, PreVerifier::verify);
+        sut.verify(secondContext, verifiers, PreVerifier::verify);
+
+        assertThat(verifier.invocations).isEqualTo(2);
+    }
+
+    @Memoizable
+    static class MemoizableVerifier implements PreVerifier {
+
+        int invocations;
+
+        @Override
+        public void verify(TestContext testContext) {
+            invocations++;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.core.util.logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author saden
+ */
+public class AsyncWriterTest {
+
+    AsyncWriter sut;
+
+    ByteArrayOutputStream outputStream;
+
+    @Before
+    public void init() {
+        outputStream = new ByteArrayOutputStream();
+        OutputChoice outputChoice = new OutputChoice(new PrintStream(outputStream));
+
+        sut = AsyncWriter.of(outputChoice, 16, 60000);
+    }
+
+    @Test
+    public void givenEntriesFlushShouldWriteEntriesInOrder() {
+        sut.write("first\n");
+        sut.write("second\n");
+
+        sut.flush();
+
+        assertThat(outputStream.toString()).isEqualTo("first\nsecond\n");
+    }
+
+    @Test
+    public void givenMoreEntriesThanBufferSizeWriteShouldNotDropEntries() {
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            String entry = "entry" + i + "\n";
+            expected.append(entry);
+            sut.write(entry);
+        }
+
+        sut.flush();
+
+        assertThat(outputStream.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void givenNoEntriesFlushShouldReturn() {
+        sut.flush();
+
+        assertThat(outputStream.toString()).isEmpty();
+    }
+
+    @Test
+    public void givenStoppedWriterThreadWriteShouldWriteEntriesDirectly() throws Exception {
+        sut.write("first\n");
+        sut.thread.interrupt();
+        sut.thread.join();
+
+        sut.write("second\n");
+
+        assertThat(sut.isRunning()).isFalse();
+        assertThat(outputStream.toString()).isEqualTo("first\nsecond\n");
+    }
+
+    @Test
+    public void givenStoppedWriterThreadFlushShouldReturn() throws Exception {
+        sut.thread.interrupt();
+        sut.thread.join();
+
+        sut.flush();
+
+        assertThat(outputStream.toString()).isEmpty();
+    }
+
+}
@@ -18,13 +18,16 @@ package org.testifyproject.di.guice;
 import static com.google.inject.util.Modules.override;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.StreamSupport;
 
 import org.testifyproject.Instance;
 import org.testifyproject.ServiceInstance;
+import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.Argument;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.BindingPriority;
@@ -65,66 +68,84 @@ public class GuiceInterceptor {
             @Argument(0) Stage stage,
             @Argument(1) Iterable<? extends Module> modules)
             throws Exception {
-        Injector result = TestContextHolder.INSTANCE.query(testContext -> {
-            TestDescriptor testDescriptor = testContext.getTestDescriptor();
-            Queue<Module> prodModules = new ConcurrentLinkedQueue<>();
-            Queue<Module> testModules = new ConcurrentLinkedQueue<>();
-
-            modules.forEach(prodModules::add);
-
-            testDescriptor.getModules().forEach(module -> {
-                Module instance = (Module) ReflectionUtil.INSTANCE.newInstance(module.value());
-
-                if (module.test()) {
-                    testModules.add(instance);
-                } else {
-                    prodModules.add(instance);
-                }
-            });
-
-            ConcurrentLinkedDeque<Instance> instances = new ConcurrentLinkedDeque<>();
-
-            ServiceLocatorUtil.INSTANCE.findAllWithFilter(InstanceProvider.class,
-                    IntegrationCategory.class)
-                    .stream()
-                    .map(p -> p.get(testContext))
-                    .flatMap(p -> p.stream())
-                    .forEach(p -> instances.addLast(p));
-
-            ServiceLocatorUtil.INSTANCE.findAllWithFilter(ProxyInstanceController.class)
-                    .stream()
-                    .map(p -> p.create(testContext))
-                    .flatMap(p -> p.stream())
-                    .forEach(p -> instances.addLast(p));
-
-            Module instanceModule = GuiceAbstractModule.of(instances);
-
-            //override prod modules with test modules to insure services defined in test modules
-            //take precedence over prod modules
-            Module testModuleSet = override(prodModules).with(testModules);
-
-            //override test module set with instance module to insure services defined by
-            //instance providers take precedence over prod ad test modules
-            Module finalModuleSet = override(testModuleSet).with(instanceModule);
-
-            //create a guice injector
-            Injector injector = new InternalInjectorCreator()
-                    .stage(Stage.DEVELOPMENT)
-                    .addModules(Arrays.asList(finalModuleSet))
-                    .build();
-
-            //add service instance to the test context
-            ServiceInstance serviceInstance = new GuiceServiceInstance(injector);
-            testContext.addProperty(TestContextProperties.SERVICE_INSTANCE, serviceInstance);
-
-            return injector;
-        });
+        Optional<TestContext> foundTestContext = findTestContext(modules);
 
-        if (result == null) {
-            result = zuper.call();
+        if (!foundTestContext.isPresent()) {
+            return zuper.call();
         }
 
-        return result;
+        TestContext testContext = foundTestContext.get();
+        TestDescriptor testDescriptor = testContext.getTestDescriptor();
+        Queue<Module> prodModules = new ConcurrentLinkedQueue<>();
+        Queue<Module> testModules = new ConcurrentLinkedQueue<>();
+
+        modules.forEach(module -> {
+            if (!(module instanceof GuiceTestContextModule)) {
+                prodModules.add(module);
+            }
+        });
+
+        testDescriptor.getModules().forEach(module -> {
+            Module instance = (Module) ReflectionUtil.INSTANCE.newInstance(module.value());
+
+            if (module.test()) {
+                testModules.add(instance);
+            } else {
+                prodModules.add(instance);
+            }
+        });
+
+        ConcurrentLinkedDeque<Instance> instances = new ConcurrentLinkedDeque<>();
+
+        ServiceLocatorUtil.INSTANCE.findAllWithFilter(InstanceProvider.class,
+                IntegrationCategory.class)
+                .stream()
+                .map(p -> p.get(testContext))
+                .flatMap(p -> p.stream())
+                .forEach(p -> instances.addLast(p));
+
+        ServiceLocatorUtil.INSTANCE.findAllWithFilter(ProxyInstanceController.class)
+                .stream()
+                .map(p -> p.create(testContext))
+                .flatMap(p -> p.stream())
+                .forEach(p -> instances.addLast(p));
+
+        Module instanceModule = GuiceAbstractModule.of(instances);
+
+        //override prod modules with test modules to insure services defined in test modules
+        //take precedence over prod modules
+        Module testModuleSet = override(prodModules).with(testModules);
+
+        //override test module set with instance module to insure services defined by
+        //instance providers take precedence over prod ad test modules
+        Module finalModuleSet = override(testModuleSet).with(instanceModule);
+
+        //create a guice injector
+        Injector injector = new InternalInjectorCreator()
+                .stage(Stage.DEVELOPMENT)
+                .addModules(Arrays.asList(finalModuleSet))
+                .build();
+
+        //add service instance to the test context
+        ServiceInstance serviceInstance = new GuiceServiceInstance(injector);
+        testContext.addProperty(TestContextProperties.SERVICE_INSTANCE, serviceInstance);
+
+        return injector;
+    }
+
+    /**
+     * Find the test context of the test run the injector is created for. Injectors created for
+     * a test run are identified by a {@link GuiceTestContextModule}.
+     *
+     * @param modules the injector modules
+     * @return an optional containing the test context, empty optional otherwise
+     */
+    Optional<TestContext> findTestContext(Iterable<? extends Module> modules) {
+        return StreamSupport.stream(modules.spliterator(), false)
+                .filter(GuiceTestContextModule.class::isInstance)
+                .map(p -> ((GuiceTestContextModule) p).getId())
+                .findFirst()
+                .flatMap(TestContextHolder.INSTANCE::find);
     }
 
 }
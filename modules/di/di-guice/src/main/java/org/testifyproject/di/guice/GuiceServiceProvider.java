@@ -19,6 +19,7 @@ import org.testifyproject.ServiceInstance;
 import org.testifyproject.ServiceProvider;
 import org.testifyproject.TestContext;
 import org.testifyproject.annotation.Discoverable;
+import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -37,7 +38,10 @@ public class GuiceServiceProvider implements ServiceProvider<Injector> {
 
     @Override
     public Injector create(TestContext testContext) {
-        return Guice.createInjector();
+        //the injector is identified by the test run so the interceptor can find its test
+        //context
+        return Guice.createInjector(
+                GuiceTestContextModule.of(TestContextHolder.INSTANCE.getId(testContext)));
     }
 
     @Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.di.guice;
+
+import com.google.inject.AbstractModule;
+
+/**
+ * A module that does not bind anything and only identifies the test run an injector is created
+ * for so that the interceptor can find its test context.
+ *
+ * @author saden
+ */
+public class GuiceTestContextModule extends AbstractModule {
+
+    private final String id;
+
+    GuiceTestContextModule(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Create an instance of GuiceTestContextModule for the test run with the given id.
+     *
+     * @param id the test context id
+     * @return a module instance
+     */
+    public static GuiceTestContextModule of(String id) {
+        return new GuiceTestContextModule(id);
+    }
+
+    /**
+     * Get the id of the test run the injector is created for.
+     *
+     * @return the test context id
+     */
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    protected void configure() {
+    }
+
+}
@@ -29,6 +29,7 @@ import org.testifyproject.di.fixture.instrument.ModuleTester;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 
 /**
  *
@@ -36,23 +37,38 @@ import com.google.inject.Injector;
  */
 public class GuiceInterceptorTest {
 
+    TestContext testContext;
+
     @After
     public void destroy() {
-        TestContextHolder.INSTANCE.remove();
+        TestContextHolder.INSTANCE.unregister(testContext);
     }
 
     @Test
     public void verifyModuleLoading() throws Exception {
         Class<ModuleTester> testClass = ModuleTester.class;
         Method testMethod = testClass.getDeclaredMethod("verifyInjection");
-        TestContext testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
-        TestContextHolder.INSTANCE.set(testContext);
+        testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
+        String id = TestContextHolder.INSTANCE.register(testContext);
 
-        Injector injector = Guice.createInjector();
+        Injector injector = Guice.createInjector(GuiceTestContextModule.of(id));
 
         Greeting greeting = injector.getInstance(Greeting.class);
 
         assertThat(greeting).isNotNull();
     }
 
+    @Test
+    public void givenInjectorNotCreatedForTestRunCreateInjectorShouldNotLoadTestModules()
+            throws Exception {
+        Class<ModuleTester> testClass = ModuleTester.class;
+        Method testMethod = testClass.getDeclaredMethod("verifyInjection");
+        testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
+        TestContextHolder.INSTANCE.register(testContext);
+
+        Injector injector = Guice.createInjector();
+
+        assertThat(injector.getExistingBinding(Key.get(Greeting.class))).isNull();
+    }
+
 }
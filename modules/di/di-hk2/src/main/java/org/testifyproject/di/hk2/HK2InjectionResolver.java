@@ -19,7 +19,10 @@ import static org.glassfish.hk2.api.InjectionResolver.SYSTEM_RESOLVER_NAME;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -31,10 +34,10 @@ import org.glassfish.hk2.api.IterableProvider;
 import org.glassfish.hk2.api.Rank;
 import org.glassfish.hk2.api.ServiceHandle;
 import org.glassfish.hk2.api.ServiceLocator;
-import org.testifyproject.FieldDescriptor;
 import org.testifyproject.MockProvider;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
+import org.testifyproject.core.di.FakeCandidate;
 import org.testifyproject.guava.common.reflect.TypeToken;
 
 /**
@@ -48,6 +51,7 @@ import org.testifyproject.guava.common.reflect.TypeToken;
 public class HK2InjectionResolver implements InjectionResolver<Inject> {
 
     private final TestContext testContext;
+    private final Map<Type, List<FakeCandidate>> fakeCandidates = new ConcurrentHashMap<>();
     private final ServiceLocator serviceLocator;
 
     @Inject
@@ -63,20 +67,22 @@ public class HK2InjectionResolver implements InjectionResolver<Inject> {
             MockProvider mockProvider = testContext.getMockProvider();
             Object testInstance = testContext.getTestInstance();
             Type requiredType = injectee.getRequiredType();
+            List<FakeCandidate> candidates = fakeCandidates.computeIfAbsent(requiredType,
+                    key -> FakeCandidate.resolve(testDescriptor, key, this::getRawTypeToken));
 
-            for (FieldDescriptor fieldDescriptor : testDescriptor.getFieldDescriptors()) {
-                if (fieldDescriptor.getFake().isPresent()) {
-                    Type fieldType = fieldDescriptor.getGenericType();
-                    Optional<Object> foundValue = fieldDescriptor.getValue(testInstance);
+            for (FakeCandidate candidate : candidates) {
+                if (candidate.isValueAssignable()) {
+                    Optional<Object> foundValue =
+                            candidate.getFieldDescriptor().getValue(testInstance);
 
-                    if (TypeToken.of(fieldType).isSupertypeOf(requiredType) && foundValue
-                            .isPresent()) {
+                    if (foundValue.isPresent()) {
                         return foundValue.get();
-                    } else if (getRawTypeToken(fieldType).isSupertypeOf(requiredType)) {
-                        return mockProvider.createFake(TypeToken.of(requiredType)
-                                .getRawType());
                     }
                 }
+
+                if (candidate.getFakeType() != null) {
+                    return mockProvider.createFake(candidate.getFakeType());
+                }
             }
 
             return null;
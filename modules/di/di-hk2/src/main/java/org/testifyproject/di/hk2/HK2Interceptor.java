@@ -83,40 +83,38 @@ public class HK2Interceptor {
         ServiceLocator serviceLocator = zuper.call();
         String locatorName = serviceLocator.getName();
 
-        TestContextHolder.INSTANCE.command(testContext -> {
-            if (testContext.getName().equals(locatorName)) {
-                testContext.computeIfAbsent(SERVICE_INSTANCE, key -> {
-                    TestDescriptor testDescriptor = testContext.getTestDescriptor();
-                    ClassLoader classLoader = testDescriptor.getTestClassLoader();
-
-                    HK2ServiceInstance serviceInstance =
-                            new HK2ServiceInstance(testContext, serviceLocator);
-
-                    HK2InjectionResolver hK2InjectionResolver =
-                            new HK2InjectionResolver(testContext, serviceLocator);
-                    ServiceLocatorUtilities.addOneConstant(serviceLocator, hK2InjectionResolver);
-
-                    ServiceLocatorUtilities.enableImmediateScope(serviceLocator);
-                    ServiceLocatorUtilities.enableImmediateScopeSuspended(serviceLocator);
-                    ServiceLocatorUtilities.enableInheritableThreadScope(serviceLocator);
-                    ServiceLocatorUtilities.enableLookupExceptions(serviceLocator);
-
-                    enableExtras("enableDefaultInterceptorServiceImplementation", serviceLocator);
-                    enableExtras("enableOperations", serviceLocator);
-                    enableExtras("enableTopicDistribution", serviceLocator);
-
-                    addModules(serviceLocator, testDescriptor);
-                    addScans(serviceLocator, testDescriptor, classLoader);
-                    addInstances(serviceLocator, testContext);
-
-                    ServiceProvider<ServiceLocator> serviceProvider =
-                            ServiceLocatorUtil.INSTANCE
-                                    .getOne(ServiceProvider.class, HK2ServiceProvider.class);
-
-                    return serviceProvider.configure(testContext, serviceLocator);
-                });
-            }
-
+        //service locators are named after the test run they are created for
+        TestContextHolder.INSTANCE.find(locatorName).ifPresent(testContext -> {
+            testContext.computeIfAbsent(SERVICE_INSTANCE, key -> {
+                TestDescriptor testDescriptor = testContext.getTestDescriptor();
+                ClassLoader classLoader = testDescriptor.getTestClassLoader();
+
+                HK2ServiceInstance serviceInstance =
+                        new HK2ServiceInstance(testContext, serviceLocator);
+
+                HK2InjectionResolver hK2InjectionResolver =
+                        new HK2InjectionResolver(testContext, serviceLocator);
+                ServiceLocatorUtilities.addOneConstant(serviceLocator, hK2InjectionResolver);
+
+                ServiceLocatorUtilities.enableImmediateScope(serviceLocator);
+                ServiceLocatorUtilities.enableImmediateScopeSuspended(serviceLocator);
+                ServiceLocatorUtilities.enableInheritableThreadScope(serviceLocator);
+                ServiceLocatorUtilities.enableLookupExceptions(serviceLocator);
+
+                enableExtras("enableDefaultInterceptorServiceImplementation", serviceLocator);
+                enableExtras("enableOperations", serviceLocator);
+                enableExtras("enableTopicDistribution", serviceLocator);
+
+                addModules(serviceLocator, testDescriptor);
+                addScans(serviceLocator, testDescriptor, classLoader);
+                addInstances(serviceLocator, testContext);
+
+                ServiceProvider<ServiceLocator> serviceProvider =
+                        ServiceLocatorUtil.INSTANCE
+                                .getOne(ServiceProvider.class, HK2ServiceProvider.class);
+
+                return serviceProvider.configure(testContext, serviceLocator);
+            });
         });
 
         return serviceLocator;
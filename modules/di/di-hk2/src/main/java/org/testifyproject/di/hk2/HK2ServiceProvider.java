@@ -22,6 +22,7 @@ import org.testifyproject.ServiceProvider;
 import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.annotation.Discoverable;
+import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -40,7 +41,9 @@ public class HK2ServiceProvider implements ServiceProvider<ServiceLocator> {
         TestConfigurer testConfigurer = testContext.getTestConfigurer();
         ServiceLocatorFactory locatorFactory = ServiceLocatorFactory.getInstance();
 
-        ServiceLocator serviceLocator = locatorFactory.create(testContext.getName());
+        //the locator is named after the test run so the interceptor can find its test context
+        ServiceLocator serviceLocator =
+                locatorFactory.create(TestContextHolder.INSTANCE.getId(testContext));
 
         return testConfigurer.configure(testContext, serviceLocator);
     }
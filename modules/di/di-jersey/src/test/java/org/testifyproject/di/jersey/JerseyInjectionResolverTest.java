@@ -20,6 +20,7 @@ import static org.glassfish.hk2.api.InjectionResolver.SYSTEM_RESOLVER_NAME;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -238,6 +239,51 @@ public class JerseyInjectionResolverTest {
         verify(threeThirtyResolver).resolve(injectee, root);
     }
 
+    @Test
+    public void givenUnresolvableTypeResolveShouldMemoizeFakeCandidates() {
+        Injectee injectee = mock(Injectee.class);
+        ServiceHandle root = mock(ServiceHandle.class);
+        SutDescriptor sutDescriptor = mock(SutDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.of(sutDescriptor);
+        InjectionResolver threeThirtyResolver = mock(InjectionResolver.class);
+        Object serviceInstance = new Object();
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        MockProvider mockProvider = mock(MockProvider.class);
+        Object testInstance = new Object();
+        Type requiredType = Object.class;
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        Collection<FieldDescriptor> fieldDescriptors = ImmutableList.of(fieldDescriptor);
+        Type fieldType = String.class;
+        Fake fake = mock(Fake.class);
+        Optional<Fake> foundFake = Optional.of(fake);
+
+        given(testContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getMockProvider()).willReturn(mockProvider);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(injectee.getRequiredType()).willReturn(requiredType);
+        given(testDescriptor.getFieldDescriptors()).willReturn(fieldDescriptors);
+        given(fieldDescriptor.getFake()).willReturn(foundFake);
+        given(fieldDescriptor.getGenericType()).willReturn(fieldType);
+        given(injectionManager.getInstance(
+                eq(InjectionResolver.class),
+                eq(new NamedImpl(SYSTEM_RESOLVER_NAME)))
+        ).willReturn(threeThirtyResolver);
+        given(threeThirtyResolver.resolve(injectee, root)).willReturn(serviceInstance);
+
+        Object firstResult = sut.resolve(injectee, root);
+        Object secondResult = sut.resolve(injectee, root);
+
+        assertThat(firstResult).isEqualTo(serviceInstance);
+        assertThat(secondResult).isEqualTo(serviceInstance);
+
+        verify(testDescriptor).getFieldDescriptors();
+        verify(fieldDescriptor).getFake();
+        verify(fieldDescriptor).getGenericType();
+        verify(threeThirtyResolver, times(2)).resolve(injectee, root);
+        verifyNoMoreInteractions(testDescriptor, fieldDescriptor, mockProvider);
+    }
+
     @Test
     public void givenIterableProviderGetRawTypeTokenShouldReturnRawType() {
         TypeToken<IterableProvider<String>> typeToken =
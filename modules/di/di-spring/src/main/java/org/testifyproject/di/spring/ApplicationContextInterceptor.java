@@ -61,11 +61,11 @@ public class ApplicationContextInterceptor {
             @SuperCall Callable<Void> zuper,
             @This ConfigurableApplicationContext applicationContext,
             @AllArguments Object[] args) throws Exception {
-        TestContextHolder.INSTANCE.command(testContext -> {
+        //application contexts are identified by the test run they are created for
+        TestContextHolder.INSTANCE.find(applicationContext.getId()).ifPresent(testContext -> {
             if (applicationContext instanceof AnnotationConfigApplicationContext) {
                 AnnotationConfigApplicationContext configContext =
                         (AnnotationConfigApplicationContext) applicationContext;
-                configContext.setId(testContext.getName());
                 configContext.setDisplayName(testContext.getName());
                 configContext.setAllowCircularReferences(false);
                 configContext.setAllowBeanDefinitionOverriding(true);
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.di.spring;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.guava.common.reflect.TypeToken;
+
+/**
+ * A {@link org.testifyproject.annotation.Fake fake} test class field along with the type
+ * tokens of its generic type and its raw (i.e. provided, optional or element) type.
+ *
+ * @author saden
+ */
+class FakeField {
+
+    private final FieldDescriptor fieldDescriptor;
+    private final TypeToken typeToken;
+    private final TypeToken rawTypeToken;
+
+    FakeField(FieldDescriptor fieldDescriptor, TypeToken typeToken, TypeToken rawTypeToken) {
+        this.fieldDescriptor = fieldDescriptor;
+        this.typeToken = typeToken;
+        this.rawTypeToken = rawTypeToken;
+    }
+
+    /**
+     * Create a new fake field.
+     *
+     * @param fieldDescriptor the fake test class field descriptor
+     * @param typeToken the type token of the field's generic type
+     * @param rawTypeToken the type token of the field's raw type
+     * @return a new fake field instance
+     */
+    static FakeField of(FieldDescriptor fieldDescriptor, TypeToken typeToken,
+            TypeToken rawTypeToken) {
+        return new FakeField(fieldDescriptor, typeToken, rawTypeToken);
+    }
+
+    /**
+     * Get the fake test class field descriptor.
+     *
+     * @return the field descriptor
+     */
+    FieldDescriptor getFieldDescriptor() {
+        return fieldDescriptor;
+    }
+
+    /**
+     * Get the type token of the field's generic type.
+     *
+     * @return the field type token
+     */
+    TypeToken getTypeToken() {
+        return typeToken;
+    }
+
+    /**
+     * Get the type token of the field's raw type.
+     *
+     * @return the raw type token
+     */
+    TypeToken getRawTypeToken() {
+        return rawTypeToken;
+    }
+
+}
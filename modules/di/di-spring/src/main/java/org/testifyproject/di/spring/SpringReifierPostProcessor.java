@@ -18,9 +18,13 @@ package org.testifyproject.di.spring;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Provider;
 
@@ -29,17 +33,23 @@ import org.springframework.beans.factory.config.InstantiationAwareBeanPostProces
 import org.testifyproject.FieldDescriptor;
 import org.testifyproject.MockProvider;
 import org.testifyproject.TestContext;
+import org.testifyproject.core.di.FakeCandidate;
 import org.testifyproject.guava.common.reflect.TypeToken;
 
 /**
  * A custom Spring bean post processor used to get and createFake service instances and reify
- * the test class fields.
+ * the test class fields. The type tokens of the fake test class fields are computed once per
+ * application context and the fake test class fields that can satisfy a bean class are
+ * resolved once per bean class, which matters for prototype scoped beans that are instantiated
+ * on every request.
  *
  * @author saden
  */
 public class SpringReifierPostProcessor implements InstantiationAwareBeanPostProcessor {
 
     private final TestContext testContext;
+    private final Map<Class<?>, List<FakeCandidate>> fakeCandidates = new ConcurrentHashMap<>();
+    private volatile List<FakeField> fakeFields;
 
     SpringReifierPostProcessor(TestContext testContext) {
         this.testContext = testContext;
@@ -49,26 +59,19 @@ public class SpringReifierPostProcessor implements InstantiationAwareBeanPostPro
     public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
         return testContext.getSutDescriptor().map(sutDescriptor -> {
             MockProvider mockProvider = testContext.getMockProvider();
+            List<FakeCandidate> candidates =
+                    fakeCandidates.computeIfAbsent(beanClass, this::getFakeCandidates);
 
-            for (FieldDescriptor fieldDescriptor : testContext.getTestDescriptor()
-                    .getFieldDescriptors()) {
-                if (!fieldDescriptor.getFake().isPresent()) {
-                    continue;
-                }
-
-                Type fieldType = fieldDescriptor.getGenericType();
-                TypeToken fieldTypeToken = TypeToken.of(fieldType);
-                TypeToken rawTypeToken = getRawTypeToken(fieldType);
-
-                if (fieldTypeToken.isSupertypeOf(beanClass)) {
-                    Optional<Object> foundValue = fieldDescriptor.getValue(testContext
-                            .getTestInstance());
+            for (FakeCandidate candidate : candidates) {
+                if (candidate.isValueAssignable()) {
+                    Optional<Object> foundValue = candidate.getFieldDescriptor()
+                            .getValue(testContext.getTestInstance());
 
                     if (foundValue.isPresent()) {
                         return foundValue.get();
                     }
-                } else if (rawTypeToken.isSupertypeOf(beanClass)) {
-                    return mockProvider.createFake(beanClass);
+                } else if (candidate.getFakeType() != null) {
+                    return mockProvider.createFake(candidate.getFakeType());
                 }
             }
 
@@ -113,6 +116,66 @@ public class SpringReifierPostProcessor implements InstantiationAwareBeanPostPro
         return bean;
     }
 
+    /**
+     * Determine the fake test class fields that can satisfy the given bean class. Unlike
+     * {@link FakeCandidate#resolve} the fields are matched against the type tokens computed
+     * once by {@link #getFakeFields()} rather than resolving the type tokens of every field
+     * for each bean class.
+     *
+     * @param beanClass the bean class
+     * @return a list of fake candidates, empty list otherwise
+     */
+    List<FakeCandidate> getFakeCandidates(Class<?> beanClass) {
+        List<FakeCandidate> candidates = new ArrayList<>();
+
+        for (FakeField fakeField : getFakeFields()) {
+            if (fakeField.getTypeToken().isSupertypeOf(beanClass)) {
+                candidates.add(FakeCandidate.of(fakeField.getFieldDescriptor(), true, null));
+            } else if (fakeField.getRawTypeToken().isSupertypeOf(beanClass)) {
+                candidates.add(FakeCandidate.of(fakeField.getFieldDescriptor(), false,
+                        beanClass));
+                break;
+            }
+        }
+
+        return candidates.isEmpty() ? Collections.emptyList() : candidates;
+    }
+
+    /**
+     * Get the fake test class fields of the test class. The fake fields and their type tokens
+     * are computed on first access.
+     *
+     * @return a list of fake fields, empty list otherwise
+     */
+    List<FakeField> getFakeFields() {
+        List<FakeField> result = fakeFields;
+
+        if (result == null) {
+            synchronized (this) {
+                result = fakeFields;
+
+                if (result == null) {
+                    result = new ArrayList<>();
+
+                    for (FieldDescriptor fieldDescriptor : testContext.getTestDescriptor()
+                            .getFieldDescriptors()) {
+                        if (fieldDescriptor.getFake().isPresent()) {
+                            Type fieldType = fieldDescriptor.getGenericType();
+
+                            result.add(FakeField.of(fieldDescriptor,
+                                    TypeToken.of(fieldType),
+                                    getRawTypeToken(fieldType)));
+                        }
+                    }
+
+                    fakeFields = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Given a type determine the raw type.
      *
@@ -21,6 +21,7 @@ import org.testifyproject.ServiceInstance;
 import org.testifyproject.ServiceProvider;
 import org.testifyproject.TestContext;
 import org.testifyproject.annotation.Discoverable;
+import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.SystemCategory;
 
@@ -40,6 +41,9 @@ public class SpringServiceProvider implements
         AnnotationConfigApplicationContext applicationContext =
                 new AnnotationConfigApplicationContext();
 
+        //the application context is identified by the test run so the interceptor can find
+        //its test context
+        applicationContext.setId(TestContextHolder.INSTANCE.getId(testContext));
         applicationContext.refresh();
 
         return applicationContext;
@@ -36,21 +36,24 @@ import org.testifyproject.di.fixture.instrument.ScanTester;
  */
 public class ApplicationContextInterceptorTest {
 
+    TestContext testContext;
+
     @After
     public void destroy() {
-        TestContextHolder.INSTANCE.remove();
+        TestContextHolder.INSTANCE.unregister(testContext);
     }
 
     @Test
     public void verifyModuleLoading() throws Exception {
         Class<ModuleTester> testClass = ModuleTester.class;
         Method testMethod = testClass.getDeclaredMethod("verifyInjection");
-        TestContext testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
-        TestContextHolder.INSTANCE.set(testContext);
+        testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
+        String id = TestContextHolder.INSTANCE.register(testContext);
 
         AnnotationConfigApplicationContext applicationContext =
                 new AnnotationConfigApplicationContext();
 
+        applicationContext.setId(id);
         applicationContext.refresh();
 
         WiredContract wiredContract = applicationContext.getBean(WiredContract.class);
@@ -62,12 +65,13 @@ public class ApplicationContextInterceptorTest {
     public void verifyScanLoading() throws Exception {
         Class<ScanTester> testClass = ScanTester.class;
         Method testMethod = testClass.getDeclaredMethod("verifyInjection");
-        TestContext testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
-        TestContextHolder.INSTANCE.set(testContext);
+        testContext = AnalyzerUtil.INSTANCE.analyzeAndCreate(testClass, testMethod);
+        String id = TestContextHolder.INSTANCE.register(testContext);
 
         AnnotationConfigApplicationContext applicationContext =
                 new AnnotationConfigApplicationContext();
 
+        applicationContext.setId(id);
         applicationContext.refresh();
 
         Greeter greeter = applicationContext.getBean(Greeter.class);
@@ -18,6 +18,7 @@ package org.testifyproject.di.spring;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -183,6 +184,45 @@ public class SpringReifierPostProcessorTest {
         verify(testDescriptor).getFieldDescriptors();
     }
 
+    @Test
+    public void givenSameBeanClassPostProcessBeforeInstantiationShouldMemoizeFakeCandidates() {
+        Class beanClass = Object.class;
+        String beanName = "beanName";
+        SutDescriptor sutDescriptor = mock(SutDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.of(sutDescriptor);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        MockProvider mockProvider = mock(MockProvider.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        Collection<FieldDescriptor> fieldDescriptors = ImmutableList.of(fieldDescriptor);
+        Type fieldType = new TypeToken<List<Object>>() {
+        }.getType();
+        Object firstValue = new Object();
+        Object secondValue = new Object();
+        Fake fake = mock(Fake.class);
+        Optional<Fake> foundFake = Optional.of(fake);
+
+        given(testContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getMockProvider()).willReturn(mockProvider);
+        given(testDescriptor.getFieldDescriptors()).willReturn(fieldDescriptors);
+        given(fieldDescriptor.getFake()).willReturn(foundFake);
+        given(fieldDescriptor.getGenericType()).willReturn(fieldType);
+        given(mockProvider.createFake(Object.class)).willReturn(firstValue, secondValue);
+
+        Object firstResult = sut.postProcessBeforeInstantiation(beanClass, beanName);
+        Object secondResult = sut.postProcessBeforeInstantiation(beanClass, beanName);
+
+        assertThat(firstResult).isEqualTo(firstValue);
+        assertThat(secondResult).isEqualTo(secondValue);
+
+        verify(testContext).getTestDescriptor();
+        verify(testDescriptor).getFieldDescriptors();
+        verify(fieldDescriptor).getFake();
+        verify(fieldDescriptor).getGenericType();
+        verify(mockProvider, times(2)).createFake(Object.class);
+        verifyNoMoreInteractions(testDescriptor, fieldDescriptor, mockProvider);
+    }
+
     @Test
     public void callToProcessAfterInitializationShouldReturnSetSutFieldAndReturnBean() {
         Object bean = new Object();
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.system;
+
+import java.net.URI;
+
+import org.testifyproject.ClientProvider;
+import org.testifyproject.TestContext;
+import org.testifyproject.annotation.Application;
+import org.testifyproject.core.util.ExceptionUtil;
+
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+
+/**
+ * <p>
+ * An implementation of {@link ClientProvider} that provides a gRPC Client instance connected
+ * to the application server through the gRPC in-process transport.
+ * </p>
+ * <p>
+ * Specifying this provider as the {@link Application#clientProvider() client provider} of an
+ * application selects the in-process transport for the application. When the application
+ * starts its gRPC server, the services of the server are bound to an in-process server with a
+ * unique name instead of a network port. No sockets, Netty event loops or ports are used by the
+ * test. Note that server builder settings such as executors and transport filters are not
+ * carried over to the in-process server.
+ * </p>
+ *
+ * @author saden
+ */
+public class InProcessGrpcClientProvider extends GrpcClientProvider {
+
+    /**
+     * The scheme of the base URI of an application server bound to the in-process transport.
+     */
+    public static final String SCHEME = "inprocess";
+
+    @Override
+    public ManagedChannelBuilder configure(TestContext testContext,
+            Application application, URI baseURI) {
+        if (!SCHEME.equals(baseURI.getScheme())) {
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "gRPC server '{}' is not bound to the in-process transport", baseURI);
+        }
+
+        return InProcessChannelBuilder.forName(baseURI.getSchemeSpecificPart());
+    }
+
+}
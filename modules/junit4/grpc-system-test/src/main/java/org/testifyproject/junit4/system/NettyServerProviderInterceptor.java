@@ -46,14 +46,13 @@ public class NettyServerProviderInterceptor {
     public NettyServerBuilder builderForPort(
             @Morph InstrumentMorpher<NettyServerBuilder> morpher,
             @AllArguments Object[] args) {
-        NettyServerBuilder result = TestContextHolder.INSTANCE.query(testContext -> {
-            return morpher.morph(new Object[]{0});
-        });
-
-        if (result == null) {
-            result = morpher.morph(args);
-        }
-
-        return result;
+        //builderForPort is a static factory so there is no application object that can carry
+        //the test run id, the server provider attaches the test context while it starts the
+        //application instead
+        Object[] morphedArgs = TestContextHolder.INSTANCE.get()
+                .map(testContext -> new Object[]{0})
+                .orElse(args);
+
+        return morpher.morph(morphedArgs);
     }
 }
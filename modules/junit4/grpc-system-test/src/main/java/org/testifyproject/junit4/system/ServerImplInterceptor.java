@@ -17,10 +17,16 @@ package org.testifyproject.junit4.system;
 
 import static java.lang.String.format;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.testifyproject.TestContext;
+import org.testifyproject.annotation.Application;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.AllArguments;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.BindingPriority;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.Origin;
@@ -29,27 +35,48 @@ import org.testifyproject.bytebuddy.implementation.bind.annotation.SuperCall;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.This;
 import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.core.TestContextProperties;
+import org.testifyproject.core.util.ExceptionUtil;
 import org.testifyproject.core.util.LoggingUtil;
 
 import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
 
 /**
  * GRPC Server operation interceptor. This class intercepts certain GRPC Server initialization
- * calls to configure the test case.
+ * calls to configure the test case. If the application under test uses the in-process transport
+ * (see {@link InProcessGrpcClientProvider}) starting the server binds its services to an
+ * in-process server and the in-process server is returned instead.
  *
  * @author saden
  */
 public class ServerImplInterceptor {
 
+    private final Map<Object, Server> inProcessServers = new ConcurrentHashMap<>();
+
     @RuntimeType
     @BindingPriority(Integer.MAX_VALUE)
     public Object anyMethod(@SuperCall Callable<?> zuper,
             @Origin Method method,
             @This(optional = true) Object object)
             throws Exception {
+        String methodName = method.getName();
+        boolean inProcess = inProcessServers.containsValue(object);
+
+        if (methodName.equals("start") && !inProcess) {
+            Server inProcessServer = TestContextHolder.INSTANCE.query(testContext ->
+                    isInProcess(testContext) ? bindInProcess(testContext, (Server) object) : null
+            );
+
+            if (inProcessServer != null) {
+                return inProcessServer;
+            }
+        } else if (methodName.equals("shutdown") || methodName.equals("shutdownNow")) {
+            shutdownInProcess(methodName, object);
+        }
+
         Object result = zuper.call();
 
-        if (method.getName().equals("start")) {
+        if (methodName.equals("start") && !inProcess) {
             TestContextHolder.INSTANCE.command(testContext -> {
                 int port = ((Server) object).getPort();
                 testContext.addProperty(TestContextProperties.APP_PORT, port);
@@ -68,4 +95,52 @@ public class ServerImplInterceptor {
         //for testing purpose trap calls for waitawaitTermination and do nothing
         LoggingUtil.INSTANCE.debug("awaitTermination intercepted and trapped");
     }
+
+    boolean isInProcess(TestContext testContext) {
+        return testContext.getTestDescriptor().getApplication()
+                .map(Application::clientProvider)
+                .filter(InProcessGrpcClientProvider.class::isAssignableFrom)
+                .isPresent();
+    }
+
+    Server bindInProcess(TestContext testContext, Server server) {
+        String name = format("testify-%s", UUID.randomUUID());
+        InProcessServerBuilder serverBuilder = InProcessServerBuilder.forName(name);
+        server.getServices().forEach(serverBuilder::addService);
+
+        Server inProcessServer = serverBuilder.build();
+        inProcessServers.put(server, inProcessServer);
+
+        try {
+            inProcessServer.start();
+        } catch (IOException e) {
+            inProcessServers.remove(server);
+            throw ExceptionUtil.INSTANCE.propagate(
+                    "Could not start in-process gRPC server '{}'", e, name);
+        }
+
+        LoggingUtil.INSTANCE.debug("gRPC server bound to in-process server '{}'", name);
+
+        URI baseURI = URI.create(format("%s:%s", InProcessGrpcClientProvider.SCHEME, name));
+        testContext.addProperty(TestContextProperties.SERVER, inProcessServer);
+        testContext.addProperty(TestContextProperties.SERVER_BASE_URI, baseURI);
+
+        return inProcessServer;
+    }
+
+    void shutdownInProcess(String methodName, Object object) {
+        Server inProcessServer = inProcessServers.remove(object);
+
+        if (inProcessServer != null) {
+            //the application stopped the server it built so the bound server is stopped too
+            if (methodName.equals("shutdown")) {
+                inProcessServer.shutdown();
+            } else {
+                inProcessServer.shutdownNow();
+            }
+        } else {
+            inProcessServers.values().remove(object);
+        }
+    }
+
 }
@@ -15,12 +15,14 @@
  */
 package org.testifyproject.junit4.system;
 
+import static org.testifyproject.core.TestContextProperties.CLIENT_CONNECTOR;
 import static org.testifyproject.core.TestContextProperties.SERVICE_INSTANCE;
 
 import java.util.concurrent.Callable;
 
 import org.glassfish.jersey.internal.inject.Binder;
 import org.glassfish.jersey.internal.inject.InjectionManager;
+import org.glassfish.jersey.server.ApplicationHandler;
 import org.testifyproject.ServiceProvider;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.Argument;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.BindingPriority;
@@ -50,13 +52,18 @@ public class ApplicationHandlerInterceptor {
     }
 
     public void initialize(@SuperCall Callable<Void> zuper,
+            @This Object object,
             @Argument(0) Object applicationConfigurator,
             @Argument(1) InjectionManager injectionManager,
             @Argument(2) Binder customBinder)
             throws Exception {
         zuper.call();
 
-        TestContextHolder.INSTANCE.command(testContext -> {
+        ApplicationHandler applicationHandler = (ApplicationHandler) object;
+        String id = (String) applicationHandler.getConfiguration()
+                .getProperty(TestContextHolder.TEST_CONTEXT_ID);
+
+        TestContextHolder.INSTANCE.find(id).ifPresent(testContext -> {
             if (SystemCategory.class.equals(testContext.getTestCategory())) {
                 testContext.computeIfAbsent(SERVICE_INSTANCE, key -> {
                     ServiceProvider<InjectionManager> serviceProvider =
@@ -65,6 +72,10 @@ public class ApplicationHandlerInterceptor {
 
                     return serviceProvider.configure(testContext, injectionManager);
                 });
+
+                //publish the application handler so clients can opt into in-memory requests
+                testContext.computeIfAbsent(CLIENT_CONNECTOR, key ->
+                        InMemoryConnectorProvider.of(testContext, applicationHandler));
             }
         });
     }
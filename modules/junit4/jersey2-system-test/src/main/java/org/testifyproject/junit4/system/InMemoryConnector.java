@@ -0,0 +1,159 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.system;
+
+import static org.testifyproject.core.TestContextProperties.SERVER_BASE_URI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.ws.rs.ProcessingException;
+
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.testifyproject.TestContext;
+
+/**
+ * A Jersey client connector that converts client requests to container requests, processes
+ * them with the application handler of the server under test on the calling thread and converts
+ * the resulting container responses back to client responses. Request and response entities
+ * are buffered in memory and no network I/O is performed.
+ *
+ * @author saden
+ */
+class InMemoryConnector implements Connector {
+
+    private static final byte[] EMPTY_ENTITY = new byte[0];
+
+    private final TestContext testContext;
+    private final ApplicationHandler applicationHandler;
+
+    InMemoryConnector(TestContext testContext, ApplicationHandler applicationHandler) {
+        this.testContext = testContext;
+        this.applicationHandler = applicationHandler;
+    }
+
+    @Override
+    public ClientResponse apply(ClientRequest clientRequest) {
+        //the entity must be written first since writing it may add request headers
+        byte[] requestEntity = writeEntity(clientRequest);
+        URI requestURI = clientRequest.getUri();
+        ContainerRequest containerRequest = new ContainerRequest(getBaseURI(requestURI),
+                requestURI,
+                clientRequest.getMethod(),
+                null,
+                new MapPropertiesDelegate());
+
+        containerRequest.getHeaders().putAll(clientRequest.getStringHeaders());
+        containerRequest.setEntityStream(new ByteArrayInputStream(requestEntity));
+
+        ByteArrayOutputStream responseEntity = new ByteArrayOutputStream();
+
+        try {
+            ContainerResponse containerResponse =
+                    applicationHandler.apply(containerRequest, responseEntity).get();
+            ClientResponse clientResponse =
+                    new ClientResponse(containerResponse.getStatusInfo(), clientRequest);
+
+            clientResponse.getHeaders().putAll(containerResponse.getStringHeaders());
+            clientResponse.setEntityStream(
+                    new ByteArrayInputStream(responseEntity.toByteArray()));
+
+            return clientResponse;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            throw new ProcessingException(e.getCause());
+        }
+    }
+
+    @Override
+    public Future<?> apply(ClientRequest clientRequest, AsyncConnectorCallback callback) {
+        CompletableFuture<ClientResponse> result = new CompletableFuture<>();
+
+        try {
+            ClientResponse clientResponse = apply(clientRequest);
+            callback.response(clientResponse);
+            result.complete(clientResponse);
+        } catch (ProcessingException e) {
+            callback.failure(e);
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return "Testify In-Memory Connector";
+    }
+
+    @Override
+    public void close() {
+        //nothing to release since no connections are opened
+    }
+
+    /**
+     * Get the base URI of the given request URI. The application may be mounted below the root
+     * so the base path is taken from the base URI of the server under test while the scheme
+     * and authority are taken from the request URI.
+     *
+     * @param requestURI the request URI
+     * @return the base URI of the request
+     */
+    URI getBaseURI(URI requestURI) {
+        String basePath = testContext.<URI>findProperty(SERVER_BASE_URI)
+                .map(URI::getRawPath)
+                .filter(path -> !path.isEmpty())
+                .orElse("/");
+
+        if (!basePath.endsWith("/")) {
+            basePath = basePath + "/";
+        }
+
+        return requestURI.resolve(basePath);
+    }
+
+    byte[] writeEntity(ClientRequest clientRequest) {
+        if (!clientRequest.hasEntity()) {
+            return EMPTY_ENTITY;
+        }
+
+        ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        clientRequest.setStreamProvider(contentLength -> entity);
+
+        try {
+            clientRequest.writeEntity();
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+
+        return entity.toByteArray();
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.system;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.Configuration;
+
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.testifyproject.TestContext;
+
+/**
+ * A Jersey client connector provider that provides connectors which hand client requests
+ * directly to the application handler of the server under test.
+ *
+ * @author saden
+ */
+public class InMemoryConnectorProvider implements ConnectorProvider {
+
+    private final TestContext testContext;
+    private final ApplicationHandler applicationHandler;
+
+    InMemoryConnectorProvider(TestContext testContext, ApplicationHandler applicationHandler) {
+        this.testContext = testContext;
+        this.applicationHandler = applicationHandler;
+    }
+
+    /**
+     * Create a new instance of InMemoryConnectorProvider.
+     *
+     * @param testContext the test context that holds the base URI of the server under test
+     * @param applicationHandler the application handler requests are handed to
+     * @return a new in-memory connector provider
+     */
+    public static InMemoryConnectorProvider of(TestContext testContext,
+            ApplicationHandler applicationHandler) {
+        return new InMemoryConnectorProvider(testContext, applicationHandler);
+    }
+
+    @Override
+    public Connector getConnector(Client client, Configuration runtimeConfig) {
+        return new InMemoryConnector(testContext, applicationHandler);
+    }
+
+}
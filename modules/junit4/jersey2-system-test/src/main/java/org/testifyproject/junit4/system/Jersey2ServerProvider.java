@@ -55,8 +55,6 @@ public class Jersey2ServerProvider implements ServerProvider<ResourceConfig, Htt
     @Override
     @SuppressWarnings("UseSpecificCatch")
     public ResourceConfig configure(TestContext testContext) {
-        TestContextHolder.INSTANCE.set(testContext);
-
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
 
         Optional<Application> foundApplication = testDescriptor.getApplication();
@@ -67,6 +65,10 @@ public class Jersey2ServerProvider implements ServerProvider<ResourceConfig, Htt
 
             resourceConfig = ReflectionUtil.INSTANCE.newInstance(application.value());
             resourceConfig.setApplicationName(testContext.getName());
+            //the application is identified by the test run so the interceptor can find its
+            //test context
+            resourceConfig.property(TestContextHolder.TEST_CONTEXT_ID,
+                    TestContextHolder.INSTANCE.getId(testContext));
         }
 
         return resourceConfig;
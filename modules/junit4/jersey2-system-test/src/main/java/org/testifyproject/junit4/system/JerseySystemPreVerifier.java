@@ -21,6 +21,7 @@ import org.testifyproject.TestContext;
 import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.core.util.ReflectionUtil;
 import org.testifyproject.extension.PreVerifier;
+import org.testifyproject.extension.annotation.Memoizable;
 import org.testifyproject.extension.annotation.SystemCategory;
 
 /**
@@ -29,6 +30,7 @@ import org.testifyproject.extension.annotation.SystemCategory;
  * @author saden
  */
 @SystemCategory
+@Memoizable
 @Discoverable
 public class JerseySystemPreVerifier implements PreVerifier {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runners.model.RunnerScheduler;
+import org.testifyproject.core.util.ExceptionUtil;
+import org.testifyproject.core.util.SettingUtil;
+
+/**
+ * A JUnit runner scheduler that runs the test methods of a test class concurrently on a
+ * bounded executor shared by all test classes. The size of the executor can be configured
+ * through the {@code testify.test.threads} system property.
+ *
+ * @author saden
+ */
+public class TestifyJUnit4Scheduler implements RunnerScheduler {
+
+    private final ExecutorService executor;
+    private final Queue<Future<?>> futures;
+
+    TestifyJUnit4Scheduler(ExecutorService executor) {
+        this.executor = executor;
+        this.futures = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Create a new scheduler instance that runs test methods on the shared test executor.
+     *
+     * @return a new scheduler instance
+     */
+    public static TestifyJUnit4Scheduler of() {
+        return new TestifyJUnit4Scheduler(SharedExecutor.INSTANCE);
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        futures.add(executor.submit(childStatement));
+    }
+
+    @Override
+    public void finished() {
+        Throwable error = null;
+        Future<?> future;
+
+        //wait for all the test methods to finish before reporting a failure so that the
+        //test class is not released while its test methods are still running
+        while ((future = futures.poll()) != null) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = error == null ? e : error;
+            } catch (ExecutionException e) {
+                error = error == null ? e.getCause() : error;
+            }
+        }
+
+        if (error != null) {
+            throw ExceptionUtil.INSTANCE.propagate(error);
+        }
+    }
+
+    /**
+     * A holder of the executor shared by all the test classes. The executor is only created
+     * when test methods are run concurrently.
+     */
+    static class SharedExecutor {
+
+        static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                SettingUtil.INSTANCE.getTestThreads(),
+                createThreadFactory());
+
+        static ThreadFactory createThreadFactory() {
+            AtomicInteger counter = new AtomicInteger();
+
+            return runnable -> {
+                Thread thread = new Thread(runnable, "testify-test-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+
+                return thread;
+            };
+        }
+    }
+
+}
@@ -18,7 +18,9 @@ package org.testifyproject.junit4.core;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.internal.AssumptionViolatedException;
 import org.junit.rules.MethodRule;
@@ -43,6 +45,7 @@ import org.testifyproject.TestDescriptor;
 import org.testifyproject.TestRunner;
 import org.testifyproject.core.DefaultTestConfigurer;
 import org.testifyproject.core.DefaultTestContextBuilder;
+import org.testifyproject.core.TestCategory;
 import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.core.TestContextProperties;
 import org.testifyproject.core.analyzer.DefaultMethodDescriptor;
@@ -65,6 +68,8 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
     public static final String TEST_METHOD_KEY = "method";
     public static final String TEST_CLASS_KEY = "test";
     private TestSettings testSettings;
+    private final Map<FrameworkMethod, TestContext> testContexts;
+    private final boolean parallel;
 
     /**
      * Create a new test runner instance for the system under test.
@@ -78,6 +83,12 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
             throws InitializationError {
         super(testClass);
         this.testSettings = testSettings;
+        this.testContexts = new ConcurrentHashMap<>();
+        this.parallel = isParallel(testSettings.getTestLevel());
+
+        if (parallel) {
+            setScheduler(TestifyJUnit4Scheduler.of());
+        }
 
         try {
             TestifyJUnit4CategoryFilter categoryFilter = TestifyJUnit4CategoryFilter.of(
@@ -130,15 +141,20 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
                 notifier.addFailure(e);
                 notifier.pleaseStop();
             } finally {
-                if (!isIgnored(method)) {
-                    TestContextHolder.INSTANCE.command(testContext -> {
-                        LoggingUtil.INSTANCE.debug("performing cleanup of '{}'",
-                                testContext.getName());
+                TestContext testContext = testContexts.remove(method);
+
+                if (testContext != null) {
+                    LoggingUtil.INSTANCE.debug("performing cleanup of '{}'",
+                            testContext.getName());
 
+                    try {
                         TestRunner testRunner = testContext.getTestRunner();
                         testRunner.stop(testContext);
+                    } finally {
+                        TestContextHolder.INSTANCE.unregister(testContext);
                         TestContextHolder.INSTANCE.remove();
-                    });
+                        LoggingUtil.INSTANCE.flush();
+                    }
                 }
             }
         }
@@ -181,14 +197,7 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
         MockProvider mockProvider = ServiceLocatorUtil.INSTANCE
                 .getOneOrDefault(mockProviderType, MockitoMockProvider.class);
 
-        TestRunner testRunner;
-
-        if (testSettings.getTestRunnerClass() == null) {
-            testRunner = getTestRunner();
-        } else {
-            testRunner = ServiceLocatorUtil.INSTANCE
-                    .getOne(TestRunner.class, testSettings.getTestRunnerClass());
-        }
+        TestRunner testRunner = createTestRunner();
 
         TestContext testContext = DefaultTestContextBuilder.builder()
                 .testInstance(testInstance)
@@ -201,6 +210,10 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
                 .properties(SettingUtil.INSTANCE.getSettings())
                 .build();
 
+        testContexts.put(frameworkMethod, testContext);
+        //test contexts of concurrently run test methods must not be inherited by pooled threads
+        //created while they run as they would otherwise retain the test context
+        TestContextHolder.INSTANCE.register(testContext, !parallel);
         TestContextHolder.INSTANCE.set(testContext);
 
         Optional<Field> sutField = testDescriptor.getSutField();
@@ -250,6 +263,53 @@ public abstract class TestifyJUnit4TestRunner extends BlockJUnit4ClassRunner {
         return statement;
     }
 
+    @Override
+    protected Statement withAfterClasses(Statement statement) {
+        Statement afterClasses = super.withAfterClasses(statement);
+        Class<?> javaClass = getTestClass().getJavaClass();
+
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try {
+                    afterClasses.evaluate();
+                } finally {
+                    LoggingUtil.INSTANCE.debug("releasing shared artifacts of test class {}",
+                            javaClass.getName());
+                    TestDescriptor testDescriptor =
+                            AnalyzerUtil.INSTANCE.analyzeTestClass(javaClass);
+
+                    createTestRunner().release(testDescriptor);
+                }
+            }
+        };
+    }
+
+    /**
+     * Determine if the test methods of tests of the given level are run concurrently. Test
+     * methods are only run concurrently if more than one test thread is configured and the
+     * test level is one of the configured parallel test levels.
+     *
+     * @param testLevel the test level
+     * @return true if test methods are run concurrently, false otherwise
+     */
+    boolean isParallel(TestCategory.Level testLevel) {
+        SettingUtil settingUtil = SettingUtil.INSTANCE;
+
+        return settingUtil.getTestThreads() > 1
+                && TestCategory.find(TestCategory.Level.class, settingUtil.getParallelLevels())
+                        .contains(testLevel);
+    }
+
+    TestRunner createTestRunner() {
+        if (testSettings.getTestRunnerClass() == null) {
+            return getTestRunner();
+        }
+
+        return ServiceLocatorUtil.INSTANCE
+                .getOne(TestRunner.class, testSettings.getTestRunnerClass());
+    }
+
     TestRunner getTestRunner() throws AssertionError {
         return ServiceLocatorUtil.INSTANCE
                 .getOneWithFilter(TestRunner.class, testSettings.getTestCategory());
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.testifyproject.junit4.SystemTest;
+import org.testifyproject.junit4.UnitTest;
+import org.testifyproject.junit4.fixture.parallel.InheritingSystemTestClass;
+import org.testifyproject.junit4.fixture.parallel.ParallelTestClass;
+
+/**
+ *
+ * @author saden
+ */
+public class TestifyJUnit4ParallelRunTest {
+
+    JUnitCore sut;
+
+    @Before
+    public void init() {
+        System.setProperty("testify.test.threads", "2");
+
+        sut = new JUnitCore();
+    }
+
+    @After
+    public void destroy() {
+        System.clearProperty("testify.test.threads");
+    }
+
+    @Test
+    public void givenParallelTestClassRunShouldRunTestMethods() throws Exception {
+        Result result = sut.run(Request.runner(new UnitTest(ParallelTestClass.class)));
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getRunCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenParallelRunThenSystemRunNewThreadShouldInheritTestContext()
+            throws Exception {
+        UnitTest parallelRunner = new UnitTest(ParallelTestClass.class);
+        SystemTest systemRunner = new SystemTest(InheritingSystemTestClass.class);
+
+        Result parallelResult = sut.run(Request.runner(parallelRunner));
+        Result systemResult = sut.run(Request.runner(systemRunner));
+
+        assertThat(parallelResult.getFailures()).isEmpty();
+        assertThat(systemResult.getFailures()).isEmpty();
+        assertThat(systemResult.getRunCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.TestifyException;
+
+/**
+ *
+ * @author saden
+ */
+public class TestifyJUnit4SchedulerTest {
+
+    TestifyJUnit4Scheduler sut;
+    ExecutorService executor;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(2);
+
+        sut = new TestifyJUnit4Scheduler(executor);
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void callToOfShouldReturnNewInstance() {
+        TestifyJUnit4Scheduler result = TestifyJUnit4Scheduler.of();
+
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    public void givenChildStatementsFinishedShouldWaitForChildStatements() {
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicInteger counter = new AtomicInteger();
+
+        //both statements must run concurrently for the latch to be released
+        Runnable childStatement = () -> {
+            latch.countDown();
+
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            counter.incrementAndGet();
+        };
+
+        sut.schedule(childStatement);
+        sut.schedule(childStatement);
+        sut.finished();
+
+        assertThat(latch.getCount()).isZero();
+        assertThat(counter.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenFailingChildStatementFinishedShouldThrowException() {
+        AtomicInteger counter = new AtomicInteger();
+        IllegalStateException exception = new IllegalStateException();
+
+        sut.schedule(() -> {
+            throw exception;
+        });
+        sut.schedule(counter::incrementAndGet);
+
+        Throwable result = catchThrowable(sut::finished);
+
+        assertThat(result).isInstanceOf(TestifyException.class).hasCause(exception);
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.junit4.fixture.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.testifyproject.TestContext;
+import org.testifyproject.annotation.Application;
+import org.testifyproject.core.TestContextHolder;
+import org.testifyproject.junit4.fixture.GenericApplication;
+
+/**
+ *
+ * @author saden
+ */
+@Application(value = GenericApplication.class, start = "start", stop = "stop")
+public class InheritingSystemTestClass {
+
+    @Test
+    public void givenNewThreadShouldInheritTestContext() throws InterruptedException {
+        Optional<TestContext> testContext = TestContextHolder.INSTANCE.get();
+        AtomicReference<Optional<TestContext>> result = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> result.set(TestContextHolder.INSTANCE.get()));
+        thread.start();
+        thread.join();
+
+        assertThat(testContext).isPresent();
+        assertThat(result.get()).isEqualTo(testContext);
+    }
+
+}
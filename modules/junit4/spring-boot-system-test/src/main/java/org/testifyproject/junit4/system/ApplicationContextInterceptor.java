@@ -18,14 +18,15 @@ package org.testifyproject.junit4.system;
 import static org.testifyproject.core.TestContextProperties.SERVER;
 import static org.testifyproject.server.core.ServletProperties.SERVLET_CONTEXT;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.function.Consumer;
 
 import javax.servlet.ServletContext;
 
 import org.springframework.boot.context.embedded.ConfigurableEmbeddedServletContainer;
 import org.springframework.boot.context.embedded.EmbeddedServletContainer;
 import org.springframework.boot.context.embedded.EmbeddedServletContainerFactory;
+import org.springframework.context.ApplicationContext;
 import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.AllArguments;
@@ -59,10 +60,11 @@ public class ApplicationContextInterceptor {
     }
 
     public EmbeddedServletContainerFactory getEmbeddedServletContainerFactory(
-            @SuperCall Callable<EmbeddedServletContainerFactory> zuper) throws Exception {
+            @SuperCall Callable<EmbeddedServletContainerFactory> zuper,
+            @This Object applicationContext) throws Exception {
         EmbeddedServletContainerFactory containerFactory = zuper.call();
 
-        TestContextHolder.INSTANCE.command(testContext -> {
+        findTestContext(applicationContext).ifPresent(testContext -> {
             ConfigurableEmbeddedServletContainer servletContainer =
                     (ConfigurableEmbeddedServletContainer) containerFactory;
             servletContainer.setPort(0);
@@ -75,8 +77,9 @@ public class ApplicationContextInterceptor {
     }
 
     protected void prepareEmbeddedWebApplicationContext(@SuperCall Callable<Void> zuper,
+            @This Object applicationContext,
             @Argument(0) ServletContext servletContext) throws Exception {
-        TestContextHolder.INSTANCE.command(testContext -> {
+        findTestContext(applicationContext).ifPresent(testContext -> {
             TestConfigurer testConfigurer = testContext.getTestConfigurer();
             testConfigurer.configure(testContext, servletContext);
         });
@@ -85,10 +88,11 @@ public class ApplicationContextInterceptor {
     }
 
     public EmbeddedServletContainer startEmbeddedServletContainer(
-            @SuperCall Callable<EmbeddedServletContainer> zuper) throws Exception {
+            @SuperCall Callable<EmbeddedServletContainer> zuper,
+            @This Object applicationContext) throws Exception {
         EmbeddedServletContainer servletContainer = zuper.call();
 
-        TestContextHolder.INSTANCE.command((Consumer<TestContext>) testContext ->
+        findTestContext(applicationContext).ifPresent(testContext ->
                 testContext.addProperty(SERVER, servletContainer)
         );
 
@@ -96,8 +100,9 @@ public class ApplicationContextInterceptor {
     }
 
     public void prepareEmbeddedWebApplicationContext(@SuperCall Callable<Void> zuper,
+            @This Object applicationContext,
             @AllArguments Object[] args) throws Exception {
-        TestContextHolder.INSTANCE.command(testContext -> {
+        findTestContext(applicationContext).ifPresent(testContext -> {
             LoggingUtil.INSTANCE.setTextContext(testContext);
             testContext.addProperty(SERVLET_CONTEXT, args[0]);
         });
@@ -106,4 +111,17 @@ public class ApplicationContextInterceptor {
 
     }
 
+    /**
+     * Find the test context of the test run the given application context was started for.
+     * The application context is identified by the test run when it is refreshed.
+     *
+     * @param applicationContext the application context
+     * @return an optional containing the test context, empty optional otherwise
+     */
+    Optional<TestContext> findTestContext(Object applicationContext) {
+        String id = ((ApplicationContext) applicationContext).getId();
+
+        return TestContextHolder.INSTANCE.find(id);
+    }
+
 }
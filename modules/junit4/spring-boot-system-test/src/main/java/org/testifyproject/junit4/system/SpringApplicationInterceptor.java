@@ -63,7 +63,7 @@ public class SpringApplicationInterceptor {
         AnnotationConfigEmbeddedWebApplicationContext applicationContext =
                 (AnnotationConfigEmbeddedWebApplicationContext) zuper.call();
 
-        TestContextHolder.INSTANCE.command(testContext -> {
+        TestContextHolder.INSTANCE.find(applicationContext.getId()).ifPresent(testContext -> {
             testContext.addProperty(APP, object);
 
             if (args.length == 2) {
@@ -79,8 +79,14 @@ public class SpringApplicationInterceptor {
             throws Exception {
         ConfigurableApplicationContext configurableApplicationContext =
                 (ConfigurableApplicationContext) applicationContext;
+        String id = configurableApplicationContext.getEnvironment()
+                .getProperty(TestContextHolder.TEST_CONTEXT_ID);
+
+        TestContextHolder.INSTANCE.find(id).ifPresent(testContext -> {
+            //the application context is identified by the test run so that callbacks made on
+            //server threads can find its test context
+            configurableApplicationContext.setId(id);
 
-        TestContextHolder.INSTANCE.command(testContext -> {
             testContext.computeIfAbsent(SERVICE_INSTANCE, key -> {
                 ServiceProvider<ConfigurableApplicationContext> serviceProvider =
                         ServiceLocatorUtil.INSTANCE.getOne(ServiceProvider.class,
@@ -39,6 +39,7 @@ import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Application;
 import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.core.ServerInstanceBuilder;
+import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.core.util.ExceptionUtil;
 import org.testifyproject.core.util.LoggingUtil;
 
@@ -67,6 +68,11 @@ public class SpringBootServerProvider implements
                     .bannerMode(Banner.Mode.OFF);
         });
 
+        //the application is identified by the test run so the interceptors can find its test
+        //context
+        applicationBuilder.properties(TestContextHolder.TEST_CONTEXT_ID + "="
+                + TestContextHolder.INSTANCE.getId(testContext));
+
         return applicationBuilder;
     }
 
@@ -22,6 +22,7 @@ import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.core.util.ReflectionUtil;
 import org.testifyproject.extension.PreVerifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
+import org.testifyproject.extension.annotation.Memoizable;
 
 /**
  * TODO.
@@ -29,6 +30,7 @@ import org.testifyproject.extension.annotation.IntegrationCategory;
  * @author saden
  */
 @IntegrationCategory
+@Memoizable
 @Discoverable
 public class SpringIntegrationPreVerifier implements PreVerifier {
 
@@ -66,12 +66,13 @@ public class ApplicationContextInterceptor {
             @AllArguments Object[] args) throws Exception {
         DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) zuper.call();
 
-        TestContextHolder.INSTANCE.command(testContext -> {
+        String id = ((ConfigurableApplicationContext) applicationContext).getId();
+
+        TestContextHolder.INSTANCE.find(id).ifPresent(testContext -> {
             AnnotationConfigWebApplicationContext configuredContext =
                     (AnnotationConfigWebApplicationContext) applicationContext;
 
             if (applicationContext instanceof AnnotationConfigWebApplicationContext) {
-                configuredContext.setId(testContext.getName());
                 configuredContext.setDisplayName(testContext.getName());
                 configuredContext.setAllowCircularReferences(false);
                 configuredContext.setAllowBeanDefinitionOverriding(true);
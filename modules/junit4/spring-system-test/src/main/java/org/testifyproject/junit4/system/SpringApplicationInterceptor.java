@@ -20,6 +20,8 @@ import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.stream.Stream;
 
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
 import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Module;
 import org.testifyproject.bytebuddy.implementation.bind.annotation.AllArguments;
@@ -39,6 +41,12 @@ import org.testifyproject.core.TestContextHolder;
  */
 public class SpringApplicationInterceptor {
 
+    private final String id;
+
+    SpringApplicationInterceptor(String id) {
+        this.id = id;
+    }
+
     @RuntimeType
     @BindingPriority(Integer.MAX_VALUE)
     public Object anyMethod(
@@ -55,7 +63,7 @@ public class SpringApplicationInterceptor {
             @This Object object) throws Exception {
         Class<?>[] result = zuper.call();
 
-        return TestContextHolder.INSTANCE.query(testContext -> {
+        return TestContextHolder.INSTANCE.find(id).map(testContext -> {
             TestDescriptor testDescriptor = testContext.getTestDescriptor();
             Collection<Module> modules = testDescriptor.getModules();
 
@@ -67,7 +75,32 @@ public class SpringApplicationInterceptor {
             }
 
             return Stream.concat(testModules, productionModules).toArray(Class[]::new);
-        });
+        }).orElse(result);
+    }
+
+    public WebApplicationContext createRootApplicationContext(
+            @SuperCall Callable<WebApplicationContext> zuper) throws Exception {
+        return identify(zuper.call());
+    }
+
+    public WebApplicationContext createServletApplicationContext(
+            @SuperCall Callable<WebApplicationContext> zuper) throws Exception {
+        return identify(zuper.call());
+    }
+
+    /**
+     * Identify the given application context by the test run the application is started for
+     * so that the application context interceptor can find its test context.
+     *
+     * @param applicationContext the application context
+     * @return the application context
+     */
+    WebApplicationContext identify(WebApplicationContext applicationContext) {
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).setId(id);
+        }
+
+        return applicationContext;
     }
 
 }
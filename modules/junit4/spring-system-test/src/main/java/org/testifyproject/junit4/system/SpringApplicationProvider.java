@@ -25,6 +25,7 @@ import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Application;
 import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.core.DefaultApplicationInstance;
+import org.testifyproject.core.TestContextHolder;
 import org.testifyproject.core.util.InstrumentUtil;
 import org.testifyproject.server.core.ServletInstance;
 import org.testifyproject.server.core.ServletProperties;
@@ -45,7 +46,8 @@ public class SpringApplicationProvider implements ApplicationProvider {
 
         if (foundApplication.isPresent()) {
             Application application = foundApplication.get();
-            SpringApplicationInterceptor interceptor = new SpringApplicationInterceptor();
+            SpringApplicationInterceptor interceptor = new SpringApplicationInterceptor(
+                    TestContextHolder.INSTANCE.getId(testContext));
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
             Class<?> dynamicApp = InstrumentUtil.INSTANCE.createSubclass(
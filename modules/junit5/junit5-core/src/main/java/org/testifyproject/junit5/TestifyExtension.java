@@ -21,6 +21,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -47,22 +48,30 @@ import org.testifyproject.core.util.SettingUtil;
 import org.testifyproject.mock.MockitoMockProvider;
 
 /**
- * TODO.
+ * A JUnit 5 extension that runs Testify tests. All the state of a test run is kept in the
+ * {@link ExtensionContext.Store} of the test class and test method so that test methods can
+ * be run concurrently. Note that when concurrent execution is enabled through the
+ * {@value #PARALLEL_ENABLED_KEY} configuration parameter threads created during a test run do
+ * not inherit the test context of the test run.
  *
  * @author saden
  */
 public class TestifyExtension
-        implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+        implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
 
     public static final String TEST_METHOD_KEY = "method";
     public static final String TEST_CLASS_KEY = "test";
-    private TestDescriptor testDescriptor;
+    public static final String PARALLEL_ENABLED_KEY = "junit.jupiter.execution.parallel.enabled";
 
     @Override
     public void beforeAll(ExtensionContext context) throws Exception {
+        ExtensionContext.Namespace namespace = create(TestifyExtension.class);
+        ExtensionContext.Store store = context.getStore(namespace);
+
         if (context.getTestClass().isPresent()) {
             Class<?> testClass = context.getTestClass().get();
-            testDescriptor = AnalyzerUtil.INSTANCE.analyzeTestClass(testClass);
+            TestDescriptor testDescriptor = AnalyzerUtil.INSTANCE.analyzeTestClass(testClass);
+            store.put(TestDescriptor.class, testDescriptor);
         }
     }
 
@@ -93,8 +102,10 @@ public class TestifyExtension
         ExtensionContext.Store store = context.getStore(namespace);
 
         TestSettings testSettings = store.get(TestSettingsProperties.class, TestSettings.class);
+        //the test descriptor is stored in the store of the test class by beforeAll
+        TestDescriptor testDescriptor = store.get(TestDescriptor.class, TestDescriptor.class);
 
-        if (testSettings != null) {
+        if (testSettings != null && testDescriptor != null) {
             TestRunner testRunner;
 
             if (testSettings.getTestRunnerClass() == null) {
@@ -122,6 +133,21 @@ public class TestifyExtension
 
             store.put(TestContext.class, testContext);
 
+            //keep track of the test runner so we can release shared artifacts after all the
+            //tests in the test class have been run
+            Optional<ExtensionContext> foundParent = context.getParent();
+
+            if (foundParent.isPresent()) {
+                foundParent.get().getStore(namespace)
+                        .getOrComputeIfAbsent(TestRunner.class, p -> testRunner,
+                                TestRunner.class);
+            }
+
+            //the test context is explicitly set on the thread running the test so that
+            //service and server interceptors invoked while starting the test can find it. pooled
+            //threads created by a test run must not hold on to its test context when tests are
+            //run concurrently
+            TestContextHolder.INSTANCE.register(testContext, !isParallel(context));
             TestContextHolder.INSTANCE.set(testContext);
 
             Optional<Field> sutField = testDescriptor.getSutField();
@@ -144,14 +170,46 @@ public class TestifyExtension
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
-        TestContextHolder.INSTANCE.command(testContext -> {
+        ExtensionContext.Namespace namespace = create(TestifyExtension.class);
+        ExtensionContext.Store store = context.getStore(namespace);
+        TestContext testContext = store.remove(TestContext.class, TestContext.class);
+
+        if (testContext != null) {
             LoggingUtil.INSTANCE.debug("performing cleanup of '{}'",
                     testContext.getName());
 
-            TestRunner testRunner = testContext.getTestRunner();
-            testRunner.stop(testContext);
-            TestContextHolder.INSTANCE.remove();
-        });
+            try {
+                TestRunner testRunner = testContext.getTestRunner();
+                testRunner.stop(testContext);
+            } finally {
+                TestContextHolder.INSTANCE.unregister(testContext);
+                TestContextHolder.INSTANCE.remove();
+                MDC.remove(TEST_CLASS_KEY);
+                MDC.remove(TEST_METHOD_KEY);
+                LoggingUtil.INSTANCE.flush();
+            }
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        ExtensionContext.Namespace namespace = create(TestifyExtension.class);
+        ExtensionContext.Store store = context.getStore(namespace);
+        TestRunner testRunner = store.remove(TestRunner.class, TestRunner.class);
+        TestDescriptor testDescriptor = store.remove(TestDescriptor.class, TestDescriptor.class);
+
+        if (testRunner != null && testDescriptor != null) {
+            LoggingUtil.INSTANCE.debug("releasing shared artifacts of test class {}",
+                    testDescriptor.getTestClassName());
+
+            testRunner.release(testDescriptor);
+        }
+    }
+
+    boolean isParallel(ExtensionContext context) {
+        return context.getConfigurationParameter(PARALLEL_ENABLED_KEY)
+                .map(Boolean::valueOf)
+                .orElse(false);
     }
 
 }
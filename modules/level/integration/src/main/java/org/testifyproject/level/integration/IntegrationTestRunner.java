@@ -19,10 +19,14 @@ import static org.testifyproject.core.TestContextProperties.SERVICE_INSTANCE;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.testifyproject.ResourceController;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServiceInstance;
 import org.testifyproject.ServiceProvider;
 import org.testifyproject.SutDescriptor;
@@ -32,7 +36,11 @@ import org.testifyproject.TestDescriptor;
 import org.testifyproject.TestRunner;
 import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.annotation.Hint;
+import org.testifyproject.core.SharedArtifact;
+import org.testifyproject.core.SharedArtifactCache;
+import org.testifyproject.core.TestContextProperties;
 import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.core.util.VerifierUtil;
 import org.testifyproject.extension.CollaboratorReifier;
 import org.testifyproject.extension.FinalReifier;
 import org.testifyproject.extension.InitialReifier;
@@ -50,15 +58,24 @@ import org.testifyproject.extension.annotation.IntegrationCategory;
 @Discoverable
 public class IntegrationTestRunner implements TestRunner {
 
+    static final SharedArtifactCache<ServiceKey> SERVICE_CACHE = SharedArtifactCache.of();
+
     private final ServiceLocatorUtil serviceLocatorUtil;
+    private final SharedArtifactCache<ServiceKey> serviceCache;
     ResourceController resourceController;
 
     public IntegrationTestRunner() {
-        this(ServiceLocatorUtil.INSTANCE);
+        this(ServiceLocatorUtil.INSTANCE, SERVICE_CACHE);
     }
 
     IntegrationTestRunner(ServiceLocatorUtil serviceLocatorUtil) {
+        this(serviceLocatorUtil, SERVICE_CACHE);
+    }
+
+    IntegrationTestRunner(ServiceLocatorUtil serviceLocatorUtil,
+            SharedArtifactCache<ServiceKey> serviceCache) {
         this.serviceLocatorUtil = serviceLocatorUtil;
+        this.serviceCache = serviceCache;
     }
 
     @Override
@@ -68,29 +85,21 @@ public class IntegrationTestRunner implements TestRunner {
         Optional<SutDescriptor> foundSutDescriptor = testContext.getSutDescriptor();
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
         Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
+        Optional<Hint> foundHint = testDescriptor.getHint().filter(this::isShared);
 
-        resourceController = serviceLocatorUtil.getOne(ResourceController.class);
-        resourceController.start(testContext);
+        ServiceInstance serviceInstance;
 
-        serviceLocatorUtil.findAllWithFilter(CollaboratorReifier.class,
-                IntegrationCategory.class)
-                .forEach(p -> p.reify(testContext));
-
-        serviceLocatorUtil
-                .findAllWithFilter(PreVerifier.class, guidelines, IntegrationCategory.class)
-                .forEach(p -> p.verify(testContext));
-        testContext.verify();
+        if (foundHint.isPresent()) {
+            serviceInstance = attachService(testContext, testDescriptor, testConfigurer,
+                    foundHint.get());
+        } else {
+            resourceController = serviceLocatorUtil.getOne(ResourceController.class);
+            resourceController.start(testContext);
 
-        ServiceProvider serviceProvider = serviceLocatorUtil.getFromHintWithFilter(
-                testContext,
-                ServiceProvider.class,
-                Hint::serviceProvider
-        );
+            reifyCollaborators(testContext, guidelines);
 
-        Object serviceContext = serviceProvider.create(testContext);
-        testConfigurer.configure(testContext, serviceContext);
-        ServiceInstance serviceInstance = serviceProvider.configure(testContext, serviceContext);
-        testContext.addProperty(SERVICE_INSTANCE, serviceInstance);
+            serviceInstance = createService(testContext, testConfigurer);
+        }
 
         foundSutDescriptor.ifPresent(sutDescriptor -> {
             Set<Class<? extends Annotation>> nameQualifers =
@@ -116,9 +125,9 @@ public class IntegrationTestRunner implements TestRunner {
                 .findAllWithFilter(FinalReifier.class, IntegrationCategory.class)
                 .forEach(p -> p.reify(testContext));
 
-        serviceLocatorUtil
-                .findAllWithFilter(Verifier.class, guidelines, IntegrationCategory.class)
-                .forEach(p -> p.verify(testContext));
+        VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                .findAllWithFilter(Verifier.class, guidelines, IntegrationCategory.class),
+                Verifier::verify);
         testContext.verify();
     }
 
@@ -128,25 +137,153 @@ public class IntegrationTestRunner implements TestRunner {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
         Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
 
-        serviceLocatorUtil
-                .findAllWithFilter(PostVerifier.class, guidelines, IntegrationCategory.class)
-                .forEach(p -> p.verify(testContext));
-        testContext.verify();
+        Optional<SharedArtifact<ServiceKey>> foundSharedService =
+                testContext.findProperty(TestContextProperties.SHARED_SERVICE);
 
-        //invoke destroy method on fields annotated with Fixture
-        testDescriptor.getFieldDescriptors()
-                .forEach(p -> p.destroy(testInstance));
+        try {
+            serviceLocatorUtil
+                    .findAllWithFilter(PostVerifier.class, guidelines, IntegrationCategory.class)
+                    .forEach(p -> p.verify(testContext));
+            testContext.verify();
 
-        //invoke destroy method on sut field annotated with Fixture
-        testContext.getSutDescriptor()
-                .ifPresent(p -> p.destroy(testInstance));
+            //invoke destroy method on fields annotated with Fixture
+            testDescriptor.getFieldDescriptors()
+                    .forEach(p -> p.destroy(testInstance));
 
-        if (resourceController != null) {
-            resourceController.stop(testContext);
+            //invoke destroy method on sut field annotated with Fixture
+            testContext.getSutDescriptor()
+                    .ifPresent(p -> p.destroy(testInstance));
+        } finally {
+            //shared services are destroyed when they are released so we only hand them over
+            //to the next test run
+            if (foundSharedService.isPresent()) {
+                foundSharedService.get().release();
+            } else {
+                destroy(testContext, resourceController);
+            }
+        }
+    }
+
+    @Override
+    public void release(TestDescriptor testDescriptor) {
+        serviceCache.remove(testDescriptor.getTestClass())
+                .forEach(SharedArtifact::destroy);
+
+        serviceLocatorUtil.getOne(ResourceController.class).release(testDescriptor);
+    }
+
+    /**
+     * Destroy the service and stop the test resources created for the given test context.
+     *
+     * @param testContext the test context
+     * @param testResourceController the controller that started the test resources
+     */
+    void destroy(TestContext testContext, ResourceController testResourceController) {
+        if (testResourceController != null) {
+            testResourceController.stop(testContext);
         }
 
         testContext.<ServiceInstance>findProperty(SERVICE_INSTANCE)
                 .ifPresent(ServiceInstance::destroy);
     }
 
+    boolean isShared(Hint hint) {
+        ReuseScope reuse = hint.reuse();
+
+        return reuse == ReuseScope.CLASS || reuse == ReuseScope.JVM;
+    }
+
+    /**
+     * Attach the given test context to a shared service. If the service has not been created
+     * it will be created using the given test context, otherwise the properties of the shared
+     * service are added to the test context and the fake and virtual collaborators of the test
+     * run that created the service are reset and reused instead of reifying new collaborators.
+     *
+     * @param testContext the test context
+     * @param testDescriptor the test descriptor
+     * @param testConfigurer the test configurer
+     * @param hint the hint annotation
+     * @return the shared service instance
+     */
+    ServiceInstance attachService(TestContext testContext, TestDescriptor testDescriptor,
+            TestConfigurer testConfigurer, Hint hint) {
+        Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
+        ServiceKey key = ServiceKey.of(testDescriptor, hint);
+
+        SharedArtifact<ServiceKey> sharedService = serviceCache.computeIfAbsent(key,
+                p -> startService(p, testContext, testConfigurer, guidelines));
+
+        //the fake collaborators of a shared service can only be used by one test run at a
+        //time. the service is released when the test run is stopped
+        sharedService.acquire();
+        testContext.addProperty(TestContextProperties.SHARED_SERVICE, sharedService);
+
+        if (sharedService.getTestContext() != testContext) {
+            sharedService.getProperties().forEach(testContext::addProperty);
+            sharedService.reuseCollaborators(testContext);
+            verifyCollaborators(testContext, guidelines);
+        }
+
+        return (ServiceInstance) sharedService.getProperties().get(SERVICE_INSTANCE);
+    }
+
+    SharedArtifact<ServiceKey> startService(ServiceKey key, TestContext testContext,
+            TestConfigurer testConfigurer, Collection<Class<? extends Annotation>> guidelines) {
+        Set<String> existingKeys = new HashSet<>(testContext.getProperties().keySet());
+
+        ResourceController sharedResourceController =
+                serviceLocatorUtil.getOne(ResourceController.class);
+        sharedResourceController.start(testContext);
+
+        try {
+            reifyCollaborators(testContext, guidelines);
+            createService(testContext, testConfigurer);
+        } catch (RuntimeException e) {
+            sharedResourceController.stop(testContext);
+
+            throw e;
+        }
+
+        Map<String, Object> properties = new HashMap<>(testContext.getProperties());
+        properties.keySet().removeAll(existingKeys);
+        properties.remove(TestContextProperties.TEST_ERRORS);
+        properties.remove(TestContextProperties.TEST_WARNINGS);
+        properties.remove(TestContextProperties.RESOURCE_START_SCHEDULE);
+
+        return SharedArtifact.of(key, testContext, sharedResourceController, properties,
+                this::destroy);
+    }
+
+    void reifyCollaborators(TestContext testContext,
+            Collection<Class<? extends Annotation>> guidelines) {
+        serviceLocatorUtil.findAllWithFilter(CollaboratorReifier.class,
+                IntegrationCategory.class)
+                .forEach(p -> p.reify(testContext));
+
+        verifyCollaborators(testContext, guidelines);
+    }
+
+    void verifyCollaborators(TestContext testContext,
+            Collection<Class<? extends Annotation>> guidelines) {
+        VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                .findAllWithFilter(PreVerifier.class, guidelines, IntegrationCategory.class),
+                PreVerifier::verify);
+        testContext.verify();
+    }
+
+    ServiceInstance createService(TestContext testContext, TestConfigurer testConfigurer) {
+        ServiceProvider serviceProvider = serviceLocatorUtil.getFromHintWithFilter(
+                testContext,
+                ServiceProvider.class,
+                Hint::serviceProvider
+        );
+
+        Object serviceContext = serviceProvider.create(testContext);
+        testConfigurer.configure(testContext, serviceContext);
+        ServiceInstance serviceInstance = serviceProvider.configure(testContext, serviceContext);
+        testContext.addProperty(SERVICE_INSTANCE, serviceInstance);
+
+        return serviceInstance;
+    }
+
 }
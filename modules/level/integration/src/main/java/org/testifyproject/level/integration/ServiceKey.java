@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.level.integration;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.ReuseScope;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.annotation.Hint;
+import org.testifyproject.core.SharedArtifactKey;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A key used to identify a service shared by integration tests. Services are shared by tests
+ * that declare identical modules, scans, hints, resources and fake or virtual collaborator
+ * fields.
+ *
+ * @author saden
+ */
+@ToString
+@EqualsAndHashCode
+public class ServiceKey implements SharedArtifactKey {
+
+    private final ReuseScope scope;
+    private final Class<?> testClass;
+    private final Hint hint;
+    private final Collection<Object> configuration;
+    private final Collection<String> collaborators;
+
+    ServiceKey(ReuseScope scope, Class<?> testClass, Hint hint,
+            Collection<Object> configuration, Collection<String> collaborators) {
+        this.scope = scope;
+        this.testClass = testClass;
+        this.hint = hint;
+        this.configuration = configuration;
+        this.collaborators = collaborators;
+    }
+
+    /**
+     * Create a new service key instance for the service of the given test. Note that services
+     * created for tests that define configuration handlers or collaborator providers are only
+     * shared with tests of the same test class since these are test class methods.
+     *
+     * @param testDescriptor the test descriptor
+     * @param hint the hint annotation
+     * @return a new service key instance
+     */
+    public static ServiceKey of(TestDescriptor testDescriptor, Hint hint) {
+        ReuseScope scope = hint.reuse();
+        Class<?> testClass = null;
+
+        if (scope == ReuseScope.CLASS
+                || !testDescriptor.getConfigHandlers().isEmpty()
+                || !testDescriptor.getCollaboratorProviders().isEmpty()) {
+            testClass = testDescriptor.getTestClass();
+        }
+
+        Collection<Object> configuration = new ArrayList<>();
+        configuration.addAll(testDescriptor.getModules());
+        configuration.addAll(testDescriptor.getScans());
+        configuration.addAll(testDescriptor.getLocalResources());
+        configuration.addAll(testDescriptor.getVirtualResources());
+        configuration.addAll(testDescriptor.getRemoteResources());
+
+        //the service is wired with the fake and virtual collaborators of the test that
+        //created it so only tests that declare the same collaborators can share it
+        Collection<String> collaborators = testDescriptor.getFieldDescriptors().stream()
+                .filter(ServiceKey::isKeyed)
+                .map(p -> p.getGenericType().getTypeName() + " " + p.getName())
+                .collect(toCollection(TreeSet::new));
+
+        return new ServiceKey(scope, testClass, hint, configuration, collaborators);
+    }
+
+    /**
+     * The scope in which the service is reused.
+     *
+     * @return the service reuse scope
+     */
+    @Override
+    public ReuseScope getScope() {
+        return scope;
+    }
+
+    /**
+     * The test class the service is restricted to.
+     *
+     * @return the test class, null if the service is not restricted to a test class
+     */
+    @Override
+    public Class<?> getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * The hint annotation.
+     *
+     * @return the hint annotation
+     */
+    public Hint getHint() {
+        return hint;
+    }
+
+    /**
+     * Determine if the given field is one of the fake and virtual collaborators the service is
+     * keyed on.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return true if the field is a collaborator covered by the key, false otherwise
+     */
+    @Override
+    public boolean isCollaborator(FieldDescriptor fieldDescriptor) {
+        return isKeyed(fieldDescriptor);
+    }
+
+    static boolean isKeyed(FieldDescriptor fieldDescriptor) {
+        return fieldDescriptor.isMock();
+    }
+
+}
@@ -19,22 +19,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.testifyproject.core.TestContextProperties.SERVICE_INSTANCE;
+import static org.testifyproject.core.TestContextProperties.SHARED_SERVICE;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.testifyproject.FieldDescriptor;
 import org.testifyproject.ResourceController;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServiceInstance;
 import org.testifyproject.ServiceProvider;
 import org.testifyproject.SutDescriptor;
@@ -42,6 +49,9 @@ import org.testifyproject.TestConfigurer;
 import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.CollaboratorProvider;
+import org.testifyproject.annotation.Hint;
+import org.testifyproject.core.SharedArtifact;
+import org.testifyproject.core.SharedArtifactCache;
 import org.testifyproject.core.util.ServiceLocatorUtil;
 import org.testifyproject.extension.CollaboratorReifier;
 import org.testifyproject.extension.FinalReifier;
@@ -52,6 +62,7 @@ import org.testifyproject.extension.Verifier;
 import org.testifyproject.extension.annotation.IntegrationCategory;
 import org.testifyproject.extension.annotation.Strict;
 import org.testifyproject.guava.common.collect.ImmutableList;
+import org.testifyproject.guava.common.collect.ImmutableMap;
 import org.testifyproject.guava.common.collect.ImmutableSet;
 
 /**
@@ -62,12 +73,14 @@ public class IntegrationTestRunnerTest {
 
     IntegrationTestRunner sut;
     ServiceLocatorUtil serviceLocatorUtil;
+    SharedArtifactCache<ServiceKey> serviceCache;
 
     @Before
     public void init() {
         serviceLocatorUtil = mock(ServiceLocatorUtil.class);
+        serviceCache = mock(SharedArtifactCache.class);
 
-        sut = spy(new IntegrationTestRunner(serviceLocatorUtil));
+        sut = spy(new IntegrationTestRunner(serviceLocatorUtil, serviceCache));
     }
 
     @Test
@@ -250,4 +263,194 @@ public class IntegrationTestRunnerTest {
 
     }
 
+    @Test
+    public void givenTestDescriptorReleaseShouldReleaseResources() {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        ResourceController resourceController = mock(ResourceController.class);
+
+        given(serviceLocatorUtil.getOne(ResourceController.class))
+                .willReturn(resourceController);
+
+        sut.release(testDescriptor);
+
+        verify(resourceController).release(testDescriptor);
+    }
+
+    @Test
+    public void givenSharedHintStartShouldAttachService() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.empty();
+        Object testInstance = new Object();
+        Hint hint = mock(Hint.class);
+        Optional<Hint> foundHint = Optional.of(hint);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        ServiceInstance serviceInstance = mock(ServiceInstance.class);
+
+        given(testContext.getTestConfigurer()).willReturn(testConfigurer);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testDescriptor.getHint()).willReturn(foundHint);
+        given(hint.reuse()).willReturn(ReuseScope.CLASS);
+
+        willReturn(serviceInstance).given(sut)
+                .attachService(testContext, testDescriptor, testConfigurer, hint);
+
+        sut.start(testContext);
+
+        verify(sut).attachService(testContext, testDescriptor, testConfigurer, hint);
+        verify(sut, never()).createService(testContext, testConfigurer);
+        verify(serviceLocatorUtil, never()).getOne(ResourceController.class);
+    }
+
+    @Test
+    public void givenUnsharedHintStartShouldCreateService() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.empty();
+        Object testInstance = new Object();
+        Hint hint = mock(Hint.class);
+        Optional<Hint> foundHint = Optional.of(hint);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        ServiceInstance serviceInstance = mock(ServiceInstance.class);
+        ResourceController resourceController = mock(ResourceController.class);
+
+        given(testContext.getTestConfigurer()).willReturn(testConfigurer);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testDescriptor.getHint()).willReturn(foundHint);
+        given(hint.reuse()).willReturn(ReuseScope.NONE);
+        given(serviceLocatorUtil.getOne(ResourceController.class))
+                .willReturn(resourceController);
+
+        willDoNothing().given(sut).reifyCollaborators(testContext, guidelines);
+        willReturn(serviceInstance).given(sut).createService(testContext, testConfigurer);
+
+        sut.start(testContext);
+
+        verify(resourceController).start(testContext);
+        verify(sut).reifyCollaborators(testContext, guidelines);
+        verify(sut).createService(testContext, testConfigurer);
+        verify(sut, never()).attachService(testContext, testDescriptor, testConfigurer, hint);
+    }
+
+    @Test
+    public void givenUncachedServiceAttachServiceShouldStartService() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        Hint hint = mock(Hint.class);
+        ServiceInstance serviceInstance = mock(ServiceInstance.class);
+        ResourceController resourceController = mock(ResourceController.class);
+
+        given(hint.reuse()).willReturn(ReuseScope.JVM);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testContext.getProperties())
+                .willReturn(ImmutableMap.of())
+                .willReturn(ImmutableMap.of(SERVICE_INSTANCE, serviceInstance));
+        given(serviceLocatorUtil.getOne(ResourceController.class))
+                .willReturn(resourceController);
+        given(serviceCache.computeIfAbsent(any(), any())).willAnswer(invocation -> {
+            ServiceKey key = invocation.getArgument(0);
+            Function<ServiceKey, SharedArtifact<ServiceKey>> function =
+                    invocation.getArgument(1);
+
+            return function.apply(key);
+        });
+
+        willDoNothing().given(sut).reifyCollaborators(testContext, guidelines);
+        willReturn(serviceInstance).given(sut).createService(testContext, testConfigurer);
+
+        ServiceInstance result =
+                sut.attachService(testContext, testDescriptor, testConfigurer, hint);
+
+        assertThat(result).isSameAs(serviceInstance);
+        verify(resourceController).start(testContext);
+        verify(sut).reifyCollaborators(testContext, guidelines);
+        verify(sut).createService(testContext, testConfigurer);
+        verify(testContext).addProperty(eq(SHARED_SERVICE), any(SharedArtifact.class));
+    }
+
+    @Test
+    public void givenCachedServiceAttachServiceShouldReuseService() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        Hint hint = mock(Hint.class);
+        SharedArtifact<ServiceKey> sharedService = mock(SharedArtifact.class);
+        TestContext sharedTestContext = mock(TestContext.class);
+        ServiceInstance serviceInstance = mock(ServiceInstance.class);
+        Map<String, Object> properties = ImmutableMap.of(SERVICE_INSTANCE, serviceInstance);
+
+        given(hint.reuse()).willReturn(ReuseScope.JVM);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(serviceCache.computeIfAbsent(any(), any())).willReturn(sharedService);
+        given(sharedService.getTestContext()).willReturn(sharedTestContext);
+        given(sharedService.getProperties()).willReturn(properties);
+        willDoNothing().given(sut).verifyCollaborators(testContext, guidelines);
+
+        ServiceInstance result =
+                sut.attachService(testContext, testDescriptor, testConfigurer, hint);
+
+        assertThat(result).isSameAs(serviceInstance);
+        verify(serviceCache).computeIfAbsent(any(), any());
+        verify(sharedService).acquire();
+        verify(testContext).addProperty(SERVICE_INSTANCE, serviceInstance);
+        verify(sut, never()).reifyCollaborators(any(), any());
+        verify(sharedService).reuseCollaborators(testContext);
+        verify(sut).verifyCollaborators(testContext, guidelines);
+        verify(sut, never()).createService(testContext, testConfigurer);
+        verify(testContext).addProperty(SHARED_SERVICE, sharedService);
+    }
+
+    @Test
+    public void givenSharedServiceStopShouldNotDestroyService() {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Object testInstance = new Object();
+        Collection<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        SharedArtifact<ServiceKey> sharedService = mock(SharedArtifact.class);
+        Optional<SharedArtifact<ServiceKey>> foundSharedService = Optional.of(sharedService);
+
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testContext.getSutDescriptor()).willReturn(Optional.empty());
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testContext.<SharedArtifact<ServiceKey>>findProperty(SHARED_SERVICE))
+                .willReturn(foundSharedService);
+
+        sut.stop(testContext);
+
+        verify(sut, never()).destroy(any(), any());
+        verify(sharedService).release();
+        verify(sharedService, never()).destroy();
+    }
+
+    @Test
+    public void callToReleaseShouldDestroySharedServices() {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Class testClass = Object.class;
+        SharedArtifact<ServiceKey> sharedService = mock(SharedArtifact.class);
+        ResourceController resourceController = mock(ResourceController.class);
+
+        given(testDescriptor.getTestClass()).willReturn(testClass);
+        given(serviceCache.remove(testClass)).willReturn(ImmutableList.of(sharedService));
+        given(serviceLocatorUtil.getOne(ResourceController.class))
+                .willReturn(resourceController);
+
+        sut.release(testDescriptor);
+
+        verify(serviceCache).remove(testClass);
+        verify(sharedService).destroy();
+        verify(resourceController).release(testDescriptor);
+    }
+
 }
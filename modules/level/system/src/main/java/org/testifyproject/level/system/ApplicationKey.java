@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.level.system;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.ReuseScope;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.annotation.Application;
+import org.testifyproject.core.SharedArtifactKey;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A key used to identify an application shared by system tests. Applications are shared by
+ * tests that declare identical application, module, resource and configuration handler
+ * attributes as well as identical fake, virtual and real collaborator fields.
+ *
+ * @author saden
+ */
+@ToString
+@EqualsAndHashCode
+public class ApplicationKey implements SharedArtifactKey {
+
+    private final ReuseScope scope;
+    private final Class<?> testClass;
+    private final Application application;
+    private final Collection<Object> configuration;
+    private final Collection<String> collaborators;
+
+    ApplicationKey(ReuseScope scope, Class<?> testClass, Application application,
+            Collection<Object> configuration, Collection<String> collaborators) {
+        this.scope = scope;
+        this.testClass = testClass;
+        this.application = application;
+        this.configuration = configuration;
+        this.collaborators = collaborators;
+    }
+
+    /**
+     * Create a new application key instance for the given application declared on the given
+     * test. Note that applications declared by tests that define configuration handlers are
+     * only shared with tests of the same test class since configuration handlers are test
+     * class methods.
+     *
+     * @param testDescriptor the test descriptor
+     * @param application the application annotation
+     * @return a new application key instance
+     */
+    public static ApplicationKey of(TestDescriptor testDescriptor, Application application) {
+        ReuseScope scope = application.reuse();
+        Class<?> testClass = null;
+
+        if (scope == ReuseScope.CLASS || !testDescriptor.getConfigHandlers().isEmpty()) {
+            testClass = testDescriptor.getTestClass();
+        }
+
+        Collection<Object> configuration = new ArrayList<>();
+        configuration.addAll(testDescriptor.getModules());
+        configuration.addAll(testDescriptor.getLocalResources());
+        configuration.addAll(testDescriptor.getVirtualResources());
+        configuration.addAll(testDescriptor.getRemoteResources());
+
+        //the application is wired with the collaborators of the test that started it so only
+        //tests that declare the same collaborators can share it
+        Collection<String> collaborators = testDescriptor.getFieldDescriptors().stream()
+                .filter(ApplicationKey::isKeyed)
+                .map(p -> p.getGenericType().getTypeName() + " " + p.getName())
+                .collect(toCollection(TreeSet::new));
+
+        return new ApplicationKey(scope, testClass, application, configuration,
+                collaborators);
+    }
+
+    /**
+     * The scope in which the application is reused.
+     *
+     * @return the application reuse scope
+     */
+    @Override
+    public ReuseScope getScope() {
+        return scope;
+    }
+
+    /**
+     * The test class the application is restricted to.
+     *
+     * @return the test class, null if the application is not restricted to a test class
+     */
+    @Override
+    public Class<?> getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * The application annotation.
+     *
+     * @return the application annotation
+     */
+    public Application getApplication() {
+        return application;
+    }
+
+    /**
+     * Determine if the given field is one of the fake, virtual and real collaborators the
+     * application is keyed on.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return true if the field is a collaborator covered by the key, false otherwise
+     */
+    @Override
+    public boolean isCollaborator(FieldDescriptor fieldDescriptor) {
+        return isKeyed(fieldDescriptor);
+    }
+
+    static boolean isKeyed(FieldDescriptor fieldDescriptor) {
+        return fieldDescriptor.isMock() || fieldDescriptor.getReal().isPresent();
+    }
+
+}
@@ -20,12 +20,17 @@ import static org.testifyproject.core.TestContextProperties.SERVICE_INSTANCE;
 import java.lang.annotation.Annotation;
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.testifyproject.ClientInstance;
 import org.testifyproject.ClientProvider;
 import org.testifyproject.Instance;
 import org.testifyproject.ResourceController;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServerInstance;
 import org.testifyproject.ServerProvider;
 import org.testifyproject.ServiceInstance;
@@ -40,11 +45,14 @@ import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.annotation.Hint;
 import org.testifyproject.core.DefaultServerProvider;
 import org.testifyproject.core.DefaultServiceProvider;
+import org.testifyproject.core.SharedArtifact;
+import org.testifyproject.core.SharedArtifactCache;
 import org.testifyproject.core.TestContextProperties;
 import org.testifyproject.core.util.ExceptionUtil;
 import org.testifyproject.core.util.LoggingUtil;
 import org.testifyproject.core.util.ReflectionUtil;
 import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.core.util.VerifierUtil;
 import org.testifyproject.extension.CollaboratorReifier;
 import org.testifyproject.extension.FinalReifier;
 import org.testifyproject.extension.PostVerifier;
@@ -61,18 +69,28 @@ import org.testifyproject.extension.annotation.SystemCategory;
 @Discoverable
 public class SystemTestRunner implements TestRunner {
 
+    static final SharedArtifactCache<ApplicationKey> APPLICATION_CACHE =
+            SharedArtifactCache.of();
+
     ResourceController resourceController;
 
     private final ServiceLocatorUtil serviceLocatorUtil;
     private final ReflectionUtil reflectionUtil;
+    private final SharedArtifactCache<ApplicationKey> applicationCache;
 
     public SystemTestRunner() {
-        this(ServiceLocatorUtil.INSTANCE, ReflectionUtil.INSTANCE);
+        this(ServiceLocatorUtil.INSTANCE, ReflectionUtil.INSTANCE, APPLICATION_CACHE);
     }
 
     SystemTestRunner(ServiceLocatorUtil serviceLocatorUtil, ReflectionUtil reflectionUtil) {
+        this(serviceLocatorUtil, reflectionUtil, APPLICATION_CACHE);
+    }
+
+    SystemTestRunner(ServiceLocatorUtil serviceLocatorUtil, ReflectionUtil reflectionUtil,
+            SharedArtifactCache<ApplicationKey> applicationCache) {
         this.serviceLocatorUtil = serviceLocatorUtil;
         this.reflectionUtil = reflectionUtil;
+        this.applicationCache = applicationCache;
     }
 
     @Override
@@ -86,27 +104,23 @@ public class SystemTestRunner implements TestRunner {
 
         foundApplication.ifPresent(application -> {
             try {
-                //create and initalize mock fields. this is necessary so we can configure
-                //expected interaction prior to making a call to the application
-                //endpoints
-                serviceLocatorUtil.findAllWithFilter(
-                        CollaboratorReifier.class,
-                        SystemCategory.class).forEach(p -> p.reify(testContext));
-
-                serviceLocatorUtil
-                        .findAllWithFilter(PreVerifier.class, guidelines, SystemCategory.class)
-                        .forEach(p -> p.verify(testContext));
-
-                testContext.verify();
-
-                resourceController = serviceLocatorUtil.getOne(ResourceController.class);
-                resourceController.start(testContext);
-
-                ServerProvider serverProvider = createServerProvider(testContext, application);
-                ClientProvider clientProvider = createClientProvider(testContext, application);
-
-                createServer(testContext, testConfigurer, serverProvider, application);
-                createClient(testContext, testConfigurer, clientProvider, application);
+                if (isShared(application)) {
+                    attachApplication(testContext, testDescriptor, testConfigurer,
+                            application);
+                } else {
+                    reifyCollaborators(testContext, guidelines);
+
+                    resourceController = serviceLocatorUtil.getOne(ResourceController.class);
+                    resourceController.start(testContext);
+
+                    ServerProvider serverProvider =
+                            createServerProvider(testContext, application);
+                    ClientProvider clientProvider =
+                            createClientProvider(testContext, application);
+
+                    createServer(testContext, testConfigurer, serverProvider, application);
+                    createClient(testContext, testConfigurer, clientProvider, application);
+                }
             } catch (Exception ex) {
                 throw ExceptionUtil.INSTANCE.propagate(ex);
             }
@@ -123,9 +137,9 @@ public class SystemTestRunner implements TestRunner {
                     .findAllWithFilter(FinalReifier.class, SystemCategory.class)
                     .forEach(p -> p.reify(testContext));
 
-            serviceLocatorUtil
-                    .findAllWithFilter(Verifier.class, guidelines, SystemCategory.class)
-                    .forEach(p -> p.verify(testContext));
+            VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                    .findAllWithFilter(Verifier.class, guidelines, SystemCategory.class),
+                    Verifier::verify);
             testContext.verify();
         });
     }
@@ -137,20 +151,49 @@ public class SystemTestRunner implements TestRunner {
         Optional<SutDescriptor> sutDescriptor = testContext.getSutDescriptor();
         Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
 
-        serviceLocatorUtil.findAllWithFilter(
-                PostVerifier.class,
-                guidelines,
-                SystemCategory.class
-        ).forEach(p -> p.verify(testContext));
-        testContext.verify();
+        Optional<SharedArtifact<ApplicationKey>> foundSharedApplication =
+                testContext.findProperty(TestContextProperties.SHARED_APPLICATION);
+
+        try {
+            serviceLocatorUtil.findAllWithFilter(
+                    PostVerifier.class,
+                    guidelines,
+                    SystemCategory.class
+            ).forEach(p -> p.verify(testContext));
+            testContext.verify();
+
+            //invoke destroy method on fields annotated with Fixture
+            testDescriptor.getFieldDescriptors()
+                    .forEach(p -> p.destroy(testInstance));
+
+            //invoke destroy method on sut field annotated with Fixture
+            sutDescriptor.ifPresent(p -> p.destroy(testInstance));
+        } finally {
+            //shared applications are destroyed when they are released so we only hand them
+            //over to the next test run
+            if (foundSharedApplication.isPresent()) {
+                foundSharedApplication.get().release();
+            } else {
+                destroy(testContext, resourceController);
+            }
+        }
+    }
 
-        //invoke destroy method on fields annotated with Fixture
-        testDescriptor.getFieldDescriptors()
-                .forEach(p -> p.destroy(testInstance));
+    @Override
+    public void release(TestDescriptor testDescriptor) {
+        applicationCache.remove(testDescriptor.getTestClass())
+                .forEach(SharedArtifact::destroy);
 
-        //invoke destroy method on sut field annotated with Fixture
-        sutDescriptor.ifPresent(p -> p.destroy(testInstance));
+        serviceLocatorUtil.getOne(ResourceController.class).release(testDescriptor);
+    }
 
+    /**
+     * Destroy the client, server, and test resources created for the given test context.
+     *
+     * @param testContext the test context
+     * @param testResourceController the controller that started the test resources
+     */
+    void destroy(TestContext testContext, ResourceController testResourceController) {
         Optional<ClientInstance> foundClientInstance =
                 testContext.findProperty(TestContextProperties.CLIENT_INSTANCE);
         Optional<ClientProvider> foundClientProvider =
@@ -190,7 +233,100 @@ public class SystemTestRunner implements TestRunner {
             }
         }
 
-        resourceController.stop(testContext);
+        testResourceController.stop(testContext);
+    }
+
+    boolean isShared(Application application) {
+        ReuseScope reuse = application.reuse();
+
+        return reuse == ReuseScope.CLASS || reuse == ReuseScope.JVM;
+    }
+
+    /**
+     * Attach the given test context to a shared application. If the application has not been
+     * started it will be started using the given test context, otherwise the properties of the
+     * shared application are added to the test context and the fake, virtual and real
+     * collaborators of the test run that started the application are reused instead of
+     * reifying new collaborators.
+     *
+     * @param testContext the test context
+     * @param testDescriptor the test descriptor
+     * @param testConfigurer the test configurer
+     * @param application the application annotation
+     */
+    void attachApplication(TestContext testContext, TestDescriptor testDescriptor,
+            TestConfigurer testConfigurer, Application application) {
+        Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
+        ApplicationKey key = ApplicationKey.of(testDescriptor, application);
+
+        SharedArtifact<ApplicationKey> sharedApplication = applicationCache.computeIfAbsent(key,
+                p -> startApplication(p, testContext, testDescriptor, testConfigurer,
+                        application));
+
+        //the fake collaborators of a shared application can only be used by one test run at a
+        //time. the application is released when the test run is stopped
+        sharedApplication.acquire();
+        testContext.addProperty(TestContextProperties.SHARED_APPLICATION, sharedApplication);
+
+        if (sharedApplication.getTestContext() != testContext) {
+            sharedApplication.getProperties().forEach(testContext::addProperty);
+            sharedApplication.reuseCollaborators(testContext);
+            verifyCollaborators(testContext, guidelines);
+        }
+    }
+
+    SharedArtifact<ApplicationKey> startApplication(ApplicationKey key,
+            TestContext testContext, TestDescriptor testDescriptor,
+            TestConfigurer testConfigurer, Application application) {
+        reifyCollaborators(testContext, testDescriptor.getGuidelines());
+
+        Set<String> existingKeys = new HashSet<>(testContext.getProperties().keySet());
+
+        ResourceController sharedResourceController =
+                serviceLocatorUtil.getOne(ResourceController.class);
+        sharedResourceController.start(testContext);
+
+        try {
+            ServerProvider serverProvider = createServerProvider(testContext, application);
+            ClientProvider clientProvider = createClientProvider(testContext, application);
+
+            createServer(testContext, testConfigurer, serverProvider, application);
+            createClient(testContext, testConfigurer, clientProvider, application);
+        } catch (Exception e) {
+            sharedResourceController.stop(testContext);
+
+            throw ExceptionUtil.INSTANCE.propagate(e);
+        }
+
+        createService(testContext, testDescriptor, testConfigurer);
+
+        Map<String, Object> properties = new HashMap<>(testContext.getProperties());
+        properties.keySet().removeAll(existingKeys);
+        properties.remove(TestContextProperties.TEST_ERRORS);
+        properties.remove(TestContextProperties.TEST_WARNINGS);
+        properties.remove(TestContextProperties.RESOURCE_START_SCHEDULE);
+
+        return SharedArtifact.of(key, testContext, sharedResourceController, properties,
+                this::destroy);
+    }
+
+    void reifyCollaborators(TestContext testContext,
+            Collection<Class<? extends Annotation>> guidelines) {
+        //create and initalize mock fields. this is necessary so we can configure
+        //expected interaction prior to making a call to the application
+        //endpoints
+        serviceLocatorUtil.findAllWithFilter(CollaboratorReifier.class, SystemCategory.class)
+                .forEach(p -> p.reify(testContext));
+
+        verifyCollaborators(testContext, guidelines);
+    }
+
+    void verifyCollaborators(TestContext testContext,
+            Collection<Class<? extends Annotation>> guidelines) {
+        VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                .findAllWithFilter(PreVerifier.class, guidelines, SystemCategory.class),
+                PreVerifier::verify);
+        testContext.verify();
     }
 
     ServerProvider createServerProvider(TestContext testContext, Application application) {
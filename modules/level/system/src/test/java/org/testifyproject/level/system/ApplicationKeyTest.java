@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2017 Testify Project.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.testifyproject.level.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.testifyproject.FieldDescriptor;
+import org.testifyproject.ReuseScope;
+import org.testifyproject.TestDescriptor;
+import org.testifyproject.annotation.Application;
+import org.testifyproject.annotation.Module;
+import org.testifyproject.annotation.Real;
+import org.testifyproject.guava.common.collect.ImmutableList;
+
+/**
+ *
+ * @author saden
+ */
+public class ApplicationKeyTest {
+
+    Application application;
+
+    @Before
+    public void init() {
+        application = mock(Application.class);
+        given(application.reuse()).willReturn(ReuseScope.JVM);
+    }
+
+    @Test
+    public void givenIdenticalTestsOfShouldReturnEqualKeys() {
+        TestDescriptor testDescriptor = createTestDescriptor("greeting");
+        TestDescriptor otherTestDescriptor = createTestDescriptor("greeting");
+
+        ApplicationKey result = ApplicationKey.of(testDescriptor, application);
+
+        assertThat(result).isEqualTo(ApplicationKey.of(otherTestDescriptor, application));
+    }
+
+    @Test
+    public void givenTestsWithDifferentFakesOfShouldReturnDistinctKeys() {
+        TestDescriptor testDescriptor = createTestDescriptor("greeting");
+        TestDescriptor otherTestDescriptor = createTestDescriptor("farewell");
+
+        ApplicationKey result = ApplicationKey.of(testDescriptor, application);
+
+        assertThat(result).isNotEqualTo(ApplicationKey.of(otherTestDescriptor, application));
+    }
+
+    @Test
+    public void givenTestsWithDifferentModulesOfShouldReturnDistinctKeys() {
+        TestDescriptor testDescriptor = createTestDescriptor("greeting");
+        TestDescriptor otherTestDescriptor = createTestDescriptor("greeting");
+        Module module = mock(Module.class);
+
+        given(otherTestDescriptor.getModules()).willReturn(ImmutableList.of(module));
+
+        ApplicationKey result = ApplicationKey.of(testDescriptor, application);
+
+        assertThat(result).isNotEqualTo(ApplicationKey.of(otherTestDescriptor, application));
+    }
+
+    @Test
+    public void givenRealFieldIsCollaboratorShouldReturnTrue() {
+        TestDescriptor testDescriptor = createTestDescriptor("greeting");
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        Real real = mock(Real.class);
+
+        given(fieldDescriptor.isMock()).willReturn(false);
+        given(fieldDescriptor.getReal()).willReturn(Optional.of(real));
+
+        ApplicationKey key = ApplicationKey.of(testDescriptor, application);
+        boolean result = key.isCollaborator(fieldDescriptor);
+
+        assertThat(result).isTrue();
+    }
+
+    TestDescriptor createTestDescriptor(String fieldName) {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+
+        given(fieldDescriptor.getName()).willReturn(fieldName);
+        given(fieldDescriptor.getGenericType()).willReturn(String.class);
+        given(fieldDescriptor.isMock()).willReturn(true);
+        given(fieldDescriptor.getReal()).willReturn(Optional.empty());
+        given(testDescriptor.getFieldDescriptors()).willReturn(ImmutableList.of(fieldDescriptor));
+
+        return testDescriptor;
+    }
+
+}
@@ -22,6 +22,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +32,7 @@ import static org.testifyproject.core.TestContextProperties.CLIENT_PROVIDER;
 import static org.testifyproject.core.TestContextProperties.SERVER_INSTANCE;
 import static org.testifyproject.core.TestContextProperties.SERVER_PROVIDER;
 import static org.testifyproject.core.TestContextProperties.SERVICE_INSTANCE;
+import static org.testifyproject.core.TestContextProperties.SHARED_APPLICATION;
 
 import java.lang.annotation.Annotation;
 import java.net.URI;
@@ -46,6 +48,7 @@ import org.testifyproject.ClientProvider;
 import org.testifyproject.FieldDescriptor;
 import org.testifyproject.Instance;
 import org.testifyproject.ResourceController;
+import org.testifyproject.ReuseScope;
 import org.testifyproject.ServerInstance;
 import org.testifyproject.ServerProvider;
 import org.testifyproject.ServiceInstance;
@@ -56,6 +59,8 @@ import org.testifyproject.TestContext;
 import org.testifyproject.TestDescriptor;
 import org.testifyproject.annotation.Application;
 import org.testifyproject.core.DefaultServiceProvider;
+import org.testifyproject.core.SharedArtifact;
+import org.testifyproject.core.SharedArtifactCache;
 import org.testifyproject.core.TestContextProperties;
 import org.testifyproject.core.util.ReflectionUtil;
 import org.testifyproject.core.util.ServiceLocatorUtil;
@@ -82,13 +87,15 @@ public class SystemTestRunnerTest {
 
     ServiceLocatorUtil serviceLocatorUtil;
     ReflectionUtil reflectionUtil;
+    SharedArtifactCache<ApplicationKey> applicationCache;
 
     @Before
     public void init() {
         serviceLocatorUtil = mock(ServiceLocatorUtil.class);
         reflectionUtil = mock(ReflectionUtil.class);
+        applicationCache = mock(SharedArtifactCache.class);
 
-        sut = spy(new SystemTestRunner(serviceLocatorUtil, reflectionUtil));
+        sut = spy(new SystemTestRunner(serviceLocatorUtil, reflectionUtil, applicationCache));
         sut.resourceController = mock(ResourceController.class);
     }
 
@@ -505,4 +512,111 @@ public class SystemTestRunnerTest {
 
     }
 
+    @Test
+    public void givenSharedApplicationStartShouldAttachApplication() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Optional<SutDescriptor> foundSutDescriptor = Optional.empty();
+        Object testInstance = new Object();
+        Application application = mock(Application.class);
+        Optional<Application> foundApplication = Optional.of(application);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        ServiceInstance serviceInstance = mock(ServiceInstance.class);
+
+        given(testContext.getTestConfigurer()).willReturn(testConfigurer);
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getSutDescriptor()).willReturn(foundSutDescriptor);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testDescriptor.getApplication()).willReturn(foundApplication);
+        given(application.reuse()).willReturn(ReuseScope.CLASS);
+
+        willDoNothing().given(sut)
+                .attachApplication(testContext, testDescriptor, testConfigurer, application);
+        willReturn(serviceInstance).given(sut)
+                .createService(testContext, testDescriptor, testConfigurer);
+
+        sut.start(testContext);
+
+        verify(sut).attachApplication(testContext, testDescriptor, testConfigurer, application);
+        verify(sut).createService(testContext, testDescriptor, testConfigurer);
+        verify(serviceLocatorUtil, never()).getOne(ResourceController.class);
+    }
+
+    @Test
+    public void givenStartedSharedApplicationAttachApplicationShouldReuseApplication() {
+        TestContext testContext = mock(TestContext.class);
+        TestConfigurer testConfigurer = mock(TestConfigurer.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Application application = mock(Application.class);
+        SharedArtifact<ApplicationKey> sharedApplication = mock(SharedArtifact.class);
+        TestContext sharedTestContext = mock(TestContext.class);
+        ServerInstance serverInstance = mock(ServerInstance.class);
+        Map<String, Object> properties = ImmutableMap.of(SERVER_INSTANCE, serverInstance);
+        List<Class<? extends Annotation>> guidelines = ImmutableList.of();
+
+        given(application.reuse()).willReturn(ReuseScope.JVM);
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testDescriptor.getConfigHandlers()).willReturn(ImmutableList.of());
+        given(applicationCache.computeIfAbsent(any(), any())).willReturn(sharedApplication);
+        given(sharedApplication.getTestContext()).willReturn(sharedTestContext);
+        given(sharedApplication.getProperties()).willReturn(properties);
+        willDoNothing().given(sut).verifyCollaborators(testContext, guidelines);
+
+        sut.attachApplication(testContext, testDescriptor, testConfigurer, application);
+
+        verify(applicationCache).computeIfAbsent(any(), any());
+        verify(sharedApplication).acquire();
+        verify(testContext).addProperty(SERVER_INSTANCE, serverInstance);
+        verify(sut, never()).reifyCollaborators(any(), any());
+        verify(sharedApplication).reuseCollaborators(testContext);
+        verify(sut).verifyCollaborators(testContext, guidelines);
+        verify(testContext).addProperty(SHARED_APPLICATION, sharedApplication);
+    }
+
+    @Test
+    public void givenSharedApplicationStopShouldNotDestroyApplication() {
+        TestContext testContext = mock(TestContext.class);
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Object testInstance = new Object();
+        Collection<Class<? extends Annotation>> guidelines = ImmutableList.of();
+        SharedArtifact<ApplicationKey> sharedApplication = mock(SharedArtifact.class);
+        Optional<SharedArtifact<ApplicationKey>> foundSharedApplication =
+                Optional.of(sharedApplication);
+
+        given(testContext.getTestDescriptor()).willReturn(testDescriptor);
+        given(testContext.getTestInstance()).willReturn(testInstance);
+        given(testContext.getSutDescriptor()).willReturn(Optional.empty());
+        given(testDescriptor.getGuidelines()).willReturn(guidelines);
+        given(testContext.<SharedArtifact<ApplicationKey>>findProperty(SHARED_APPLICATION))
+                .willReturn(foundSharedApplication);
+
+        sut.stop(testContext);
+
+        verify(sut, never()).destroy(any(), any());
+        verify(sharedApplication).release();
+        verify(sharedApplication, never()).destroy();
+    }
+
+    @Test
+    public void callToReleaseShouldDestroySharedApplications() {
+        TestDescriptor testDescriptor = mock(TestDescriptor.class);
+        Class testClass = Object.class;
+        SharedArtifact<ApplicationKey> sharedApplication = mock(SharedArtifact.class);
+        ResourceController resourceController = mock(ResourceController.class);
+
+        given(testDescriptor.getTestClass()).willReturn(testClass);
+        given(applicationCache.remove(testClass))
+                .willReturn(ImmutableList.of(sharedApplication));
+        given(serviceLocatorUtil.getOne(ResourceController.class))
+                .willReturn(resourceController);
+
+        sut.release(testDescriptor);
+
+        verify(applicationCache).remove(testClass);
+        verify(sharedApplication).destroy();
+        verify(resourceController).release(testDescriptor);
+    }
+
 }
@@ -31,6 +31,7 @@ import org.testifyproject.annotation.Discoverable;
 import org.testifyproject.annotation.Hint;
 import org.testifyproject.core.DefaultServiceProvider;
 import org.testifyproject.core.util.ServiceLocatorUtil;
+import org.testifyproject.core.util.VerifierUtil;
 import org.testifyproject.extension.CollaboratorReifier;
 import org.testifyproject.extension.FinalReifier;
 import org.testifyproject.extension.InitialReifier;
@@ -67,9 +68,9 @@ public class UnitTestRunner implements TestRunner {
         TestDescriptor testDescriptor = testContext.getTestDescriptor();
         Collection<Class<? extends Annotation>> guidelines = testDescriptor.getGuidelines();
 
-        serviceLocatorUtil
-                .findAllWithFilter(PreVerifier.class, guidelines, UnitCategory.class)
-                .forEach(p -> p.verify(testContext));
+        VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                .findAllWithFilter(PreVerifier.class, guidelines, UnitCategory.class),
+                PreVerifier::verify);
         testContext.verify();
 
         resourceController = serviceLocatorUtil.getOne(ResourceController.class);
@@ -113,9 +114,9 @@ public class UnitTestRunner implements TestRunner {
         testContext.getSutDescriptor()
                 .ifPresent(p -> p.init(testInstance));
 
-        serviceLocatorUtil
-                .findAllWithFilter(Verifier.class, guidelines, UnitCategory.class)
-                .forEach(p -> p.verify(testContext));
+        VerifierUtil.INSTANCE.verify(testContext, serviceLocatorUtil
+                .findAllWithFilter(Verifier.class, guidelines, UnitCategory.class),
+                Verifier::verify);
         testContext.verify();
     }
 
@@ -18,6 +18,7 @@ package org.testifyproject.mock;
 import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.reset;
 import static org.easymock.EasyMock.verify;
 
 import java.lang.reflect.InvocationTargetException;
@@ -77,6 +78,11 @@ public class EasyMockMockProvider implements MockProvider {
         verify(collaborators);
     }
 
+    @Override
+    public void resetFake(Object... collaborators) {
+        reset(collaborators);
+    }
+
     @Override
     public <T> Boolean isMock(T instance) {
         return instance instanceof Factory;
@@ -18,6 +18,7 @@ package org.testifyproject.mock;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.withSettings;
 
@@ -55,6 +56,11 @@ public class MockitoMockProvider implements MockProvider {
         verifyNoMoreInteractions(collaborators);
     }
 
+    @Override
+    public void resetFake(Object... collaborators) {
+        reset(collaborators);
+    }
+
     @Override
     public <T> Boolean isMock(T instance) {
         return mockingDetails(instance).isMock();
@@ -16,6 +16,7 @@
 package org.testifyproject.mock;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.net.URI;
@@ -129,4 +130,21 @@ public class MockitoMockProviderTest {
         sut.verifyAllInteraction(collaborator);
     }
 
+    @Test(expected = NotAMockException.class)
+    public void givenNonMockObjectResetFakeShouldThrowException() {
+        Object collaborator = new Object();
+
+        sut.resetFake(collaborator);
+    }
+
+    @Test
+    public void givenStubbedMockResetFakeShouldDiscardStubbing() {
+        Mockable collaborator = mock(Mockable.class);
+        given(collaborator.getUpdated()).willReturn(true);
+
+        sut.resetFake(collaborator);
+
+        assertThat(collaborator.getUpdated()).isFalse();
+    }
+
 }